@@ -0,0 +1,178 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ * 
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU General Public License as published 
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+/*
+ * Micro-benchmark of the BestComposition objective: evaluations per second of the current
+ * implementation against the former one (raw samples, a fresh vector and a full sort at each call).
+ * Usage: objective_bench [number of samples] [solver type] [seconds per run]
+ */
+
+#include <iostream>
+#include <vector>
+#include <string>
+#include <chrono>
+#include <algorithm>
+#include <functional>
+
+#include "obj_rts.hpp"
+#include "phi_function.hpp"
+#include "randutils.hpp"
+
+using namespace std;
+using namespace ghost;
+
+static const vector<double> coefficients{ 1.   , 0.374, 1.564,
+                                          2.675, 1.   , 0.472,
+                                          0.639, 2.119, 1. };
+
+static double regulation( const double x )
+{
+	return x >= 0 ? x : -(x*x)-1;
+}
+
+// BestComposition::required_cost before samples were weighted and buffers preallocated.
+static double former_rdu( const int* assignment, const vector<vector<int>>& samples, const std::function<double(double)>& phi )
+{
+	vector<double> sols;
+
+	int N = (int)samples.size();
+
+	for( int i = 0 ; i < N ; ++i )
+	{
+		double tmp = regulation( std::min( 1.0, coefficients[0] * assignment[0] + coefficients[1] * assignment[1] + coefficients[2] * assignment[2] - samples[i][0] ) )
+			+ regulation( std::min( 1.0, coefficients[3] * assignment[3] + coefficients[4] * assignment[4] + coefficients[5] * assignment[5] - samples[i][1] ) )
+			+ regulation( std::min( 1.0, coefficients[6] * assignment[6] + coefficients[7] * assignment[7] + coefficients[8] * assignment[8] - samples[i][2] ) );
+
+		sols.push_back(tmp);
+	}
+
+	std::sort( sols.begin(), sols.end() );
+
+	double RDU = sols[0];
+
+	for( int i = 1 ; i < sols.size() ; ++i )
+		RDU += ( sols[i] - sols[i-1] ) * phi( static_cast<double>( N - i ) / N );
+
+	return RDU;
+}
+
+// Run evaluate over all assignments until the time is up, and return the number of evaluations per second.
+template<typename Evaluation>
+static double evaluations_per_second( const vector<vector<int>>& assignments, double seconds, double& checksum, Evaluation evaluate )
+{
+	auto start = chrono::steady_clock::now();
+	long evaluations = 0;
+	chrono::duration<double> elapsed( 0 );
+	checksum = 0.;
+
+	while( elapsed.count() < seconds )
+	{
+		for( const auto& assignment : assignments )
+			checksum += evaluate( assignment.data() );
+		evaluations += assignments.size();
+		elapsed = chrono::steady_clock::now() - start;
+	}
+
+	return evaluations / elapsed.count();
+}
+
+int main( int argc, char *argv[] )
+{
+	int nb_samples = argc > 1 ? std::stoi( argv[1] ) : 50;
+	int solver_type = argc > 2 ? std::stoi( argv[2] ) : 0;
+	double seconds = argc > 3 ? std::stod( argv[3] ) : 1.0;
+
+	std::function<double(double)> phi;
+	if( solver_type == 2 )
+		phi = pessimistic();
+	else if( solver_type == 1 )
+		phi = optimistic();
+	else
+		phi = identity();
+
+	randutils::mt19937_rng rng;
+
+	// Enemy armies drawn like in production.cpp: 10 resources spent on units costing 2 or 3,
+	// mostly lights, so many samples are the same composition.
+	vector<int> costs{ 3, 2, 2 };
+	auto distribution = { 15.0, 70.0, 15.0 };
+	vector< vector<int> > samples;
+	for( int counter = 0 ; counter < nb_samples ; ++counter )
+	{
+		vector<int> sample{ 0, 3, 0 };
+		int resources = 10;
+		while( resources >= 2 )
+		{
+			int unit = rng.variate< int, std::discrete_distribution >( distribution );
+			if( resources >= costs[ unit ] )
+			{
+				++sample[ unit ];
+				resources -= costs[ unit ];
+			}
+		}
+		samples.push_back( sample );
+	}
+
+	// Unique compositions and their weights, like Builder does.
+	vector< vector<int> > sorted_samples( samples );
+	std::sort( sorted_samples.begin(), sorted_samples.end() );
+	vector<int> flat_samples;
+	vector<int> weights;
+	for( int i = 0 ; i < (int)sorted_samples.size() ; )
+	{
+		int j = i + 1;
+		while( j < (int)sorted_samples.size() && sorted_samples[j] == sorted_samples[i] )
+			++j;
+		flat_samples.insert( flat_samples.end(), sorted_samples[i].begin(), sorted_samples[i].end() );
+		weights.push_back( j - i );
+		i = j;
+	}
+
+	vector<Variable> variables;
+	for( int i = 0 ; i < 12 ; ++i )
+		variables.emplace_back( 0, 20, "v" + std::to_string( i ) );
+	BestComposition objective( variables, coefficients, flat_samples, weights, phi );
+
+	vector< vector<int> > assignments( 1024, vector<int>( 9 ) );
+	for( auto& assignment : assignments )
+		for( auto& value : assignment )
+			value = rng.uniform( 0, 5 );
+
+	double former_checksum;
+	double checksum;
+	double former = evaluations_per_second( assignments, seconds, former_checksum, [&]( const int* assignment ){ return former_rdu( assignment, samples, phi ); } );
+	double current = evaluations_per_second( assignments, seconds, checksum, [&]( const int* assignment ){ return objective.rdu( assignment ); } );
+
+	// Both implementations must agree on each assignment.
+	double max_difference = 0.;
+	for( const auto& assignment : assignments )
+		max_difference = std::max( max_difference, std::abs( former_rdu( assignment.data(), samples, phi ) - objective.rdu( assignment.data() ) ) );
+
+	cout << nb_samples << " samples, " << weights.size() << " distinct compositions, phi " << solver_type << "\n"
+	     << "Former objective:  " << static_cast<long>( former ) << " evaluations/s\n"
+	     << "Current objective: " << static_cast<long>( current ) << " evaluations/s\n"
+	     << "Speedup: " << current / former << "\n"
+	     << "Max difference: " << max_difference << "\n";
+
+	return max_difference < 1e-9 ? 0 : 1;
+}
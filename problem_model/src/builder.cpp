@@ -20,6 +20,8 @@
  * along with microPhantom. If not, see http://www.gnu.org/licenses/.
  */
 
+#include <algorithm>
+
 #include "builder.hpp"
 #include "constraints_rts.hpp"
 #include "obj_rts.hpp"
@@ -34,49 +36,97 @@ Builder::Builder( int solver_type,
                   int nb_barracks,
                   int heavy_cost,
                   int light_cost,
-                  int ranged_cost )
+                  int ranged_cost,
+                  const vector<int>& starting_point )
 	: _solver_type(solver_type),
 	  _my_heavy_units(my_heavy_units),
 	  _my_light_units(my_light_units),
 	  _my_ranged_units(my_ranged_units),
-	  _samples(samples),
 	  _resources(resources),
 	  _nb_barracks(nb_barracks),
-	  _heavy_cost(_heavy_cost),
+	  _heavy_cost(heavy_cost),
 	  _light_cost(light_cost),
-	  _ranged_cost(ranged_cost)
-{ }
+	  _ranged_cost(ranged_cost),
+	  _starting_point(starting_point),
+	  _search_iterations( make_shared<std::atomic<int>>( 0 ) )
+{
+	// Many samples are the same composition: keep each one once, weighted by its number of occurrences.
+	vector<vector<int>> sorted_samples( samples );
+	std::sort( sorted_samples.begin(), sorted_samples.end() );
+	for( int i = 0 ; i < (int)sorted_samples.size() ; )
+	{
+		int j = i + 1;
+		while( j < (int)sorted_samples.size() && sorted_samples[j] == sorted_samples[i] )
+			++j;
+		_samples.insert( _samples.end(), sorted_samples[i].begin(), sorted_samples[i].begin() + 3 );
+		_weights.push_back( j - i );
+		i = j;
+	}
+}
 
+// Domains of variables are [0, domain_size[, so the index of a value is the value itself.
+// The previous assignment can fall outside the current domains (we may have lost units since), hence the clamp.
+int Builder::starting_index( int variable, int domain_size ) const
+{
+	if( !has_starting_point() )
+		return 0;
+
+	return std::max( 0, std::min( _starting_point[ variable ], domain_size - 1 ) );
+}
+
+
+// Most units of a type we can produce: Stock bounds them by our resources,
+// and ProductionCapacity bounds the units of all types by the number of idle barracks.
+// The bound is at least 1 though: GHOST cannot handle a domain with a single value, since a variable
+// picked to change would then have no other value to take, so every domain keeps two values or more.
+int Builder::production_bound( int cost ) const
+{
+	int bound = std::min( 19, _nb_barracks );
+	if( cost > 0 )
+		bound = std::min( bound, _resources / cost );
+
+	return std::max( 1, bound );
+}
 
+// Domains are tightened before search by the bounds of production_bound, then by the Assignment
+// constraints: the units of a type we assign cannot outnumber the ones we have plus the ones we can produce.
 void Builder::declare_variables()
 {
+	int heavy_to_produce = production_bound( _heavy_cost );
+	int light_to_produce = production_bound( _light_cost );
+	int ranged_to_produce = production_bound( _ranged_cost );
+
+	int heavy_size = _my_heavy_units + heavy_to_produce + 1;
+	int light_size = _my_light_units + light_to_produce + 1;
+	int ranged_size = _my_ranged_units + ranged_to_produce + 1;
+
 	//Heavy assigned to heavy
-	variables.emplace_back( 0, 20 + _my_heavy_units, "assign_Hh" ); //0
+	variables.emplace_back( 0, heavy_size, starting_index( 0, heavy_size ), "assign_Hh" ); //0
 	//Light assigned to heavy
-	variables.emplace_back( 0, 20 + _my_light_units, "assign_Lh" );
+	variables.emplace_back( 0, light_size, starting_index( 1, light_size ), "assign_Lh" );
 	//Ranged assigned to heavy
-	variables.emplace_back( 0, 20 + _my_ranged_units, "assign_Rh" );
+	variables.emplace_back( 0, ranged_size, starting_index( 2, ranged_size ), "assign_Rh" );
 
 	//Heavy assigned to light
-	variables.emplace_back( 0, 20 + _my_heavy_units, "assign_Hl" ); //3
+	variables.emplace_back( 0, heavy_size, starting_index( 3, heavy_size ), "assign_Hl" ); //3
 	//Light assigned to light
-	variables.emplace_back( 0, 20 + _my_light_units, "assign_Ll" );
+	variables.emplace_back( 0, light_size, starting_index( 4, light_size ), "assign_Ll" );
 	//Ranged assigned to light
-	variables.emplace_back( 0, 20 + _my_ranged_units, "assign_Rl" );
+	variables.emplace_back( 0, ranged_size, starting_index( 5, ranged_size ), "assign_Rl" );
 
 	//Heavy assigned to ranged
-	variables.emplace_back( 0, 20 + _my_heavy_units, "assign_Hr" ); //6
+	variables.emplace_back( 0, heavy_size, starting_index( 6, heavy_size ), "assign_Hr" ); //6
 	//Light assigned to ranged
-	variables.emplace_back( 0, 20 + _my_light_units, "assign_Lr" );
+	variables.emplace_back( 0, light_size, starting_index( 7, light_size ), "assign_Lr" );
 	//Ranged assigned to ranged
-	variables.emplace_back( 0, 20 + _my_ranged_units, "assign_Rr" );
+	variables.emplace_back( 0, ranged_size, starting_index( 8, ranged_size ), "assign_Rr" );
 
 	//Heavy to produce
-	variables.emplace_back( 0, 20, "to_prod_H" ); //9
+	variables.emplace_back( 0, heavy_to_produce + 1, starting_index( 9, heavy_to_produce + 1 ), "to_prod_H" ); //9
   //Light to produce	
-	variables.emplace_back( 0, 20, "to_prod_L" );
+	variables.emplace_back( 0, light_to_produce + 1, starting_index( 10, light_to_produce + 1 ), "to_prod_L" );
 	//Ranged to produce
-	variables.emplace_back( 0, 20, "to_prod_R" );
+	variables.emplace_back( 0, ranged_to_produce + 1, starting_index( 11, ranged_to_produce + 1 ), "to_prod_R" );
 }
 
 void Builder::declare_constraints()
@@ -88,7 +138,8 @@ void Builder::declare_constraints()
 	constraints.push_back( make_shared<ProductionCapacity>( std::vector<int>{9, 10, 11}, _nb_barracks ) );
 }
 
-void Builder::declare_objective()
+shared_ptr<BestComposition> Builder::make_objective( const vector<Variable>& variables,
+                                                     shared_ptr<std::atomic<int>> search_iterations ) const
 {
 	std::function<double(double)> phi_callback;
 	if( _solver_type == 2)
@@ -102,10 +153,23 @@ void Builder::declare_objective()
 	// H vs H, L vs H, R vs H
 	// H vs L, L vs L, R vs L
 	// H vs R, L vs R, R vs R
-	objective = make_shared<BestComposition>( variables,
-		                                        vector<double>{ 1.   , 0.374, 1.564,
-	                                                          2.675, 1.   , 0.472,
-	                                                          0.639, 2.119, 1. },
-	                                          _samples,
-	                                          phi_callback );
+	return make_shared<BestComposition>( variables,
+	                                     vector<double>{ 1.   , 0.374, 1.564,
+	                                                     2.675, 1.   , 0.472,
+	                                                     0.639, 2.119, 1. },
+	                                     _samples,
+	                                     _weights,
+	                                     phi_callback,
+	                                     search_iterations );
+}
+
+void Builder::declare_objective()
+{
+	objective = make_objective( variables, _search_iterations );
+}
+
+double Builder::objective_value( const vector<int>& solution ) const
+{
+	// 'to produce' variables don't matter here
+	return make_objective( vector<Variable>(), nullptr )->rdu( solution.data() );
 }
@@ -23,6 +23,7 @@
 
 #pragma once
 
+#include <atomic>
 #include <vector>
 #include <memory>
 
@@ -31,18 +32,32 @@
 using namespace std;
 using namespace ghost;
 
+class BestComposition;
+
 class Builder : public ModelBuilder
 {
 	int _solver_type;
 	int _my_heavy_units;
 	int _my_light_units;
 	int _my_ranged_units;
-	vector<vector<int>> _samples;
+	vector<int> _samples; // flat array of unique compositions
+	vector<int> _weights; // number of samples of each composition
 	int _resources;
 	int _nb_barracks;
 	int _heavy_cost;
 	int _light_cost;
 	int _ranged_cost;
+	vector<int> _starting_point;
+	// GHOST copies the builder: copies share the counter of their objectives.
+	shared_ptr<std::atomic<int>> _search_iterations;
+
+	// Index in the domain of the starting value of a variable.
+	int starting_index( int variable, int domain_size ) const;
+	// Upper bound of the number of units of the given cost we can produce.
+	int production_bound( int cost ) const;
+
+	shared_ptr<BestComposition> make_objective( const vector<Variable>& variables,
+	                                            shared_ptr<std::atomic<int>> search_iterations ) const;
 
 public:
 	Builder( int solver_type,
@@ -54,7 +69,19 @@ public:
 	         int nb_barracks,
 	         int heavy_cost,
 	         int light_cost,
-	         int ranged_cost );
+	         int ranged_cost,
+	         const vector<int>& starting_point = vector<int>() );
+
+	// True if the variables start from the given starting point, to be used with options.custom_starting_point.
+	inline bool has_starting_point() const { return _starting_point.size() == 12; }
+
+	// Value of the objective function for the given assignment of the 12 variables.
+	// GHOST only reports the absolute value of the objective we maximize.
+	double objective_value( const vector<int>& solution ) const;
+
+	// Search iterations of all search threads so far, counted by the objective as the values it chose,
+	// so iterations resetting the search are left out. Counted here: GHOST's solver does not report them.
+	inline int search_iterations() const { return _search_iterations->load(); }
 	
 	void declare_variables() override;
 	void declare_constraints() override;
@@ -52,6 +52,25 @@ double Assignment::required_error( const vector<Variable*>& variables ) const
 	return std::abs( assigned - own );
 }
 
+// Constraints are linear: the candidate error only needs the change of the left-hand side,
+// without copying variables like GHOST does by default.
+double Assignment::expert_delta_error( const vector<Variable*>& variables, const vector<int>& variable_indexes, const vector<int>& candidate_values ) const
+{
+	double difference = variables[0]->get_value()
+		+ variables[1]->get_value()
+		+ variables[2]->get_value()
+		- variables[3]->get_value()
+		- _possessed_units;
+
+	for( int i = 0 ; i < (int)variable_indexes.size() ; ++i )
+	{
+		int change = candidate_values[i] - variables[ variable_indexes[i] ]->get_value();
+		difference += variable_indexes[i] == 3 ? -change : change;
+	}
+
+	return std::abs( difference ) - get_current_error();
+}
+
 
 /*******************
  ** Stock
@@ -79,6 +98,20 @@ double Stock::required_error( const vector<Variable*>& variables ) const
 	return std::max( 0., sum - _stock );
 }
 
+double Stock::expert_delta_error( const vector<Variable*>& variables, const vector<int>& variable_indexes, const vector<int>& candidate_values ) const
+{
+	const int costs[3] = { _heavy_error, _light_error, _ranged_error };
+
+	double sum = _heavy_error * variables[0]->get_value()
+	           + _light_error * variables[1]->get_value()
+	           + _ranged_error * variables[2]->get_value();
+
+	for( int i = 0 ; i < (int)variable_indexes.size() ; ++i )
+		sum += costs[ variable_indexes[i] ] * ( candidate_values[i] - variables[ variable_indexes[i] ]->get_value() );
+
+	return std::max( 0., sum - _stock ) - get_current_error();
+}
+
 
 /**********************
  ** ProductionCapacity
@@ -97,3 +130,13 @@ double ProductionCapacity::required_error( const vector<Variable*>& variables )
 
 	return std::max( 0., sum - _nb_barracks );
 }
+
+double ProductionCapacity::expert_delta_error( const vector<Variable*>& variables, const vector<int>& variable_indexes, const vector<int>& candidate_values ) const
+{
+	double sum = variables[0]->get_value() + variables[1]->get_value() + variables[2]->get_value();
+
+	for( int i = 0 ; i < (int)variable_indexes.size() ; ++i )
+		sum += candidate_values[i] - variables[ variable_indexes[i] ]->get_value();
+
+	return std::max( 0., sum - _nb_barracks ) - get_current_error();
+}
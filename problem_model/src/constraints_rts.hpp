@@ -36,6 +36,7 @@ class Assignment : public Constraint
 	double _possessed_units;
 
 	double required_error( const vector<Variable*>& variables ) const override;
+	double expert_delta_error( const vector<Variable*>& variables, const vector<int>& variable_indexes, const vector<int>& candidate_values ) const override;
 
 public:
 	Assignment( const vector<int> variables_index,
@@ -48,6 +49,7 @@ class Stock : public Constraint
 	double _stock;
 
 	double required_error( const vector<Variable*>& variables ) const override;
+	double expert_delta_error( const vector<Variable*>& variables, const vector<int>& variable_indexes, const vector<int>& candidate_values ) const override;
 
 public:
 	Stock( const vector<int> variables_index,
@@ -62,6 +64,7 @@ class ProductionCapacity : public Constraint
 	int _nb_barracks;
 
 	double required_error( const vector<Variable*>& variables ) const override;
+	double expert_delta_error( const vector<Variable*>& variables, const vector<int>& variable_indexes, const vector<int>& candidate_values ) const override;
 
 public:
 	ProductionCapacity( const vector<int> variables_index,
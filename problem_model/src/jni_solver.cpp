@@ -0,0 +1,123 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ * 
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU General Public License as published 
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+#include <cstring>
+#include <exception>
+#include <string>
+
+#include <jni.h>
+
+#include "production.hpp"
+#include "microphantom.pb.h"
+
+// Serialized solution which did not fit in the reply buffer of the calling thread, until it is fetched.
+static thread_local std::string pending_reply;
+
+// Entry point of NativeProductionSolver: the solver runs in the JVM, on the calling thread.
+// request holds the serialized GameStateBuffer in its request_size first bytes. The serialized
+// SolutionBuffer is written at the beginning of reply, and its size is returned. If reply is too
+// small, the solution is kept and minus its size is returned: fetchReplyNative gives it without solving again.
+// Both buffers must be direct buffers: no copy is made between Java and C++.
+// A C++ exception must never cross the JNI boundary, it would abort the JVM: the solver failures
+// are thrown to Java as IOException, like the other failures of the native solver.
+extern "C" JNIEXPORT jint JNICALL Java_ai_microPhantom_NativeProductionSolver_solveNative( JNIEnv* env,
+                                                                                           jclass,
+                                                                                           jobject request,
+                                                                                           jint request_size,
+                                                                                           jobject reply )
+{
+	void* request_address = env->GetDirectBufferAddress( request );
+	void* reply_address = env->GetDirectBufferAddress( reply );
+	jlong reply_capacity = env->GetDirectBufferCapacity( reply );
+	jclass io_exception = env->FindClass( "java/io/IOException" );
+
+	if( request_address == nullptr || reply_address == nullptr )
+	{
+		env->ThrowNew( io_exception, "The native solver needs direct buffers" );
+		return -1;
+	}
+
+	GameStateBuffer game_state;
+	if( !game_state.ParseFromArray( request_address, request_size ) )
+	{
+		env->ThrowNew( io_exception, "The native solver received a malformed game state" );
+		return -1;
+	}
+
+	SolutionBuffer solution;
+	try
+	{
+		solve_production( game_state, solution );
+	}
+	catch( const std::exception& e )
+	{
+		env->ThrowNew( io_exception, ( std::string( "The native solver failed: " ) + e.what() ).c_str() );
+		return -1;
+	}
+	catch( ... )
+	{
+		env->ThrowNew( io_exception, "The native solver failed" );
+		return -1;
+	}
+
+	size_t size = solution.ByteSizeLong();
+	if( static_cast<jlong>( size ) > reply_capacity )
+	{
+		if( !solution.SerializeToString( &pending_reply ) )
+		{
+			env->ThrowNew( io_exception, "The native solver could not serialize its solution" );
+			return -1;
+		}
+		return -static_cast<jint>( size );
+	}
+
+	if( !solution.SerializeToArray( reply_address, static_cast<int>( size ) ) )
+	{
+		env->ThrowNew( io_exception, "The native solver could not serialize its solution" );
+		return -1;
+	}
+
+	return static_cast<jint>( size );
+}
+
+// Write at the beginning of reply the solution solveNative kept for lack of room, and return its size.
+extern "C" JNIEXPORT jint JNICALL Java_ai_microPhantom_NativeProductionSolver_fetchReplyNative( JNIEnv* env,
+                                                                                                jclass,
+                                                                                                jobject reply )
+{
+	void* reply_address = env->GetDirectBufferAddress( reply );
+	jlong reply_capacity = env->GetDirectBufferCapacity( reply );
+	jclass io_exception = env->FindClass( "java/io/IOException" );
+
+	if( reply_address == nullptr || static_cast<jlong>( pending_reply.size() ) > reply_capacity )
+	{
+		env->ThrowNew( io_exception, "The native solver reply buffer is too small" );
+		return -1;
+	}
+
+	jint size = static_cast<jint>( pending_reply.size() );
+	std::memcpy( reply_address, pending_reply.data(), pending_reply.size() );
+	pending_reply.clear();
+	pending_reply.shrink_to_fit();
+	return size;
+}
@@ -27,38 +27,60 @@
 #include <fstream>
 #include <string>
 #include <memory>
-#include <random>
-#include <algorithm>
+#include <cstring>
 #include <arpa/inet.h>
 #include <sys/socket.h>
+#include <sys/un.h>
 
-#include <vector>
-#include <numeric>
-
-#include "ghost/solver.hpp"
-#include "builder.hpp"
-#include "randutils.hpp"
+#include "production.hpp"
 #include "microphantom.pb.h"
+#include "google/protobuf/io/zero_copy_stream_impl.h"
+#include "google/protobuf/util/delimited_message_util.h"
 
 using namespace std;
-using namespace ghost;
-using namespace std::literals::chrono_literals;
 
-int main( int argc, char *argv[] )
+// Connect to microPhantom through a Unix domain socket. Return the socket, or -1 on failure.
+int connect_unix( const char* path )
 {
-	//cout << "Lancement du programme\n";
+	int sock;
+	struct sockaddr_un serv_addr;
 
-	GOOGLE_PROTOBUF_VERIFY_VERSION;
-	//cout << "Pas d'erreur de version protobuf\n";
+	if( ( sock = socket( AF_UNIX, SOCK_STREAM, 0 ) ) < 0 )
+	{
+		//cout << "\n Socket creation error \n";
+		return -1;
+	}
+
+	std::memset( &serv_addr, 0, sizeof( serv_addr ) );
+	serv_addr.sun_family = AF_UNIX;
+	if( std::strlen( path ) >= sizeof( serv_addr.sun_path ) )
+	{
+		//cout << "\nSocket path too long \n";
+		close( sock );
+		return -1;
+	}
+	std::strcpy( serv_addr.sun_path, path );
+
+	if( connect( sock, (struct sockaddr *)&serv_addr, sizeof( serv_addr ) ) < 0 )
+	{
+		//cout << "\nConnection Failed \n";
+		close( sock );
+		return -1;
+	}
+
+	return sock;
+}
 
-	int sock = 0;
+// Connect to microPhantom through TCP on localhost. Return the socket, or -1 on failure.
+int connect_tcp( int port )
+{
+	int sock;
 	struct sockaddr_in serv_addr;
-	int port = 1085;
 	
 	if( ( sock = socket( AF_INET, SOCK_STREAM, 0 ) ) < 0 )
 	{
 		//cout << "\n Socket creation error \n";
-		exit( EXIT_FAILURE );
+		return -1;
 	}
 
 	//cout << "C++ Socket créé\n";
@@ -70,7 +92,8 @@ int main( int argc, char *argv[] )
 	if( inet_pton( AF_INET, "127.0.0.1", &serv_addr.sin_addr ) <= 0 ) 
 	{
 		//cout << "\nInvalid address/ Address not supported \n";
-		exit( EXIT_FAILURE );
+		close( sock );
+		return -1;
 	}
 
 	//cout << "C++ adresse affectée au client \n";
@@ -78,186 +101,58 @@ int main( int argc, char *argv[] )
 	if( connect( sock, (struct sockaddr *)&serv_addr, sizeof( serv_addr ) ) < 0 )
 	{
 		//cout << "\nConnection Failed \n";
-		exit( EXIT_FAILURE );
+		close( sock );
+		return -1;
 	}
 
-	//cout << "C++ client connecté \n";
-	GameStateBuffer game_state;
-	
-	char* buffer = new char[1024];
-	recv( sock, buffer, 1024, 0 );
-	game_state.ParseFromString( buffer );
-
-	//cout << "C++ réception des données du serveur\n";
+	return sock;
+}
 
-	// outfile << "######################\n" << "Time: " << time << "\n";
-	// outfile << observed_enemy_heavy << "/" << observed_enemy_heavy_in_total << ", "
-	//         << observed_enemy_light << "/" << observed_enemy_light_in_total << ", "
-	//         << observed_enemy_ranged << "/" << observed_enemy_ranged_in_total << "\n";
+int main( int argc, char *argv[] )
+{
+	//cout << "Lancement du programme\n";
 
-	int observed_enemy_worker = std::max( game_state.initial_enemy_worker(), game_state.observed_enemy_worker() );
+	GOOGLE_PROTOBUF_VERIFY_VERSION;
+	//cout << "Pas d'erreur de version protobuf\n";
 
-	// Estimate how much resources the opponent has.
-	double mean_distance;
-	if( game_state.min_distance_resource_base() != -1 )
-		mean_distance = static_cast<double>( game_state.min_distance_resource_base() + game_state.max_distance_resource_base() ) / 2;
+	// Usage: solver_cpp unix <socket path> | tcp <port>
+	// Each microPhantom instance gives its own endpoint to its solver.
+	int sock = -1;
+	if( argc > 2 && string( argv[1] ) == "unix" )
+		sock = connect_unix( argv[2] );
+	else if( argc > 2 && string( argv[1] ) == "tcp" )
+		sock = connect_tcp( atoi( argv[2] ) );
 	else
-		mean_distance = 20.0; // let's consider resources are far away
-
-	// outfile << "distances (min, mean, max): (" << min_distance_resource_base << ", " << mean_distance << ", " << max_distance_resource_base << "), move time: " << worker_move_time << ", harvest time: " << worker_harvest_time << ", return time: " << worker_return_time << "\n";
-	
-	// 20 * ( initial_enemy_worker - 1 ) is to express a penalty when there are more than one worker: they tend to hinder each other.
-	int gathered_resources = game_state.harvest_amount() * game_state.initial_enemy_worker() * ( game_state.time() / ( mean_distance * game_state.worker_move_time() * 2 + game_state.worker_harvest_time() + game_state.worker_return_time() + ( 20 * ( game_state.initial_enemy_worker() - 1 ) ) ) );
-	int estimated_cumulated_resources = game_state.initial_resources() + gathered_resources;
-	int value_enemy_army = game_state.observed_enemy_heavy() * game_state.heavy_cost() + game_state.observed_enemy_light() * game_state.light_cost() + game_state.observed_enemy_ranged() * game_state.ranged_cost();
-	int estimated_remaining_resources = std::max( 0, estimated_cumulated_resources - ( game_state.no_initial_base() * game_state.base_cost() + game_state.no_initial_barracks() * game_state.barracks_cost() + game_state.enemy_resources_loss() + value_enemy_army ) );
-
-	// if( no_initial_base )
-	// 	outfile << "No initial base (" << base_cost << "), ";
-	// else
-	// 	outfile << "Has base (" << base_cost << "), ";
+		cerr << "Usage: " << argv[0] << " unix <socket path> | tcp <port>\n";
 
-	// if( no_initial_barracks )
-	// 	outfile << "no initial barracks (" << barracks_cost << ").\n";
-	// else
-	// 	outfile << "has barracks (" << barracks_cost << ").\n";
+	if( sock < 0 )
+		exit( EXIT_FAILURE );
 
-	// outfile << "Enemy loss: " << enemy_resources_loss << "\n";
-	// outfile << "Resources estimations: gathered=" << gathered_resources << ", initial=" << initial_resources << ", value army=" << value_enemy_army << ", remaining=" << estimated_remaining_resources << "\n";
-	
-	// after estimating how much resources we haven't seen used from the opponent, we need to estimate how the opponent spent it!
-	int min_cost = game_state.heavy_cost();
-	if( game_state.light_cost() < min_cost )
-	{
-		if( game_state.ranged_cost() < game_state.light_cost() )
-			min_cost = game_state.ranged_cost();
-		else
-			min_cost = game_state.light_cost();
-	}
-	else
-		if( game_state.ranged_cost() < min_cost )
-			min_cost = game_state.ranged_cost();
+	//cout << "C++ client connecté \n";
 
-	// Enemy units currently seen count double. Enemy units unseen but we saw before (so dead or returned under the fog) count simple.
-	int observed_enemy_heavy_in_total = game_state.observed_enemy_heavy_in_total() - game_state.observed_enemy_heavy();
-	int observed_enemy_light_in_total = game_state.observed_enemy_light_in_total() - game_state.observed_enemy_light();
-	int observed_enemy_ranged_in_total = game_state.observed_enemy_ranged_in_total() - game_state.observed_enemy_ranged();
-	
-	// +1 to each unit type to never have a probability = 0 of producing any type of unit.
-	int total = 3 + 2 * ( game_state.observed_enemy_heavy() + game_state.observed_enemy_light() + game_state.observed_enemy_ranged() ) + ( observed_enemy_heavy_in_total + observed_enemy_light_in_total + observed_enemy_ranged_in_total );
-	auto distribution = { ( 1 + 2 * game_state.observed_enemy_heavy() + observed_enemy_heavy_in_total ) * 100.0 / total,
-	                      ( 1 + 2 * game_state.observed_enemy_light() + observed_enemy_light_in_total ) * 100.0 / total,
-	                      ( 1 + 2 * game_state.observed_enemy_ranged() + observed_enemy_ranged_in_total ) * 100.0 / total };
-	// outfile << "Distribution: "
-	//         << ( 1 + 2 * observed_enemy_heavy + observed_enemy_heavy_in_total ) * 100.0 / total << ", "
-	//         << ( 1 + 2 * observed_enemy_light + observed_enemy_light_in_total ) * 100.0 / total << ", "
-	//         << ( 1 + 2 * observed_enemy_ranged + observed_enemy_ranged_in_total ) * 100.0 / total  << "\nSamples:\n";
+	// Serve production requests until microPhantom closes the connection.
+	// Messages are framed by their size, encoded as a varint (see writeFrame in GhostProductionSolver.java).
+	google::protobuf::io::FileInputStream input( sock );
+	google::protobuf::io::FileOutputStream output( sock );
+	GameStateBuffer game_state;
+	SolutionBuffer solution;
+	bool clean_eof;
 
-	randutils::mt19937_rng rng;
-	vector< vector<int> > samples;
-	
-	for( int counter = 0; counter < game_state.nb_samples(); ++counter )
+	while( google::protobuf::util::ParseDelimitedFromZeroCopyStream( &game_state, &input, &clean_eof ) )
 	{
-		int estimated_resources = estimated_remaining_resources;
-		int unit_produced = -1;
-		int number_estimated_heavy = 0;
-		int number_estimated_light = 0;
-		int number_estimated_ranged = 0;
-		
-		// while the opponent can produce something, we consider he or she will
-		while( estimated_resources >= min_cost )
-		{
-			unit_produced	= rng.variate< int, std::discrete_distribution >( distribution );
-			switch( unit_produced )
-			{
-			case 0: // heavy
-				if( estimated_resources >= game_state.heavy_cost() )
-				{
-					++number_estimated_heavy;
-					estimated_resources -= game_state.heavy_cost();
-				}
-				break;
-			case 1: // light
-				if( estimated_resources >= game_state.light_cost() )
-				{
-					++number_estimated_light;
-					estimated_resources -= game_state.light_cost();
-				}
-				break;
-			case 2: // ranged
-				if( estimated_resources >= game_state.ranged_cost() )
-				{
-					++number_estimated_ranged;
-					estimated_resources -= game_state.ranged_cost();
-				}
-				break;
-			default:
-				break;
-			}
-		}
-		// outfile << number_estimated_heavy + observed_enemy_heavy << ", " << number_estimated_light + observed_enemy_light << ", " << number_estimated_ranged + observed_enemy_ranged << "\n";
-		samples.push_back( { number_estimated_heavy + game_state.observed_enemy_heavy(), number_estimated_light + game_state.observed_enemy_light(), number_estimated_ranged + game_state.observed_enemy_ranged() } );
-	}
-			
-	Builder builder( game_state.solver_type(),
-	                 game_state.my_heavy_units(),
-	                 game_state.my_light_units(),
-	                 game_state.my_ranged_units(),
-	                 samples,
-	                 game_state.resources(),
-	                 game_state.nb_barracks(),
-	                 game_state.heavy_cost(),
-	                 game_state.light_cost(),
-	                 game_state.ranged_cost() );
-	Options options;
-	options.parallel_runs = true;
-	options.number_threads = std::max( 2, options.number_threads / 2 );
-	
-	Solver solver_p( builder );
-
-	vector<int> vec_solution;
-	double cost_p;
+		//cout << "C++ réception des données du serveur\n";
 
-	/*
-	 * POAdaptive is waiting for 6 lines
-	 * The 3 first lines are dummy lines, just for debug
-	 * The 3 last lines contain necessary information: number of heavy/ranged/light units to produce
-	 */
-	// cout << "Solve ..." << "\n";
-	// cout << solver_p.solve( cost_p, solution, 10000, 100000 ) << " : " << cost_p << " / " << obj->cost( variables ) << "\n";
-	solver_p.solve( cost_p, vec_solution, 90ms, options );
+		solution.Clear();
+		solve_production( game_state, solution );
 
-	//cout << "C++ solution trouvée\n";
+		if( !google::protobuf::util::SerializeDelimitedToZeroCopyStream( solution, &output ) || !output.Flush() )
+			break;
 
-	SolutionBuffer solution;
-
-	solution.set_number_heavy( vec_solution[9] );
-	solution.set_number_light( vec_solution[10] );
-	solution.set_number_ranged( vec_solution[11] );
-
-	auto size = solution.ByteSizeLong();
-	char* array = new char[size];
-	solution.SerializeToArray( array, size );
-	
-	send( sock, (const char*)array, size, 0 );
-
-	//cout << "C++ envoie de la solution au serveur\n";
+		//cout << "C++ envoie de la solution au serveur\n";
+	}
 
+	close( sock );
 	google::protobuf::ShutdownProtobufLibrary();
 
-	// outfile << "Solution: "
-	//         << solution[0] << ", "
-	//         << solution[1] << ", "
-	//         << solution[2] << ", "
-	//         << solution[3] << ", "
-	//         << solution[4] << ", "
-	//         << solution[5] << ", "
-	//         << solution[6] << ", "
-	//         << solution[7] << ", "
-	//         << solution[8] << ", "
-	//         << solution[9] << ", "
-	//         << solution[10] << ", "
-	//         << solution[11] << "\n\n";
-	
 	return 0;
 }
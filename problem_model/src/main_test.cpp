@@ -34,7 +34,7 @@
 
 #include "ghost/solver.hpp"
 #include "builder.hpp"
-#include "randutils.hpp"
+#include "sampler.hpp"
 #include "print_test.hpp"
 
 using namespace std;
@@ -105,19 +105,6 @@ int main( int argc, char *argv[] )
 	// cout << "Enemy loss: " << enemy_resources_loss << "\n";
 	// cout << "Resources estimations: gathered=" << gathered_resources << ", initial=" << initial_resources << ", value army=" << value_enemy_army << ", remaining=" << estimated_remaining_resources << "\n";
 	
-	// after estimating how much resources we haven't seen used from the opponent, we need to estimate how the opponent spent it!
-	int min_cost = heavy_cost;
-	if( light_cost < min_cost )
-	{
-		if( ranged_cost < light_cost )
-			min_cost = ranged_cost;
-		else
-			min_cost = light_cost;
-	}
-	else
-		if( ranged_cost < min_cost )
-			min_cost = ranged_cost;
-
 	// Enemy units currently seen count double. Enemy units unseen but we saw before (so dead or returned under the fog) count simple.
 	observed_enemy_heavy_in_total -= observed_enemy_heavy;
 	observed_enemy_light_in_total -= observed_enemy_light;
@@ -125,63 +112,26 @@ int main( int argc, char *argv[] )
 	
 	// +1 to each unit type to never have a probability = 0 of producing any type of unit.
 	int total = 3 + 2 * ( observed_enemy_heavy + observed_enemy_light + observed_enemy_ranged ) + ( observed_enemy_heavy_in_total + observed_enemy_light_in_total + observed_enemy_ranged_in_total );
-	auto distribution = { ( 1 + 2 * observed_enemy_heavy + observed_enemy_heavy_in_total ) * 100.0 / total,
-	                      ( 1 + 2 * observed_enemy_light + observed_enemy_light_in_total ) * 100.0 / total,
-	                      ( 1 + 2 * observed_enemy_ranged + observed_enemy_ranged_in_total ) * 100.0 / total };
+	vector<double> distribution = { ( 1 + 2 * observed_enemy_heavy + observed_enemy_heavy_in_total ) * 100.0 / total,
+	                                ( 1 + 2 * observed_enemy_light + observed_enemy_light_in_total ) * 100.0 / total,
+	                                ( 1 + 2 * observed_enemy_ranged + observed_enemy_ranged_in_total ) * 100.0 / total };
 	
 	cout << "Distribution: "
 	     << ( 1 + 2 * observed_enemy_heavy + observed_enemy_heavy_in_total ) * 100.0 / total << ", "
 	     << ( 1 + 2 * observed_enemy_light + observed_enemy_light_in_total ) * 100.0 / total << ", "
 	     << ( 1 + 2 * observed_enemy_ranged + observed_enemy_ranged_in_total ) * 100.0 / total  << "\n";
 
-	randutils::mt19937_rng rng;
+	// after estimating how much resources we haven't seen used from the opponent, we need to estimate how the opponent spent it!
+	Sampler sampler( distribution,
+	                 { heavy_cost, light_cost, ranged_cost },
+	                 { observed_enemy_heavy, observed_enemy_light, observed_enemy_ranged },
+	                 estimated_remaining_resources );
 	vector< vector<int> > samples;
-	
-	for( int counter = 0; counter < nb_samples; ++counter )
-	{
-		int estimated_resources = estimated_remaining_resources;
-		int unit_produced = -1;
-		int number_estimated_heavy = 0;
-		int number_estimated_light = 0;
-		int number_estimated_ranged = 0;
-		
-		// while the opponent can produce something, we consider he or she will
-		while( estimated_resources >= min_cost )
-		{
-			unit_produced	= rng.variate< int, std::discrete_distribution >( distribution );
-			switch( unit_produced )
-			{
-			case 0: // heavy
-				if( estimated_resources >= heavy_cost )
-				{
-					++number_estimated_heavy;
-					estimated_resources -= heavy_cost;
-				}
-				break;
-			case 1: // light
-				if( estimated_resources >= light_cost )
-				{
-					++number_estimated_light;
-					estimated_resources -= light_cost;
-				}
-				break;
-			case 2: // ranged
-				if( estimated_resources >= ranged_cost )
-				{
-					++number_estimated_ranged;
-					estimated_resources -= ranged_cost;
-				}
-				break;
-			default:
-				break;
-			}
-		}
-		// cout << "Guessed total enemy heavy: " << number_estimated_heavy + observed_enemy_heavy
-		//      << ", Guessed total enemy light: " << number_estimated_light + observed_enemy_light
-		//      << ", Guessed total enemy ranged: " << number_estimated_ranged + observed_enemy_ranged << "\n"
-			;
-		samples.push_back( { number_estimated_heavy + observed_enemy_heavy, number_estimated_light + observed_enemy_light, number_estimated_ranged + observed_enemy_ranged } );
-	}
+	sampler.draw( nb_samples, samples );
+	// for( auto& sample : samples )
+	// 	cout << "Guessed total enemy heavy: " << sample[0]
+	// 	     << ", Guessed total enemy light: " << sample[1]
+	// 	     << ", Guessed total enemy ranged: " << sample[2] << "\n";
 			
 	Builder builder( solver_type,
 	                 my_heavy_units,
@@ -22,6 +22,7 @@
 
 
 #include <numeric>
+#include <limits>
 #include <iostream>
 #include <algorithm>
 
@@ -29,54 +30,154 @@
 
 using namespace std;
 
-double regulation( const double x )
+static inline double regulation( const double x )
 {
 	return x >= 0 ? x : -(x*x)-1;
 }
 
 BestComposition::BestComposition( const vector<Variable>& variables,
                                   const vector< double >& coeff,
-                                  const vector<vector<int>>& samples,
-                                  std::function<double(double)> phi )
+                                  const vector<int>& samples,
+                                  const vector<int>& weights,
+                                  std::function<double(double)> phi,
+                                  shared_ptr<std::atomic<int>> search_iterations )
 	: Objective( variables, true, "Best composition" ),
 	  _coeff(coeff),
 	  _samples(samples),
-	  phi(phi)
+	  _weights(weights),
+	  _number_samples( static_cast<int>( weights.size() ) ),
+	  _total_weight( std::accumulate( weights.begin(), weights.end(), 0 ) ),
+	  phi(phi),
+	  _search_iterations(search_iterations),
+	  _sorted_values( weights.size() ),
+	  _sorted_weights( weights.size() ),
+	  _partial_values( weights.size() )
 { }
 
-double BestComposition::required_cost( const vector<Variable*>& variables ) const
+double BestComposition::weighted_rdu() const
 {
-	vector<double> sols;
+	double* values = _sorted_values.data();
+	int* weights = _sorted_weights.data();
+
+	// There are only a few distinct compositions: an insertion sort beats std::sort here.
+	weights[0] = _weights[0];
+	for( int i = 1 ; i < _number_samples ; ++i )
+	{
+		double value = values[i];
+		int j = i;
+		for( ; j > 0 && values[ j - 1 ] > value ; --j )
+		{
+			values[j] = values[ j - 1 ];
+			weights[j] = weights[ j - 1 ];
+		}
+		values[j] = value;
+		weights[j] = _weights[i];
+	}
 
-	int N = (int)_samples.size();
+	// Same as the RDU over all raw samples: sorted values only change between two compositions,
+	// where the rank jumps by the weight of the previous composition.
+	double RDU = values[0];
+	int rank = weights[0];
+
+	for( int i = 1 ; i < _number_samples ; ++i )
+	{
+		RDU += ( values[i] - values[i-1] ) * phi( static_cast<double>( _total_weight - rank ) / _total_weight );
+		rank += weights[i];
+	}
 
-	// vecVariables:
+	return RDU;
+}
+
+double BestComposition::rdu( const int* assignment ) const
+{
+	if( _number_samples == 0 )
+		return 0.;
+
+	// assignment:
 	// H vs H, L vs H, R vs H
 	// H vs L, L vs L, R vs L
 	// H vs R, L vs R, R vs R	
-	// + 'to produce' variables, but we don't care here
 	
 	// Coefficients:
 	// H vs H, L vs H, R vs H
 	// H vs L, L vs L, R vs L
 	// H vs R, L vs R, R vs R	
+	double vs_heavy = _coeff[0] * assignment[0] + _coeff[1] * assignment[1] + _coeff[2] * assignment[2];
+	double vs_light = _coeff[3] * assignment[3] + _coeff[4] * assignment[4] + _coeff[5] * assignment[5];
+	double vs_ranged = _coeff[6] * assignment[6] + _coeff[7] * assignment[7] + _coeff[8] * assignment[8];
 
-	for( int i = 0 ; i < N ; ++i )
-	{
+	const int* sample = _samples.data();
+	for( int i = 0 ; i < _number_samples ; ++i, sample += 3 )
 		// min( 1, number ) to forbid overkill, ie, thinking for instance we can defeat 10 lights when the opponent can just have 3 of them (while having other kinds of unit)
-		double tmp = regulation( std::min( 1.0, _coeff[0] * variables[0]->get_value() + _coeff[1] * variables[1]->get_value() + _coeff[2] * variables[2]->get_value() - _samples[i][0] ) ) //vs heavy
-			+ regulation( std::min( 1.0, _coeff[3] * variables[3]->get_value() + _coeff[4] * variables[4]->get_value() + _coeff[5] * variables[5]->get_value() - _samples[i][1] ) ) //vs light
-			+ regulation( std::min( 1.0, _coeff[6] * variables[6]->get_value() + _coeff[7] * variables[7]->get_value() + _coeff[8] * variables[8]->get_value() - _samples[i][2] ) ); //vs ranged
+		_sorted_values[i] = regulation( std::min( 1.0, vs_heavy - sample[0] ) )
+			+ regulation( std::min( 1.0, vs_light - sample[1] ) )
+			+ regulation( std::min( 1.0, vs_ranged - sample[2] ) );
 
-		sols.push_back(tmp);
-	}
+	return weighted_rdu();
+}
 
-	std::sort( sols.begin(), sols.end() );
+double BestComposition::required_cost( const vector<Variable*>& variables ) const
+{
+	// 'to produce' variables don't matter here
+	int assignment[9];
+	for( int i = 0 ; i < 9 ; ++i )
+		assignment[i] = variables[i]->get_value();
 
-	double RDU = sols[0];
+	return rdu( assignment );
+}
 
-	for( int i = 1 ; i < sols.size() ; ++i )
-		RDU += ( sols[i] - sols[i-1] ) * phi( static_cast<double>( N - i ) / N );
+// Changing one assignment variable only changes our army against one unit type: the terms of
+// the two other types are computed once per sample, then each candidate value only updates one term.
+int BestComposition::expert_heuristic_value( const vector<Variable*>& variables,
+                                             int variable_index,
+                                             const vector<int>& possible_values ) const
+{
+	if( _search_iterations )
+		_search_iterations->fetch_add( 1, std::memory_order_relaxed );
+
+	// 'to produce' variables don't change the objective
+	if( variable_index >= 9 || _number_samples == 0 )
+		return rng.pick( possible_values );
+
+	double vs[3];
+	for( int type = 0 ; type < 3 ; ++type )
+		vs[ type ] = _coeff[ 3 * type ] * variables[ 3 * type ]->get_value()
+			+ _coeff[ 3 * type + 1 ] * variables[ 3 * type + 1 ]->get_value()
+			+ _coeff[ 3 * type + 2 ] * variables[ 3 * type + 2 ]->get_value();
+
+	int changed_type = variable_index / 3;
+	const int* sample = _samples.data();
+	for( int i = 0 ; i < _number_samples ; ++i, sample += 3 )
+	{
+		_partial_values[i] = 0.;
+		for( int type = 0 ; type < 3 ; ++type )
+			if( type != changed_type )
+				_partial_values[i] += regulation( std::min( 1.0, vs[ type ] - sample[ type ] ) );
+	}
 
-	return RDU;
+	double best_cost = -std::numeric_limits<double>::max();
+	int best_value = possible_values[0];
+	int ties = 0;
+
+	for( int value : possible_values )
+	{
+		double vs_changed = vs[ changed_type ] + _coeff[ variable_index ] * ( value - variables[ variable_index ]->get_value() );
+
+		sample = _samples.data();
+		for( int i = 0 ; i < _number_samples ; ++i, sample += 3 )
+			_sorted_values[i] = _partial_values[i] + regulation( std::min( 1.0, vs_changed - sample[ changed_type ] ) );
+
+		// we maximize the RDU, breaking ties randomly
+		double cost = weighted_rdu();
+		if( cost > best_cost )
+		{
+			best_cost = cost;
+			best_value = value;
+			ties = 1;
+		}
+		else if( cost == best_cost && rng.uniform( 0, ties++ ) == 0 )
+			best_value = value;
+	}
+
+	return best_value;
 }
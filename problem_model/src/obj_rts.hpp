@@ -23,6 +23,8 @@
 
 #pragma once
 
+#include <atomic>
+#include <memory>
 #include <string>
 #include <vector>
 #include <functional>
@@ -33,18 +35,48 @@
 using namespace std;
 using namespace ghost;
 
+// Rank-dependent utility of our army against enemy army samples.
+// Samples are given as unique { heavy, light, ranged } compositions, each weighted by
+// the number of times it was drawn: the cost only depends on the number of distinct compositions.
+//
+// GHOST calls the objective thousands of times per solve, so nothing is allocated there:
+// each search thread has its own model, thus its own objective and its own scratch buffers.
 class BestComposition : public Objective
 {
 	vector<double> _coeff;
-	vector<vector<int>> _samples;
+	vector<int> _samples; // flat array of { heavy, light, ranged } compositions
+	vector<int> _weights;
+	int _number_samples;
+	int _total_weight;
 
 	std::function<double(double)> phi;
 
+	// Shared by the objectives of all search threads: GHOST calls expert_heuristic_value once per
+	// search iteration to choose the new value of a variable, except in iterations resetting the search.
+	shared_ptr<std::atomic<int>> _search_iterations;
+
+	// Scratch buffers: values of our army against each composition and their weights, sorted together.
+	mutable vector<double> _sorted_values;
+	mutable vector<int> _sorted_weights;
+	// Scratch buffer: value of our army against each composition, without the term of one unit type.
+	mutable vector<double> _partial_values;
+
+	// Sort _sorted_values, filled in composition order, together with their weights and return their RDU.
+	double weighted_rdu() const;
+
 	double required_cost( const vector<Variable*>& variables ) const override;
+	int expert_heuristic_value( const vector<Variable*>& variables,
+	                            int variable_index,
+	                            const vector<int>& possible_values ) const override;
 
 public:
 	BestComposition( const vector<Variable>& variables,
 	                 const vector<double>& coeff,
-	                 const vector<vector<int>>& samples,
-	                 std::function<double(double)> phi );
+	                 const vector<int>& samples,
+	                 const vector<int>& weights,
+	                 std::function<double(double)> phi,
+	                 shared_ptr<std::atomic<int>> search_iterations = nullptr );
+
+	// RDU of the given values of the 9 assignment variables.
+	double rdu( const int* assignment ) const;
 };
@@ -0,0 +1,243 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ * 
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU General Public License as published 
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+#include <algorithm>
+#include <vector>
+#include <map>
+#include <chrono>
+
+#ifdef __linux__
+#include <sched.h>
+#endif
+#include <random>
+
+#include "ghost/solver.hpp"
+#include "builder.hpp"
+#include "sampler.hpp"
+#include "production.hpp"
+
+using namespace std;
+using namespace ghost;
+
+// Sampling stops once a batch moves the frequencies of sampled compositions by less than this total variation distance.
+constexpr double SAMPLES_CONVERGENCE = 0.05;
+
+// Restrict the calling thread, and the threads it spawns meanwhile, to the given CPUs until destroyed.
+// The calling thread gets its former affinity back then: with the JNI library, it is a thread of the JVM.
+// Only supported on Linux: elsewhere, threads keep on running wherever the system puts them.
+class ThreadPinning
+{
+#ifdef __linux__
+	cpu_set_t _former_cpu_set;
+	bool _pinned;
+#endif
+
+public:
+	ThreadPinning( const google::protobuf::RepeatedField<google::protobuf::int32>& cpus )
+	{
+#ifdef __linux__
+		_pinned = false;
+		if( cpus.empty() || sched_getaffinity( 0, sizeof( _former_cpu_set ), &_former_cpu_set ) != 0 )
+			return;
+
+		cpu_set_t cpu_set;
+		CPU_ZERO( &cpu_set );
+		for( int cpu : cpus )
+			if( cpu >= 0 && cpu < CPU_SETSIZE )
+				CPU_SET( cpu, &cpu_set );
+
+		_pinned = sched_setaffinity( 0, sizeof( cpu_set ), &cpu_set ) == 0;
+#endif
+	}
+
+	~ThreadPinning()
+	{
+#ifdef __linux__
+		if( _pinned )
+			sched_setaffinity( 0, sizeof( _former_cpu_set ), &_former_cpu_set );
+#endif
+	}
+
+	ThreadPinning( const ThreadPinning& ) = delete;
+	ThreadPinning& operator=( const ThreadPinning& ) = delete;
+};
+
+void solve_production( const GameStateBuffer& game_state, SolutionBuffer& solution )
+{
+	auto start = std::chrono::steady_clock::now();
+
+	// outfile << "######################\n" << "Time: " << time << "\n";
+	// outfile << observed_enemy_heavy << "/" << observed_enemy_heavy_in_total << ", "
+	//         << observed_enemy_light << "/" << observed_enemy_light_in_total << ", "
+	//         << observed_enemy_ranged << "/" << observed_enemy_ranged_in_total << "\n";
+
+	// microPhantom estimates how much resources the opponent has along the game, see EnemyEconomyEstimator.java.
+	int estimated_remaining_resources = game_state.estimated_remaining_resources();
+	// outfile << "Remaining resources estimation: " << estimated_remaining_resources << "\n";
+	
+	// Enemy units currently seen count double. Enemy units unseen but we saw before (so dead or returned under the fog) count simple.
+	int observed_enemy_heavy_in_total = game_state.observed_enemy_heavy_in_total() - game_state.observed_enemy_heavy();
+	int observed_enemy_light_in_total = game_state.observed_enemy_light_in_total() - game_state.observed_enemy_light();
+	int observed_enemy_ranged_in_total = game_state.observed_enemy_ranged_in_total() - game_state.observed_enemy_ranged();
+	
+	// +1 to each unit type to never have a probability = 0 of producing any type of unit.
+	int total = 3 + 2 * ( game_state.observed_enemy_heavy() + game_state.observed_enemy_light() + game_state.observed_enemy_ranged() ) + ( observed_enemy_heavy_in_total + observed_enemy_light_in_total + observed_enemy_ranged_in_total );
+	vector<double> distribution = { ( 1 + 2 * game_state.observed_enemy_heavy() + observed_enemy_heavy_in_total ) * 100.0 / total,
+	                                ( 1 + 2 * game_state.observed_enemy_light() + observed_enemy_light_in_total ) * 100.0 / total,
+	                                ( 1 + 2 * game_state.observed_enemy_ranged() + observed_enemy_ranged_in_total ) * 100.0 / total };
+	// outfile << "Distribution: "
+	//         << ( 1 + 2 * observed_enemy_heavy + observed_enemy_heavy_in_total ) * 100.0 / total << ", "
+	//         << ( 1 + 2 * observed_enemy_light + observed_enemy_light_in_total ) * 100.0 / total << ", "
+	//         << ( 1 + 2 * observed_enemy_ranged + observed_enemy_ranged_in_total ) * 100.0 / total  << "\nSamples:\n";
+
+	// after estimating how much resources we haven't seen used from the opponent, we need to estimate how the opponent spent it!
+	Sampler sampler( distribution,
+	                 { game_state.heavy_cost(), game_state.light_cost(), game_state.ranged_cost() },
+	                 { game_state.observed_enemy_heavy(), game_state.observed_enemy_light(), game_state.observed_enemy_ranged() },
+	                 estimated_remaining_resources );
+	vector< vector<int> > samples;
+
+	// Without min_samples, draw exactly nb_samples. Otherwise, draw samples by batches of
+	// min_samples and stop once a batch barely changes the frequencies of sampled compositions:
+	// a peaked distribution converges after a few batches, a flat one needs up to nb_samples.
+	int max_samples = std::max( 0, game_state.nb_samples() );
+	int batch_size = game_state.min_samples() > 0 ? std::min( game_state.min_samples(), max_samples ) : max_samples;
+	map< vector<int>, int > composition_counts;
+	
+	while( (int)samples.size() < max_samples )
+	{
+		map< vector<int>, int > previous_counts = composition_counts;
+		int previous_size = samples.size();
+		int batch_end = std::min( max_samples, previous_size + std::max( 1, batch_size ) );
+
+		sampler.draw( batch_end - previous_size, samples );
+		for( int counter = previous_size; counter < batch_end; ++counter )
+			++composition_counts[ samples[ counter ] ];
+
+		if( game_state.min_samples() <= 0 || previous_size == 0 )
+			continue;
+
+		// Total variation distance between composition frequencies before and after this batch
+		double distance = 0.;
+		for( const auto& [ composition, count ] : composition_counts )
+		{
+			auto previous = previous_counts.find( composition );
+			int previous_count = previous == previous_counts.end() ? 0 : previous->second;
+			distance += std::abs( static_cast<double>( count ) / samples.size() - static_cast<double>( previous_count ) / previous_size );
+		}
+
+		if( distance / 2 <= SAMPLES_CONVERGENCE )
+			break;
+	}
+			
+	// The bot tells us how much of its frame is left for us. GHOST's timeout is in milliseconds.
+	double timeout = game_state.time_budget_us() > 0 ? game_state.time_budget_us() / 1000.0 : 90.0;
+
+	// Solve for the asked solver type only, or for the three of them over the same samples,
+	// sharing the time budget, so that the bot can switch plans without asking us again.
+	vector<int> solver_types;
+	if( game_state.all_solver_types() != 0 )
+		solver_types = { 0, 1, 2 };
+	else
+		solver_types = { game_state.solver_type() };
+
+	// GHOST's search threads inherit the affinity of this thread, restored once we are done.
+	ThreadPinning pinning( game_state.cpus() );
+
+	for( int solver_type : solver_types )
+	{
+		Builder builder( solver_type,
+		                 game_state.my_heavy_units(),
+		                 game_state.my_light_units(),
+		                 game_state.my_ranged_units(),
+		                 samples,
+		                 game_state.resources(),
+		                 game_state.nb_barracks(),
+		                 game_state.heavy_cost(),
+		                 game_state.light_cost(),
+		                 game_state.ranged_cost(),
+		                 vector<int>( game_state.previous_assignment().begin(), game_state.previous_assignment().end() ) );
+		Options options;
+		options.parallel_runs = true;
+		// The bot shares the cores of its host between its games: use the number of threads it gives us, if any.
+		if( game_state.number_threads() > 0 )
+			options.number_threads = game_state.number_threads();
+		else
+			options.number_threads = std::max( 2, options.number_threads / 2 );
+		// Two consecutive decisions differ only slightly: start from the previous assignment rather than from random samplings.
+		options.custom_starting_point = builder.has_starting_point();
+	
+		Solver solver_p( builder );
+
+		vector<int> vec_solution;
+		double cost_p;
+
+		/*
+		 * POAdaptive is waiting for 6 lines
+		 * The 3 first lines are dummy lines, just for debug
+		 * The 3 last lines contain necessary information: number of heavy/ranged/light units to produce
+		 */
+		// cout << "Solve ..." << "\n";
+		// cout << solver_p.solve( cost_p, solution, 10000, 100000 ) << " : " << cost_p << " / " << obj->cost( variables ) << "\n";
+		bool satisfied = solver_p.solve( cost_p, vec_solution, timeout / solver_types.size(), options );
+		solution.set_search_iterations( solution.search_iterations() + builder.search_iterations() );
+
+		//cout << "C++ solution trouvée\n";
+
+		if( solver_type == game_state.solver_type() )
+		{
+			solution.set_satisfied( satisfied ? 1 : 0 );
+			solution.set_cost( builder.objective_value( vec_solution ) );
+			solution.set_number_heavy( vec_solution[9] );
+			solution.set_number_light( vec_solution[10] );
+			solution.set_number_ranged( vec_solution[11] );
+			for( int value : vec_solution )
+				solution.add_assignment( value );
+		}
+
+		if( game_state.all_solver_types() != 0 )
+		{
+			solution.add_plans( vec_solution[9] );
+			solution.add_plans( vec_solution[10] );
+			solution.add_plans( vec_solution[11] );
+			for( int value : vec_solution )
+				solution.add_plan_assignments( value );
+		}
+	}
+
+	solution.set_solve_time_us( std::chrono::duration_cast<std::chrono::microseconds>( std::chrono::steady_clock::now() - start ).count() );
+
+	// outfile << "Solution: "
+	//         << solution[0] << ", "
+	//         << solution[1] << ", "
+	//         << solution[2] << ", "
+	//         << solution[3] << ", "
+	//         << solution[4] << ", "
+	//         << solution[5] << ", "
+	//         << solution[6] << ", "
+	//         << solution[7] << ", "
+	//         << solution[8] << ", "
+	//         << solution[9] << ", "
+	//         << solution[10] << ", "
+	//         << solution[11] << "\n\n";
+}
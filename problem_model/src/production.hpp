@@ -0,0 +1,31 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ * 
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU General Public License as published 
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+#pragma once
+
+#include "microphantom.pb.h"
+
+// Estimate the enemy army composition from the observations in game_state, then
+// solve the production problem and write the number of units to produce in solution.
+// Shared by solver_cpp and the JNI library.
+void solve_production( const GameStateBuffer& game_state, SolutionBuffer& solution );
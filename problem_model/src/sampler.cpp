@@ -0,0 +1,90 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ * 
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU General Public License as published 
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+#include <algorithm>
+#include <numeric>
+
+#include "sampler.hpp"
+
+Sampler::Sampler( const vector<double>& distribution,
+                  const vector<int>& costs,
+                  const vector<int>& observed,
+                  int resources )
+	: _distribution( distribution ),
+	  _costs( costs ),
+	  _observed( observed ),
+	  _resources( resources ),
+	  _min_cost( *std::min_element( costs.begin(), costs.end() ) )
+{ }
+
+void Sampler::draw( int number, vector< vector<int> >& samples )
+{
+	if( number <= 0 )
+		return;
+
+	_strata.resize( number );
+	std::iota( _strata.begin(), _strata.end(), 0 );
+	_remaining_resources.assign( number, _resources );
+	_compositions.assign( number, vector<int>( _costs.size(), 0 ) );
+
+	// Each sample produces one unit per step, as long as it can afford one.
+	bool can_produce = _resources >= _min_cost;
+	while( can_produce )
+	{
+		can_produce = false;
+		_rng.shuffle( _strata );
+
+		for( int i = 0; i < number; ++i )
+		{
+			if( _remaining_resources[i] < _min_cost )
+				continue;
+
+			double total = 0.;
+			for( int type = 0; type < (int)_costs.size(); ++type )
+				if( _remaining_resources[i] >= _costs[type] )
+					total += _distribution[type];
+
+			// stratified draw in [0, total)
+			double draw = ( _strata[i] + _rng.uniform( 0., 1. ) ) / number * total;
+			int unit_produced = -1;
+			for( int type = 0; type < (int)_costs.size(); ++type )
+				if( _remaining_resources[i] >= _costs[type] )
+				{
+					unit_produced = type;
+					draw -= _distribution[type];
+					if( draw < 0 )
+						break;
+				}
+
+			++_compositions[i][unit_produced];
+			_remaining_resources[i] -= _costs[unit_produced];
+			can_produce = can_produce || _remaining_resources[i] >= _min_cost;
+		}
+	}
+
+	for( auto& composition : _compositions )
+	{
+		for( int type = 0; type < (int)_costs.size(); ++type )
+			composition[type] += _observed[type];
+		samples.push_back( composition );
+	}
+}
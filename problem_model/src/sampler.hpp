@@ -0,0 +1,63 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ * 
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU General Public License as published 
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+
+#pragma once
+
+#include <vector>
+
+#include "randutils.hpp"
+
+using namespace std;
+
+// Sample enemy army compositions: the opponent spends its estimated remaining resources
+// unit after unit, each unit type being picked following the distribution.
+//
+// Unit types the opponent cannot afford anymore are excluded from the distribution, rather
+// than drawn and rejected: this gives the same compositions without a rejection loop.
+// Draws are stratified (Latin hypercube): at each production step, the draws of a batch of
+// n samples fall into distinct n-quantiles, in a random order. A batch then covers the
+// distribution much better than n independent draws do.
+class Sampler
+{
+	vector<double> _distribution; // weight of each unit type
+	vector<int> _costs;
+	vector<int> _observed; // enemy units we see, part of any composition
+	int _resources; // estimated remaining resources of the opponent
+	int _min_cost;
+	randutils::mt19937_rng _rng;
+
+	// Scratch buffers of a batch
+	vector<int> _strata;
+	vector<int> _remaining_resources;
+	vector< vector<int> > _compositions;
+
+public:
+	Sampler( const vector<double>& distribution,
+	         const vector<int>& costs,
+	         const vector<int>& observed,
+	         int resources );
+
+	// Append a batch of number samples to samples.
+	void draw( int number, vector< vector<int> >& samples );
+};
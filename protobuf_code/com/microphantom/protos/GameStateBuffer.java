@@ -16,6 +16,8 @@ private static final long serialVersionUID = 0L;
     super(builder);
   }
   private GameStateBuffer() {
+    previousAssignment_ = emptyIntList();
+    cpus_ = emptyIntList();
   }
 
   @java.lang.Override
@@ -38,6 +40,7 @@ private static final long serialVersionUID = 0L;
     if (extensionRegistry == null) {
       throw new java.lang.NullPointerException();
     }
+    int mutable_bitField0_ = 0;
     com.google.protobuf.UnknownFieldSet.Builder unknownFields =
         com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
@@ -58,71 +61,11 @@ private static final long serialVersionUID = 0L;
             nbBarracks_ = input.readInt32();
             break;
           }
-          case 24: {
-
-            minDistanceResourceBase_ = input.readInt32();
-            break;
-          }
-          case 32: {
-
-            maxDistanceResourceBase_ = input.readInt32();
-            break;
-          }
-          case 40: {
-
-            noInitialBase_ = input.readInt32();
-            break;
-          }
-          case 48: {
-
-            noInitialBarracks_ = input.readInt32();
-            break;
-          }
           case 56: {
 
             resources_ = input.readInt32();
             break;
           }
-          case 64: {
-
-            initialResources_ = input.readInt32();
-            break;
-          }
-          case 72: {
-
-            enemyResourcesLoss_ = input.readInt32();
-            break;
-          }
-          case 80: {
-
-            workerMoveTime_ = input.readInt32();
-            break;
-          }
-          case 88: {
-
-            workerHarvestTime_ = input.readInt32();
-            break;
-          }
-          case 96: {
-
-            workerReturnTime_ = input.readInt32();
-            break;
-          }
-          case 104: {
-
-            harvestAmount_ = input.readInt32();
-            break;
-          }
-          case 112: {
-
-            baseCost_ = input.readInt32();
-            break;
-          }
-          case 120: {
-
-            barracksCost_ = input.readInt32();
-            break;
-          }
           case 128: {
 
             heavyCost_ = input.readInt32();
@@ -153,16 +96,6 @@ private static final long serialVersionUID = 0L;
             myRangedUnits_ = input.readInt32();
             break;
           }
-          case 176: {
-
-            initialEnemyWorker_ = input.readInt32();
-            break;
-          }
-          case 184: {
-
-            observedEnemyWorker_ = input.readInt32();
-            break;
-          }
           case 192: {
 
             observedEnemyHeavy_ = input.readInt32();
@@ -178,11 +111,6 @@ private static final long serialVersionUID = 0L;
             observedEnemyRanged_ = input.readInt32();
             break;
           }
-          case 216: {
-
-            observedEnemyWorkerInTotal_ = input.readInt32();
-            break;
-          }
           case 224: {
 
             observedEnemyHeavyInTotal_ = input.readInt32();
@@ -208,6 +136,73 @@ private static final long serialVersionUID = 0L;
             nbSamples_ = input.readInt32();
             break;
           }
+          case 264: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              previousAssignment_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            previousAssignment_.addInt(input.readInt32());
+            break;
+          }
+          case 266: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              previousAssignment_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              previousAssignment_.addInt(input.readInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 272: {
+
+            timeBudgetUs_ = input.readInt32();
+            break;
+          }
+          case 280: {
+
+            minSamples_ = input.readInt32();
+            break;
+          }
+          case 288: {
+
+            estimatedRemainingResources_ = input.readInt32();
+            break;
+          }
+          case 296: {
+
+            allSolverTypes_ = input.readInt32();
+            break;
+          }
+          case 304: {
+
+            numberThreads_ = input.readInt32();
+            break;
+          }
+          case 312: {
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              cpus_ = newIntList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            cpus_.addInt(input.readInt32());
+            break;
+          }
+          case 314: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+              cpus_ = newIntList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              cpus_.addInt(input.readInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -223,6 +218,12 @@ private static final long serialVersionUID = 0L;
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        previousAssignment_.makeImmutable(); // C
+      }
+      if (((mutable_bitField0_ & 0x00000002) != 0)) {
+        cpus_.makeImmutable(); // C
+      }
       this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
@@ -262,50 +263,6 @@ private static final long serialVersionUID = 0L;
     return nbBarracks_;
   }
 
-  public static final int MIN_DISTANCE_RESOURCE_BASE_FIELD_NUMBER = 3;
-  private int minDistanceResourceBase_;
-  /**
-   * <code>int32 min_distance_resource_base = 3;</code>
-   * @return The minDistanceResourceBase.
-   */
-  @java.lang.Override
-  public int getMinDistanceResourceBase() {
-    return minDistanceResourceBase_;
-  }
-
-  public static final int MAX_DISTANCE_RESOURCE_BASE_FIELD_NUMBER = 4;
-  private int maxDistanceResourceBase_;
-  /**
-   * <code>int32 max_distance_resource_base = 4;</code>
-   * @return The maxDistanceResourceBase.
-   */
-  @java.lang.Override
-  public int getMaxDistanceResourceBase() {
-    return maxDistanceResourceBase_;
-  }
-
-  public static final int NO_INITIAL_BASE_FIELD_NUMBER = 5;
-  private int noInitialBase_;
-  /**
-   * <code>int32 no_initial_base = 5;</code>
-   * @return The noInitialBase.
-   */
-  @java.lang.Override
-  public int getNoInitialBase() {
-    return noInitialBase_;
-  }
-
-  public static final int NO_INITIAL_BARRACKS_FIELD_NUMBER = 6;
-  private int noInitialBarracks_;
-  /**
-   * <code>int32 no_initial_barracks = 6;</code>
-   * @return The noInitialBarracks.
-   */
-  @java.lang.Override
-  public int getNoInitialBarracks() {
-    return noInitialBarracks_;
-  }
-
   public static final int RESOURCES_FIELD_NUMBER = 7;
   private int resources_;
   /**
@@ -317,94 +274,6 @@ private static final long serialVersionUID = 0L;
     return resources_;
   }
 
-  public static final int INITIAL_RESOURCES_FIELD_NUMBER = 8;
-  private int initialResources_;
-  /**
-   * <code>int32 initial_resources = 8;</code>
-   * @return The initialResources.
-   */
-  @java.lang.Override
-  public int getInitialResources() {
-    return initialResources_;
-  }
-
-  public static final int ENEMY_RESOURCES_LOSS_FIELD_NUMBER = 9;
-  private int enemyResourcesLoss_;
-  /**
-   * <code>int32 enemy_resources_loss = 9;</code>
-   * @return The enemyResourcesLoss.
-   */
-  @java.lang.Override
-  public int getEnemyResourcesLoss() {
-    return enemyResourcesLoss_;
-  }
-
-  public static final int WORKER_MOVE_TIME_FIELD_NUMBER = 10;
-  private int workerMoveTime_;
-  /**
-   * <code>int32 worker_move_time = 10;</code>
-   * @return The workerMoveTime.
-   */
-  @java.lang.Override
-  public int getWorkerMoveTime() {
-    return workerMoveTime_;
-  }
-
-  public static final int WORKER_HARVEST_TIME_FIELD_NUMBER = 11;
-  private int workerHarvestTime_;
-  /**
-   * <code>int32 worker_harvest_time = 11;</code>
-   * @return The workerHarvestTime.
-   */
-  @java.lang.Override
-  public int getWorkerHarvestTime() {
-    return workerHarvestTime_;
-  }
-
-  public static final int WORKER_RETURN_TIME_FIELD_NUMBER = 12;
-  private int workerReturnTime_;
-  /**
-   * <code>int32 worker_return_time = 12;</code>
-   * @return The workerReturnTime.
-   */
-  @java.lang.Override
-  public int getWorkerReturnTime() {
-    return workerReturnTime_;
-  }
-
-  public static final int HARVEST_AMOUNT_FIELD_NUMBER = 13;
-  private int harvestAmount_;
-  /**
-   * <code>int32 harvest_amount = 13;</code>
-   * @return The harvestAmount.
-   */
-  @java.lang.Override
-  public int getHarvestAmount() {
-    return harvestAmount_;
-  }
-
-  public static final int BASE_COST_FIELD_NUMBER = 14;
-  private int baseCost_;
-  /**
-   * <code>int32 base_cost = 14;</code>
-   * @return The baseCost.
-   */
-  @java.lang.Override
-  public int getBaseCost() {
-    return baseCost_;
-  }
-
-  public static final int BARRACKS_COST_FIELD_NUMBER = 15;
-  private int barracksCost_;
-  /**
-   * <code>int32 barracks_cost = 15;</code>
-   * @return The barracksCost.
-   */
-  @java.lang.Override
-  public int getBarracksCost() {
-    return barracksCost_;
-  }
-
   public static final int HEAVY_COST_FIELD_NUMBER = 16;
   private int heavyCost_;
   /**
@@ -471,28 +340,6 @@ private static final long serialVersionUID = 0L;
     return myRangedUnits_;
   }
 
-  public static final int INITIAL_ENEMY_WORKER_FIELD_NUMBER = 22;
-  private int initialEnemyWorker_;
-  /**
-   * <code>int32 initial_enemy_worker = 22;</code>
-   * @return The initialEnemyWorker.
-   */
-  @java.lang.Override
-  public int getInitialEnemyWorker() {
-    return initialEnemyWorker_;
-  }
-
-  public static final int OBSERVED_ENEMY_WORKER_FIELD_NUMBER = 23;
-  private int observedEnemyWorker_;
-  /**
-   * <code>int32 observed_enemy_worker = 23;</code>
-   * @return The observedEnemyWorker.
-   */
-  @java.lang.Override
-  public int getObservedEnemyWorker() {
-    return observedEnemyWorker_;
-  }
-
   public static final int OBSERVED_ENEMY_HEAVY_FIELD_NUMBER = 24;
   private int observedEnemyHeavy_;
   /**
@@ -526,17 +373,6 @@ private static final long serialVersionUID = 0L;
     return observedEnemyRanged_;
   }
 
-  public static final int OBSERVED_ENEMY_WORKER_IN_TOTAL_FIELD_NUMBER = 27;
-  private int observedEnemyWorkerInTotal_;
-  /**
-   * <code>int32 observed_enemy_worker_in_total = 27;</code>
-   * @return The observedEnemyWorkerInTotal.
-   */
-  @java.lang.Override
-  public int getObservedEnemyWorkerInTotal() {
-    return observedEnemyWorkerInTotal_;
-  }
-
   public static final int OBSERVED_ENEMY_HEAVY_IN_TOTAL_FIELD_NUMBER = 28;
   private int observedEnemyHeavyInTotal_;
   /**
@@ -592,6 +428,165 @@ private static final long serialVersionUID = 0L;
     return nbSamples_;
   }
 
+  public static final int PREVIOUS_ASSIGNMENT_FIELD_NUMBER = 33;
+  private com.google.protobuf.Internal.IntList previousAssignment_;
+  /**
+   * <pre>
+   * Assignment of the 12 model variables found at the previous decision, to start the search from.
+   * Empty at the first decision of a game.
+   * </pre>
+   *
+   * <code>repeated int32 previous_assignment = 33;</code>
+   * @return A list containing the previousAssignment.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getPreviousAssignmentList() {
+    return previousAssignment_;
+  }
+  /**
+   * <pre>
+   * Assignment of the 12 model variables found at the previous decision, to start the search from.
+   * Empty at the first decision of a game.
+   * </pre>
+   *
+   * <code>repeated int32 previous_assignment = 33;</code>
+   * @return The count of previousAssignment.
+   */
+  public int getPreviousAssignmentCount() {
+    return previousAssignment_.size();
+  }
+  /**
+   * <pre>
+   * Assignment of the 12 model variables found at the previous decision, to start the search from.
+   * Empty at the first decision of a game.
+   * </pre>
+   *
+   * <code>repeated int32 previous_assignment = 33;</code>
+   * @param index The index of the element to return.
+   * @return The previousAssignment at the given index.
+   */
+  public int getPreviousAssignment(int index) {
+    return previousAssignment_.getInt(index);
+  }
+  private int previousAssignmentMemoizedSerializedSize = -1;
+
+  public static final int TIME_BUDGET_US_FIELD_NUMBER = 34;
+  private int timeBudgetUs_;
+  /**
+   * <pre>
+   * Time the solver may spend on this request, in microseconds. 0 means the solver's default.
+   * </pre>
+   *
+   * <code>int32 time_budget_us = 34;</code>
+   * @return The timeBudgetUs.
+   */
+  @java.lang.Override
+  public int getTimeBudgetUs() {
+    return timeBudgetUs_;
+  }
+
+  public static final int MIN_SAMPLES_FIELD_NUMBER = 35;
+  private int minSamples_;
+  /**
+   * <pre>
+   * Samples are drawn until their compositions stabilize, between min_samples and nb_samples.
+   * 0 draws exactly nb_samples.
+   * </pre>
+   *
+   * <code>int32 min_samples = 35;</code>
+   * @return The minSamples.
+   */
+  @java.lang.Override
+  public int getMinSamples() {
+    return minSamples_;
+  }
+
+  public static final int ESTIMATED_REMAINING_RESOURCES_FIELD_NUMBER = 36;
+  private int estimatedRemainingResources_;
+  /**
+   * <pre>
+   * Resources the opponent has not spent yet, estimated by microPhantom along the game.
+   * </pre>
+   *
+   * <code>int32 estimated_remaining_resources = 36;</code>
+   * @return The estimatedRemainingResources.
+   */
+  @java.lang.Override
+  public int getEstimatedRemainingResources() {
+    return estimatedRemainingResources_;
+  }
+
+  public static final int ALL_SOLVER_TYPES_FIELD_NUMBER = 37;
+  private int allSolverTypes_;
+  /**
+   * <pre>
+   * 1 to also solve the problem for the 3 solver types over the same samples, see SolutionBuffer.plans.
+   * </pre>
+   *
+   * <code>int32 all_solver_types = 37;</code>
+   * @return The allSolverTypes.
+   */
+  @java.lang.Override
+  public int getAllSolverTypes() {
+    return allSolverTypes_;
+  }
+
+  public static final int NUMBER_THREADS_FIELD_NUMBER = 38;
+  private int numberThreads_;
+  /**
+   * <pre>
+   * Number of search threads. 0 means the solver's default.
+   * </pre>
+   *
+   * <code>int32 number_threads = 38;</code>
+   * @return The numberThreads.
+   */
+  @java.lang.Override
+  public int getNumberThreads() {
+    return numberThreads_;
+  }
+
+  public static final int CPUS_FIELD_NUMBER = 39;
+  private com.google.protobuf.Internal.IntList cpus_;
+  /**
+   * <pre>
+   * CPUs the search threads are pinned to. Empty means no pinning.
+   * </pre>
+   *
+   * <code>repeated int32 cpus = 39;</code>
+   * @return A list containing the cpus.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getCpusList() {
+    return cpus_;
+  }
+  /**
+   * <pre>
+   * CPUs the search threads are pinned to. Empty means no pinning.
+   * </pre>
+   *
+   * <code>repeated int32 cpus = 39;</code>
+   * @return The count of cpus.
+   */
+  public int getCpusCount() {
+    return cpus_.size();
+  }
+  /**
+   * <pre>
+   * CPUs the search threads are pinned to. Empty means no pinning.
+   * </pre>
+   *
+   * <code>repeated int32 cpus = 39;</code>
+   * @param index The index of the element to return.
+   * @return The cpus at the given index.
+   */
+  public int getCpus(int index) {
+    return cpus_.getInt(index);
+  }
+  private int cpusMemoizedSerializedSize = -1;
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -606,51 +601,16 @@ private static final long serialVersionUID = 0L;
   @java.lang.Override
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
+    getSerializedSize();
     if (time_ != 0) {
       output.writeInt32(1, time_);
     }
     if (nbBarracks_ != 0) {
       output.writeInt32(2, nbBarracks_);
     }
-    if (minDistanceResourceBase_ != 0) {
-      output.writeInt32(3, minDistanceResourceBase_);
-    }
-    if (maxDistanceResourceBase_ != 0) {
-      output.writeInt32(4, maxDistanceResourceBase_);
-    }
-    if (noInitialBase_ != 0) {
-      output.writeInt32(5, noInitialBase_);
-    }
-    if (noInitialBarracks_ != 0) {
-      output.writeInt32(6, noInitialBarracks_);
-    }
     if (resources_ != 0) {
       output.writeInt32(7, resources_);
     }
-    if (initialResources_ != 0) {
-      output.writeInt32(8, initialResources_);
-    }
-    if (enemyResourcesLoss_ != 0) {
-      output.writeInt32(9, enemyResourcesLoss_);
-    }
-    if (workerMoveTime_ != 0) {
-      output.writeInt32(10, workerMoveTime_);
-    }
-    if (workerHarvestTime_ != 0) {
-      output.writeInt32(11, workerHarvestTime_);
-    }
-    if (workerReturnTime_ != 0) {
-      output.writeInt32(12, workerReturnTime_);
-    }
-    if (harvestAmount_ != 0) {
-      output.writeInt32(13, harvestAmount_);
-    }
-    if (baseCost_ != 0) {
-      output.writeInt32(14, baseCost_);
-    }
-    if (barracksCost_ != 0) {
-      output.writeInt32(15, barracksCost_);
-    }
     if (heavyCost_ != 0) {
       output.writeInt32(16, heavyCost_);
     }
@@ -669,12 +629,6 @@ private static final long serialVersionUID = 0L;
     if (myRangedUnits_ != 0) {
       output.writeInt32(21, myRangedUnits_);
     }
-    if (initialEnemyWorker_ != 0) {
-      output.writeInt32(22, initialEnemyWorker_);
-    }
-    if (observedEnemyWorker_ != 0) {
-      output.writeInt32(23, observedEnemyWorker_);
-    }
     if (observedEnemyHeavy_ != 0) {
       output.writeInt32(24, observedEnemyHeavy_);
     }
@@ -684,9 +638,6 @@ private static final long serialVersionUID = 0L;
     if (observedEnemyRanged_ != 0) {
       output.writeInt32(26, observedEnemyRanged_);
     }
-    if (observedEnemyWorkerInTotal_ != 0) {
-      output.writeInt32(27, observedEnemyWorkerInTotal_);
-    }
     if (observedEnemyHeavyInTotal_ != 0) {
       output.writeInt32(28, observedEnemyHeavyInTotal_);
     }
@@ -702,6 +653,35 @@ private static final long serialVersionUID = 0L;
     if (nbSamples_ != 0) {
       output.writeInt32(32, nbSamples_);
     }
+    if (getPreviousAssignmentList().size() > 0) {
+      output.writeUInt32NoTag(266);
+      output.writeUInt32NoTag(previousAssignmentMemoizedSerializedSize);
+    }
+    for (int i = 0; i < previousAssignment_.size(); i++) {
+      output.writeInt32NoTag(previousAssignment_.getInt(i));
+    }
+    if (timeBudgetUs_ != 0) {
+      output.writeInt32(34, timeBudgetUs_);
+    }
+    if (minSamples_ != 0) {
+      output.writeInt32(35, minSamples_);
+    }
+    if (estimatedRemainingResources_ != 0) {
+      output.writeInt32(36, estimatedRemainingResources_);
+    }
+    if (allSolverTypes_ != 0) {
+      output.writeInt32(37, allSolverTypes_);
+    }
+    if (numberThreads_ != 0) {
+      output.writeInt32(38, numberThreads_);
+    }
+    if (getCpusList().size() > 0) {
+      output.writeUInt32NoTag(314);
+      output.writeUInt32NoTag(cpusMemoizedSerializedSize);
+    }
+    for (int i = 0; i < cpus_.size(); i++) {
+      output.writeInt32NoTag(cpus_.getInt(i));
+    }
     unknownFields.writeTo(output);
   }
 
@@ -719,58 +699,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(2, nbBarracks_);
     }
-    if (minDistanceResourceBase_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(3, minDistanceResourceBase_);
-    }
-    if (maxDistanceResourceBase_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(4, maxDistanceResourceBase_);
-    }
-    if (noInitialBase_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(5, noInitialBase_);
-    }
-    if (noInitialBarracks_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(6, noInitialBarracks_);
-    }
     if (resources_ != 0) {
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(7, resources_);
     }
-    if (initialResources_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(8, initialResources_);
-    }
-    if (enemyResourcesLoss_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(9, enemyResourcesLoss_);
-    }
-    if (workerMoveTime_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(10, workerMoveTime_);
-    }
-    if (workerHarvestTime_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(11, workerHarvestTime_);
-    }
-    if (workerReturnTime_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(12, workerReturnTime_);
-    }
-    if (harvestAmount_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(13, harvestAmount_);
-    }
-    if (baseCost_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(14, baseCost_);
-    }
-    if (barracksCost_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(15, barracksCost_);
-    }
     if (heavyCost_ != 0) {
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(16, heavyCost_);
@@ -795,14 +727,6 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(21, myRangedUnits_);
     }
-    if (initialEnemyWorker_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(22, initialEnemyWorker_);
-    }
-    if (observedEnemyWorker_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(23, observedEnemyWorker_);
-    }
     if (observedEnemyHeavy_ != 0) {
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(24, observedEnemyHeavy_);
@@ -815,10 +739,6 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(26, observedEnemyRanged_);
     }
-    if (observedEnemyWorkerInTotal_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(27, observedEnemyWorkerInTotal_);
-    }
     if (observedEnemyHeavyInTotal_ != 0) {
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(28, observedEnemyHeavyInTotal_);
@@ -839,10 +759,58 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(32, nbSamples_);
     }
-    size += unknownFields.getSerializedSize();
-    memoizedSize = size;
-    return size;
-  }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < previousAssignment_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt32SizeNoTag(previousAssignment_.getInt(i));
+      }
+      size += dataSize;
+      if (!getPreviousAssignmentList().isEmpty()) {
+        size += 2;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      previousAssignmentMemoizedSerializedSize = dataSize;
+    }
+    if (timeBudgetUs_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(34, timeBudgetUs_);
+    }
+    if (minSamples_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(35, minSamples_);
+    }
+    if (estimatedRemainingResources_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(36, estimatedRemainingResources_);
+    }
+    if (allSolverTypes_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(37, allSolverTypes_);
+    }
+    if (numberThreads_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(38, numberThreads_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < cpus_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt32SizeNoTag(cpus_.getInt(i));
+      }
+      size += dataSize;
+      if (!getCpusList().isEmpty()) {
+        size += 2;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      cpusMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
 
   @java.lang.Override
   public boolean equals(final java.lang.Object obj) {
@@ -858,32 +826,8 @@ private static final long serialVersionUID = 0L;
         != other.getTime()) return false;
     if (getNbBarracks()
         != other.getNbBarracks()) return false;
-    if (getMinDistanceResourceBase()
-        != other.getMinDistanceResourceBase()) return false;
-    if (getMaxDistanceResourceBase()
-        != other.getMaxDistanceResourceBase()) return false;
-    if (getNoInitialBase()
-        != other.getNoInitialBase()) return false;
-    if (getNoInitialBarracks()
-        != other.getNoInitialBarracks()) return false;
     if (getResources()
         != other.getResources()) return false;
-    if (getInitialResources()
-        != other.getInitialResources()) return false;
-    if (getEnemyResourcesLoss()
-        != other.getEnemyResourcesLoss()) return false;
-    if (getWorkerMoveTime()
-        != other.getWorkerMoveTime()) return false;
-    if (getWorkerHarvestTime()
-        != other.getWorkerHarvestTime()) return false;
-    if (getWorkerReturnTime()
-        != other.getWorkerReturnTime()) return false;
-    if (getHarvestAmount()
-        != other.getHarvestAmount()) return false;
-    if (getBaseCost()
-        != other.getBaseCost()) return false;
-    if (getBarracksCost()
-        != other.getBarracksCost()) return false;
     if (getHeavyCost()
         != other.getHeavyCost()) return false;
     if (getLightCost()
@@ -896,18 +840,12 @@ private static final long serialVersionUID = 0L;
         != other.getMyLightUnits()) return false;
     if (getMyRangedUnits()
         != other.getMyRangedUnits()) return false;
-    if (getInitialEnemyWorker()
-        != other.getInitialEnemyWorker()) return false;
-    if (getObservedEnemyWorker()
-        != other.getObservedEnemyWorker()) return false;
     if (getObservedEnemyHeavy()
         != other.getObservedEnemyHeavy()) return false;
     if (getObservedEnemyLight()
         != other.getObservedEnemyLight()) return false;
     if (getObservedEnemyRanged()
         != other.getObservedEnemyRanged()) return false;
-    if (getObservedEnemyWorkerInTotal()
-        != other.getObservedEnemyWorkerInTotal()) return false;
     if (getObservedEnemyHeavyInTotal()
         != other.getObservedEnemyHeavyInTotal()) return false;
     if (getObservedEnemyLightInTotal()
@@ -918,6 +856,20 @@ private static final long serialVersionUID = 0L;
         != other.getSolverType()) return false;
     if (getNbSamples()
         != other.getNbSamples()) return false;
+    if (!getPreviousAssignmentList()
+        .equals(other.getPreviousAssignmentList())) return false;
+    if (getTimeBudgetUs()
+        != other.getTimeBudgetUs()) return false;
+    if (getMinSamples()
+        != other.getMinSamples()) return false;
+    if (getEstimatedRemainingResources()
+        != other.getEstimatedRemainingResources()) return false;
+    if (getAllSolverTypes()
+        != other.getAllSolverTypes()) return false;
+    if (getNumberThreads()
+        != other.getNumberThreads()) return false;
+    if (!getCpusList()
+        .equals(other.getCpusList())) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -933,32 +885,8 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getTime();
     hash = (37 * hash) + NB_BARRACKS_FIELD_NUMBER;
     hash = (53 * hash) + getNbBarracks();
-    hash = (37 * hash) + MIN_DISTANCE_RESOURCE_BASE_FIELD_NUMBER;
-    hash = (53 * hash) + getMinDistanceResourceBase();
-    hash = (37 * hash) + MAX_DISTANCE_RESOURCE_BASE_FIELD_NUMBER;
-    hash = (53 * hash) + getMaxDistanceResourceBase();
-    hash = (37 * hash) + NO_INITIAL_BASE_FIELD_NUMBER;
-    hash = (53 * hash) + getNoInitialBase();
-    hash = (37 * hash) + NO_INITIAL_BARRACKS_FIELD_NUMBER;
-    hash = (53 * hash) + getNoInitialBarracks();
     hash = (37 * hash) + RESOURCES_FIELD_NUMBER;
     hash = (53 * hash) + getResources();
-    hash = (37 * hash) + INITIAL_RESOURCES_FIELD_NUMBER;
-    hash = (53 * hash) + getInitialResources();
-    hash = (37 * hash) + ENEMY_RESOURCES_LOSS_FIELD_NUMBER;
-    hash = (53 * hash) + getEnemyResourcesLoss();
-    hash = (37 * hash) + WORKER_MOVE_TIME_FIELD_NUMBER;
-    hash = (53 * hash) + getWorkerMoveTime();
-    hash = (37 * hash) + WORKER_HARVEST_TIME_FIELD_NUMBER;
-    hash = (53 * hash) + getWorkerHarvestTime();
-    hash = (37 * hash) + WORKER_RETURN_TIME_FIELD_NUMBER;
-    hash = (53 * hash) + getWorkerReturnTime();
-    hash = (37 * hash) + HARVEST_AMOUNT_FIELD_NUMBER;
-    hash = (53 * hash) + getHarvestAmount();
-    hash = (37 * hash) + BASE_COST_FIELD_NUMBER;
-    hash = (53 * hash) + getBaseCost();
-    hash = (37 * hash) + BARRACKS_COST_FIELD_NUMBER;
-    hash = (53 * hash) + getBarracksCost();
     hash = (37 * hash) + HEAVY_COST_FIELD_NUMBER;
     hash = (53 * hash) + getHeavyCost();
     hash = (37 * hash) + LIGHT_COST_FIELD_NUMBER;
@@ -971,18 +899,12 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getMyLightUnits();
     hash = (37 * hash) + MY_RANGED_UNITS_FIELD_NUMBER;
     hash = (53 * hash) + getMyRangedUnits();
-    hash = (37 * hash) + INITIAL_ENEMY_WORKER_FIELD_NUMBER;
-    hash = (53 * hash) + getInitialEnemyWorker();
-    hash = (37 * hash) + OBSERVED_ENEMY_WORKER_FIELD_NUMBER;
-    hash = (53 * hash) + getObservedEnemyWorker();
     hash = (37 * hash) + OBSERVED_ENEMY_HEAVY_FIELD_NUMBER;
     hash = (53 * hash) + getObservedEnemyHeavy();
     hash = (37 * hash) + OBSERVED_ENEMY_LIGHT_FIELD_NUMBER;
     hash = (53 * hash) + getObservedEnemyLight();
     hash = (37 * hash) + OBSERVED_ENEMY_RANGED_FIELD_NUMBER;
     hash = (53 * hash) + getObservedEnemyRanged();
-    hash = (37 * hash) + OBSERVED_ENEMY_WORKER_IN_TOTAL_FIELD_NUMBER;
-    hash = (53 * hash) + getObservedEnemyWorkerInTotal();
     hash = (37 * hash) + OBSERVED_ENEMY_HEAVY_IN_TOTAL_FIELD_NUMBER;
     hash = (53 * hash) + getObservedEnemyHeavyInTotal();
     hash = (37 * hash) + OBSERVED_ENEMY_LIGHT_IN_TOTAL_FIELD_NUMBER;
@@ -993,6 +915,24 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getSolverType();
     hash = (37 * hash) + NB_SAMPLES_FIELD_NUMBER;
     hash = (53 * hash) + getNbSamples();
+    if (getPreviousAssignmentCount() > 0) {
+      hash = (37 * hash) + PREVIOUS_ASSIGNMENT_FIELD_NUMBER;
+      hash = (53 * hash) + getPreviousAssignmentList().hashCode();
+    }
+    hash = (37 * hash) + TIME_BUDGET_US_FIELD_NUMBER;
+    hash = (53 * hash) + getTimeBudgetUs();
+    hash = (37 * hash) + MIN_SAMPLES_FIELD_NUMBER;
+    hash = (53 * hash) + getMinSamples();
+    hash = (37 * hash) + ESTIMATED_REMAINING_RESOURCES_FIELD_NUMBER;
+    hash = (53 * hash) + getEstimatedRemainingResources();
+    hash = (37 * hash) + ALL_SOLVER_TYPES_FIELD_NUMBER;
+    hash = (53 * hash) + getAllSolverTypes();
+    hash = (37 * hash) + NUMBER_THREADS_FIELD_NUMBER;
+    hash = (53 * hash) + getNumberThreads();
+    if (getCpusCount() > 0) {
+      hash = (37 * hash) + CPUS_FIELD_NUMBER;
+      hash = (53 * hash) + getCpusList().hashCode();
+    }
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -1130,32 +1070,8 @@ private static final long serialVersionUID = 0L;
 
       nbBarracks_ = 0;
 
-      minDistanceResourceBase_ = 0;
-
-      maxDistanceResourceBase_ = 0;
-
-      noInitialBase_ = 0;
-
-      noInitialBarracks_ = 0;
-
       resources_ = 0;
 
-      initialResources_ = 0;
-
-      enemyResourcesLoss_ = 0;
-
-      workerMoveTime_ = 0;
-
-      workerHarvestTime_ = 0;
-
-      workerReturnTime_ = 0;
-
-      harvestAmount_ = 0;
-
-      baseCost_ = 0;
-
-      barracksCost_ = 0;
-
       heavyCost_ = 0;
 
       lightCost_ = 0;
@@ -1168,18 +1084,12 @@ private static final long serialVersionUID = 0L;
 
       myRangedUnits_ = 0;
 
-      initialEnemyWorker_ = 0;
-
-      observedEnemyWorker_ = 0;
-
       observedEnemyHeavy_ = 0;
 
       observedEnemyLight_ = 0;
 
       observedEnemyRanged_ = 0;
 
-      observedEnemyWorkerInTotal_ = 0;
-
       observedEnemyHeavyInTotal_ = 0;
 
       observedEnemyLightInTotal_ = 0;
@@ -1190,6 +1100,20 @@ private static final long serialVersionUID = 0L;
 
       nbSamples_ = 0;
 
+      previousAssignment_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      timeBudgetUs_ = 0;
+
+      minSamples_ = 0;
+
+      estimatedRemainingResources_ = 0;
+
+      allSolverTypes_ = 0;
+
+      numberThreads_ = 0;
+
+      cpus_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000002);
       return this;
     }
 
@@ -1216,38 +1140,39 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public com.microphantom.protos.GameStateBuffer buildPartial() {
       com.microphantom.protos.GameStateBuffer result = new com.microphantom.protos.GameStateBuffer(this);
+      int from_bitField0_ = bitField0_;
       result.time_ = time_;
       result.nbBarracks_ = nbBarracks_;
-      result.minDistanceResourceBase_ = minDistanceResourceBase_;
-      result.maxDistanceResourceBase_ = maxDistanceResourceBase_;
-      result.noInitialBase_ = noInitialBase_;
-      result.noInitialBarracks_ = noInitialBarracks_;
       result.resources_ = resources_;
-      result.initialResources_ = initialResources_;
-      result.enemyResourcesLoss_ = enemyResourcesLoss_;
-      result.workerMoveTime_ = workerMoveTime_;
-      result.workerHarvestTime_ = workerHarvestTime_;
-      result.workerReturnTime_ = workerReturnTime_;
-      result.harvestAmount_ = harvestAmount_;
-      result.baseCost_ = baseCost_;
-      result.barracksCost_ = barracksCost_;
       result.heavyCost_ = heavyCost_;
       result.lightCost_ = lightCost_;
       result.rangedCost_ = rangedCost_;
       result.myHeavyUnits_ = myHeavyUnits_;
       result.myLightUnits_ = myLightUnits_;
       result.myRangedUnits_ = myRangedUnits_;
-      result.initialEnemyWorker_ = initialEnemyWorker_;
-      result.observedEnemyWorker_ = observedEnemyWorker_;
       result.observedEnemyHeavy_ = observedEnemyHeavy_;
       result.observedEnemyLight_ = observedEnemyLight_;
       result.observedEnemyRanged_ = observedEnemyRanged_;
-      result.observedEnemyWorkerInTotal_ = observedEnemyWorkerInTotal_;
       result.observedEnemyHeavyInTotal_ = observedEnemyHeavyInTotal_;
       result.observedEnemyLightInTotal_ = observedEnemyLightInTotal_;
       result.observedEnemyRangedInTotal_ = observedEnemyRangedInTotal_;
       result.solverType_ = solverType_;
       result.nbSamples_ = nbSamples_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        previousAssignment_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.previousAssignment_ = previousAssignment_;
+      result.timeBudgetUs_ = timeBudgetUs_;
+      result.minSamples_ = minSamples_;
+      result.estimatedRemainingResources_ = estimatedRemainingResources_;
+      result.allSolverTypes_ = allSolverTypes_;
+      result.numberThreads_ = numberThreads_;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        cpus_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.cpus_ = cpus_;
       onBuilt();
       return result;
     }
@@ -1302,45 +1227,9 @@ private static final long serialVersionUID = 0L;
       if (other.getNbBarracks() != 0) {
         setNbBarracks(other.getNbBarracks());
       }
-      if (other.getMinDistanceResourceBase() != 0) {
-        setMinDistanceResourceBase(other.getMinDistanceResourceBase());
-      }
-      if (other.getMaxDistanceResourceBase() != 0) {
-        setMaxDistanceResourceBase(other.getMaxDistanceResourceBase());
-      }
-      if (other.getNoInitialBase() != 0) {
-        setNoInitialBase(other.getNoInitialBase());
-      }
-      if (other.getNoInitialBarracks() != 0) {
-        setNoInitialBarracks(other.getNoInitialBarracks());
-      }
       if (other.getResources() != 0) {
         setResources(other.getResources());
       }
-      if (other.getInitialResources() != 0) {
-        setInitialResources(other.getInitialResources());
-      }
-      if (other.getEnemyResourcesLoss() != 0) {
-        setEnemyResourcesLoss(other.getEnemyResourcesLoss());
-      }
-      if (other.getWorkerMoveTime() != 0) {
-        setWorkerMoveTime(other.getWorkerMoveTime());
-      }
-      if (other.getWorkerHarvestTime() != 0) {
-        setWorkerHarvestTime(other.getWorkerHarvestTime());
-      }
-      if (other.getWorkerReturnTime() != 0) {
-        setWorkerReturnTime(other.getWorkerReturnTime());
-      }
-      if (other.getHarvestAmount() != 0) {
-        setHarvestAmount(other.getHarvestAmount());
-      }
-      if (other.getBaseCost() != 0) {
-        setBaseCost(other.getBaseCost());
-      }
-      if (other.getBarracksCost() != 0) {
-        setBarracksCost(other.getBarracksCost());
-      }
       if (other.getHeavyCost() != 0) {
         setHeavyCost(other.getHeavyCost());
       }
@@ -1359,12 +1248,6 @@ private static final long serialVersionUID = 0L;
       if (other.getMyRangedUnits() != 0) {
         setMyRangedUnits(other.getMyRangedUnits());
       }
-      if (other.getInitialEnemyWorker() != 0) {
-        setInitialEnemyWorker(other.getInitialEnemyWorker());
-      }
-      if (other.getObservedEnemyWorker() != 0) {
-        setObservedEnemyWorker(other.getObservedEnemyWorker());
-      }
       if (other.getObservedEnemyHeavy() != 0) {
         setObservedEnemyHeavy(other.getObservedEnemyHeavy());
       }
@@ -1374,9 +1257,6 @@ private static final long serialVersionUID = 0L;
       if (other.getObservedEnemyRanged() != 0) {
         setObservedEnemyRanged(other.getObservedEnemyRanged());
       }
-      if (other.getObservedEnemyWorkerInTotal() != 0) {
-        setObservedEnemyWorkerInTotal(other.getObservedEnemyWorkerInTotal());
-      }
       if (other.getObservedEnemyHeavyInTotal() != 0) {
         setObservedEnemyHeavyInTotal(other.getObservedEnemyHeavyInTotal());
       }
@@ -1392,6 +1272,41 @@ private static final long serialVersionUID = 0L;
       if (other.getNbSamples() != 0) {
         setNbSamples(other.getNbSamples());
       }
+      if (!other.previousAssignment_.isEmpty()) {
+        if (previousAssignment_.isEmpty()) {
+          previousAssignment_ = other.previousAssignment_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensurePreviousAssignmentIsMutable();
+          previousAssignment_.addAll(other.previousAssignment_);
+        }
+        onChanged();
+      }
+      if (other.getTimeBudgetUs() != 0) {
+        setTimeBudgetUs(other.getTimeBudgetUs());
+      }
+      if (other.getMinSamples() != 0) {
+        setMinSamples(other.getMinSamples());
+      }
+      if (other.getEstimatedRemainingResources() != 0) {
+        setEstimatedRemainingResources(other.getEstimatedRemainingResources());
+      }
+      if (other.getAllSolverTypes() != 0) {
+        setAllSolverTypes(other.getAllSolverTypes());
+      }
+      if (other.getNumberThreads() != 0) {
+        setNumberThreads(other.getNumberThreads());
+      }
+      if (!other.cpus_.isEmpty()) {
+        if (cpus_.isEmpty()) {
+          cpus_ = other.cpus_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensureCpusIsMutable();
+          cpus_.addAll(other.cpus_);
+        }
+        onChanged();
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -1420,468 +1335,97 @@ private static final long serialVersionUID = 0L;
       }
       return this;
     }
+    private int bitField0_;
 
     private int time_ ;
     /**
      * <code>int32 time = 1;</code>
-     * @return The time.
-     */
-    @java.lang.Override
-    public int getTime() {
-      return time_;
-    }
-    /**
-     * <code>int32 time = 1;</code>
-     * @param value The time to set.
-     * @return This builder for chaining.
-     */
-    public Builder setTime(int value) {
-      
-      time_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 time = 1;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearTime() {
-      
-      time_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int nbBarracks_ ;
-    /**
-     * <code>int32 nb_barracks = 2;</code>
-     * @return The nbBarracks.
-     */
-    @java.lang.Override
-    public int getNbBarracks() {
-      return nbBarracks_;
-    }
-    /**
-     * <code>int32 nb_barracks = 2;</code>
-     * @param value The nbBarracks to set.
-     * @return This builder for chaining.
-     */
-    public Builder setNbBarracks(int value) {
-      
-      nbBarracks_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 nb_barracks = 2;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearNbBarracks() {
-      
-      nbBarracks_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int minDistanceResourceBase_ ;
-    /**
-     * <code>int32 min_distance_resource_base = 3;</code>
-     * @return The minDistanceResourceBase.
-     */
-    @java.lang.Override
-    public int getMinDistanceResourceBase() {
-      return minDistanceResourceBase_;
-    }
-    /**
-     * <code>int32 min_distance_resource_base = 3;</code>
-     * @param value The minDistanceResourceBase to set.
-     * @return This builder for chaining.
-     */
-    public Builder setMinDistanceResourceBase(int value) {
-      
-      minDistanceResourceBase_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 min_distance_resource_base = 3;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearMinDistanceResourceBase() {
-      
-      minDistanceResourceBase_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int maxDistanceResourceBase_ ;
-    /**
-     * <code>int32 max_distance_resource_base = 4;</code>
-     * @return The maxDistanceResourceBase.
-     */
-    @java.lang.Override
-    public int getMaxDistanceResourceBase() {
-      return maxDistanceResourceBase_;
-    }
-    /**
-     * <code>int32 max_distance_resource_base = 4;</code>
-     * @param value The maxDistanceResourceBase to set.
-     * @return This builder for chaining.
-     */
-    public Builder setMaxDistanceResourceBase(int value) {
-      
-      maxDistanceResourceBase_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 max_distance_resource_base = 4;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearMaxDistanceResourceBase() {
-      
-      maxDistanceResourceBase_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int noInitialBase_ ;
-    /**
-     * <code>int32 no_initial_base = 5;</code>
-     * @return The noInitialBase.
-     */
-    @java.lang.Override
-    public int getNoInitialBase() {
-      return noInitialBase_;
-    }
-    /**
-     * <code>int32 no_initial_base = 5;</code>
-     * @param value The noInitialBase to set.
-     * @return This builder for chaining.
-     */
-    public Builder setNoInitialBase(int value) {
-      
-      noInitialBase_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 no_initial_base = 5;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearNoInitialBase() {
-      
-      noInitialBase_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int noInitialBarracks_ ;
-    /**
-     * <code>int32 no_initial_barracks = 6;</code>
-     * @return The noInitialBarracks.
-     */
-    @java.lang.Override
-    public int getNoInitialBarracks() {
-      return noInitialBarracks_;
-    }
-    /**
-     * <code>int32 no_initial_barracks = 6;</code>
-     * @param value The noInitialBarracks to set.
-     * @return This builder for chaining.
-     */
-    public Builder setNoInitialBarracks(int value) {
-      
-      noInitialBarracks_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 no_initial_barracks = 6;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearNoInitialBarracks() {
-      
-      noInitialBarracks_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int resources_ ;
-    /**
-     * <code>int32 resources = 7;</code>
-     * @return The resources.
-     */
-    @java.lang.Override
-    public int getResources() {
-      return resources_;
-    }
-    /**
-     * <code>int32 resources = 7;</code>
-     * @param value The resources to set.
-     * @return This builder for chaining.
-     */
-    public Builder setResources(int value) {
-      
-      resources_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 resources = 7;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearResources() {
-      
-      resources_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int initialResources_ ;
-    /**
-     * <code>int32 initial_resources = 8;</code>
-     * @return The initialResources.
-     */
-    @java.lang.Override
-    public int getInitialResources() {
-      return initialResources_;
-    }
-    /**
-     * <code>int32 initial_resources = 8;</code>
-     * @param value The initialResources to set.
-     * @return This builder for chaining.
-     */
-    public Builder setInitialResources(int value) {
-      
-      initialResources_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 initial_resources = 8;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearInitialResources() {
-      
-      initialResources_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int enemyResourcesLoss_ ;
-    /**
-     * <code>int32 enemy_resources_loss = 9;</code>
-     * @return The enemyResourcesLoss.
-     */
-    @java.lang.Override
-    public int getEnemyResourcesLoss() {
-      return enemyResourcesLoss_;
-    }
-    /**
-     * <code>int32 enemy_resources_loss = 9;</code>
-     * @param value The enemyResourcesLoss to set.
-     * @return This builder for chaining.
-     */
-    public Builder setEnemyResourcesLoss(int value) {
-      
-      enemyResourcesLoss_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 enemy_resources_loss = 9;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearEnemyResourcesLoss() {
-      
-      enemyResourcesLoss_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int workerMoveTime_ ;
-    /**
-     * <code>int32 worker_move_time = 10;</code>
-     * @return The workerMoveTime.
-     */
-    @java.lang.Override
-    public int getWorkerMoveTime() {
-      return workerMoveTime_;
-    }
-    /**
-     * <code>int32 worker_move_time = 10;</code>
-     * @param value The workerMoveTime to set.
-     * @return This builder for chaining.
-     */
-    public Builder setWorkerMoveTime(int value) {
-      
-      workerMoveTime_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 worker_move_time = 10;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearWorkerMoveTime() {
-      
-      workerMoveTime_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int workerHarvestTime_ ;
-    /**
-     * <code>int32 worker_harvest_time = 11;</code>
-     * @return The workerHarvestTime.
-     */
-    @java.lang.Override
-    public int getWorkerHarvestTime() {
-      return workerHarvestTime_;
-    }
-    /**
-     * <code>int32 worker_harvest_time = 11;</code>
-     * @param value The workerHarvestTime to set.
-     * @return This builder for chaining.
-     */
-    public Builder setWorkerHarvestTime(int value) {
-      
-      workerHarvestTime_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 worker_harvest_time = 11;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearWorkerHarvestTime() {
-      
-      workerHarvestTime_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int workerReturnTime_ ;
-    /**
-     * <code>int32 worker_return_time = 12;</code>
-     * @return The workerReturnTime.
-     */
-    @java.lang.Override
-    public int getWorkerReturnTime() {
-      return workerReturnTime_;
-    }
-    /**
-     * <code>int32 worker_return_time = 12;</code>
-     * @param value The workerReturnTime to set.
-     * @return This builder for chaining.
-     */
-    public Builder setWorkerReturnTime(int value) {
-      
-      workerReturnTime_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 worker_return_time = 12;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearWorkerReturnTime() {
-      
-      workerReturnTime_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int harvestAmount_ ;
-    /**
-     * <code>int32 harvest_amount = 13;</code>
-     * @return The harvestAmount.
+     * @return The time.
      */
     @java.lang.Override
-    public int getHarvestAmount() {
-      return harvestAmount_;
+    public int getTime() {
+      return time_;
     }
     /**
-     * <code>int32 harvest_amount = 13;</code>
-     * @param value The harvestAmount to set.
+     * <code>int32 time = 1;</code>
+     * @param value The time to set.
      * @return This builder for chaining.
      */
-    public Builder setHarvestAmount(int value) {
+    public Builder setTime(int value) {
       
-      harvestAmount_ = value;
+      time_ = value;
       onChanged();
       return this;
     }
     /**
-     * <code>int32 harvest_amount = 13;</code>
+     * <code>int32 time = 1;</code>
      * @return This builder for chaining.
      */
-    public Builder clearHarvestAmount() {
+    public Builder clearTime() {
       
-      harvestAmount_ = 0;
+      time_ = 0;
       onChanged();
       return this;
     }
 
-    private int baseCost_ ;
+    private int nbBarracks_ ;
     /**
-     * <code>int32 base_cost = 14;</code>
-     * @return The baseCost.
+     * <code>int32 nb_barracks = 2;</code>
+     * @return The nbBarracks.
      */
     @java.lang.Override
-    public int getBaseCost() {
-      return baseCost_;
+    public int getNbBarracks() {
+      return nbBarracks_;
     }
     /**
-     * <code>int32 base_cost = 14;</code>
-     * @param value The baseCost to set.
+     * <code>int32 nb_barracks = 2;</code>
+     * @param value The nbBarracks to set.
      * @return This builder for chaining.
      */
-    public Builder setBaseCost(int value) {
+    public Builder setNbBarracks(int value) {
       
-      baseCost_ = value;
+      nbBarracks_ = value;
       onChanged();
       return this;
     }
     /**
-     * <code>int32 base_cost = 14;</code>
+     * <code>int32 nb_barracks = 2;</code>
      * @return This builder for chaining.
      */
-    public Builder clearBaseCost() {
+    public Builder clearNbBarracks() {
       
-      baseCost_ = 0;
+      nbBarracks_ = 0;
       onChanged();
       return this;
     }
 
-    private int barracksCost_ ;
+    private int resources_ ;
     /**
-     * <code>int32 barracks_cost = 15;</code>
-     * @return The barracksCost.
+     * <code>int32 resources = 7;</code>
+     * @return The resources.
      */
     @java.lang.Override
-    public int getBarracksCost() {
-      return barracksCost_;
+    public int getResources() {
+      return resources_;
     }
     /**
-     * <code>int32 barracks_cost = 15;</code>
-     * @param value The barracksCost to set.
+     * <code>int32 resources = 7;</code>
+     * @param value The resources to set.
      * @return This builder for chaining.
      */
-    public Builder setBarracksCost(int value) {
+    public Builder setResources(int value) {
       
-      barracksCost_ = value;
+      resources_ = value;
       onChanged();
       return this;
     }
     /**
-     * <code>int32 barracks_cost = 15;</code>
+     * <code>int32 resources = 7;</code>
      * @return This builder for chaining.
      */
-    public Builder clearBarracksCost() {
+    public Builder clearResources() {
       
-      barracksCost_ = 0;
+      resources_ = 0;
       onChanged();
       return this;
     }
@@ -2072,68 +1616,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
 
-    private int initialEnemyWorker_ ;
-    /**
-     * <code>int32 initial_enemy_worker = 22;</code>
-     * @return The initialEnemyWorker.
-     */
-    @java.lang.Override
-    public int getInitialEnemyWorker() {
-      return initialEnemyWorker_;
-    }
-    /**
-     * <code>int32 initial_enemy_worker = 22;</code>
-     * @param value The initialEnemyWorker to set.
-     * @return This builder for chaining.
-     */
-    public Builder setInitialEnemyWorker(int value) {
-      
-      initialEnemyWorker_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 initial_enemy_worker = 22;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearInitialEnemyWorker() {
-      
-      initialEnemyWorker_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private int observedEnemyWorker_ ;
-    /**
-     * <code>int32 observed_enemy_worker = 23;</code>
-     * @return The observedEnemyWorker.
-     */
-    @java.lang.Override
-    public int getObservedEnemyWorker() {
-      return observedEnemyWorker_;
-    }
-    /**
-     * <code>int32 observed_enemy_worker = 23;</code>
-     * @param value The observedEnemyWorker to set.
-     * @return This builder for chaining.
-     */
-    public Builder setObservedEnemyWorker(int value) {
-      
-      observedEnemyWorker_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 observed_enemy_worker = 23;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearObservedEnemyWorker() {
-      
-      observedEnemyWorker_ = 0;
-      onChanged();
-      return this;
-    }
-
     private int observedEnemyHeavy_ ;
     /**
      * <code>int32 observed_enemy_heavy = 24;</code>
@@ -2227,37 +1709,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
 
-    private int observedEnemyWorkerInTotal_ ;
-    /**
-     * <code>int32 observed_enemy_worker_in_total = 27;</code>
-     * @return The observedEnemyWorkerInTotal.
-     */
-    @java.lang.Override
-    public int getObservedEnemyWorkerInTotal() {
-      return observedEnemyWorkerInTotal_;
-    }
-    /**
-     * <code>int32 observed_enemy_worker_in_total = 27;</code>
-     * @param value The observedEnemyWorkerInTotal to set.
-     * @return This builder for chaining.
-     */
-    public Builder setObservedEnemyWorkerInTotal(int value) {
-      
-      observedEnemyWorkerInTotal_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 observed_enemy_worker_in_total = 27;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearObservedEnemyWorkerInTotal() {
-      
-      observedEnemyWorkerInTotal_ = 0;
-      onChanged();
-      return this;
-    }
-
     private int observedEnemyHeavyInTotal_ ;
     /**
      * <code>int32 observed_enemy_heavy_in_total = 28;</code>
@@ -2412,6 +1863,445 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private com.google.protobuf.Internal.IntList previousAssignment_ = emptyIntList();
+    private void ensurePreviousAssignmentIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        previousAssignment_ = mutableCopy(previousAssignment_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables found at the previous decision, to start the search from.
+     * Empty at the first decision of a game.
+     * </pre>
+     *
+     * <code>repeated int32 previous_assignment = 33;</code>
+     * @return A list containing the previousAssignment.
+     */
+    public java.util.List<java.lang.Integer>
+        getPreviousAssignmentList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(previousAssignment_) : previousAssignment_;
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables found at the previous decision, to start the search from.
+     * Empty at the first decision of a game.
+     * </pre>
+     *
+     * <code>repeated int32 previous_assignment = 33;</code>
+     * @return The count of previousAssignment.
+     */
+    public int getPreviousAssignmentCount() {
+      return previousAssignment_.size();
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables found at the previous decision, to start the search from.
+     * Empty at the first decision of a game.
+     * </pre>
+     *
+     * <code>repeated int32 previous_assignment = 33;</code>
+     * @param index The index of the element to return.
+     * @return The previousAssignment at the given index.
+     */
+    public int getPreviousAssignment(int index) {
+      return previousAssignment_.getInt(index);
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables found at the previous decision, to start the search from.
+     * Empty at the first decision of a game.
+     * </pre>
+     *
+     * <code>repeated int32 previous_assignment = 33;</code>
+     * @param index The index to set the value at.
+     * @param value The previousAssignment to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPreviousAssignment(
+        int index, int value) {
+      ensurePreviousAssignmentIsMutable();
+      previousAssignment_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables found at the previous decision, to start the search from.
+     * Empty at the first decision of a game.
+     * </pre>
+     *
+     * <code>repeated int32 previous_assignment = 33;</code>
+     * @param value The previousAssignment to add.
+     * @return This builder for chaining.
+     */
+    public Builder addPreviousAssignment(int value) {
+      ensurePreviousAssignmentIsMutable();
+      previousAssignment_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables found at the previous decision, to start the search from.
+     * Empty at the first decision of a game.
+     * </pre>
+     *
+     * <code>repeated int32 previous_assignment = 33;</code>
+     * @param values The previousAssignment to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllPreviousAssignment(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensurePreviousAssignmentIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, previousAssignment_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables found at the previous decision, to start the search from.
+     * Empty at the first decision of a game.
+     * </pre>
+     *
+     * <code>repeated int32 previous_assignment = 33;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPreviousAssignment() {
+      previousAssignment_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+
+    private int timeBudgetUs_ ;
+    /**
+     * <pre>
+     * Time the solver may spend on this request, in microseconds. 0 means the solver's default.
+     * </pre>
+     *
+     * <code>int32 time_budget_us = 34;</code>
+     * @return The timeBudgetUs.
+     */
+    @java.lang.Override
+    public int getTimeBudgetUs() {
+      return timeBudgetUs_;
+    }
+    /**
+     * <pre>
+     * Time the solver may spend on this request, in microseconds. 0 means the solver's default.
+     * </pre>
+     *
+     * <code>int32 time_budget_us = 34;</code>
+     * @param value The timeBudgetUs to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTimeBudgetUs(int value) {
+      
+      timeBudgetUs_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Time the solver may spend on this request, in microseconds. 0 means the solver's default.
+     * </pre>
+     *
+     * <code>int32 time_budget_us = 34;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTimeBudgetUs() {
+      
+      timeBudgetUs_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int minSamples_ ;
+    /**
+     * <pre>
+     * Samples are drawn until their compositions stabilize, between min_samples and nb_samples.
+     * 0 draws exactly nb_samples.
+     * </pre>
+     *
+     * <code>int32 min_samples = 35;</code>
+     * @return The minSamples.
+     */
+    @java.lang.Override
+    public int getMinSamples() {
+      return minSamples_;
+    }
+    /**
+     * <pre>
+     * Samples are drawn until their compositions stabilize, between min_samples and nb_samples.
+     * 0 draws exactly nb_samples.
+     * </pre>
+     *
+     * <code>int32 min_samples = 35;</code>
+     * @param value The minSamples to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMinSamples(int value) {
+      
+      minSamples_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Samples are drawn until their compositions stabilize, between min_samples and nb_samples.
+     * 0 draws exactly nb_samples.
+     * </pre>
+     *
+     * <code>int32 min_samples = 35;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMinSamples() {
+      
+      minSamples_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int estimatedRemainingResources_ ;
+    /**
+     * <pre>
+     * Resources the opponent has not spent yet, estimated by microPhantom along the game.
+     * </pre>
+     *
+     * <code>int32 estimated_remaining_resources = 36;</code>
+     * @return The estimatedRemainingResources.
+     */
+    @java.lang.Override
+    public int getEstimatedRemainingResources() {
+      return estimatedRemainingResources_;
+    }
+    /**
+     * <pre>
+     * Resources the opponent has not spent yet, estimated by microPhantom along the game.
+     * </pre>
+     *
+     * <code>int32 estimated_remaining_resources = 36;</code>
+     * @param value The estimatedRemainingResources to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEstimatedRemainingResources(int value) {
+      
+      estimatedRemainingResources_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Resources the opponent has not spent yet, estimated by microPhantom along the game.
+     * </pre>
+     *
+     * <code>int32 estimated_remaining_resources = 36;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearEstimatedRemainingResources() {
+      
+      estimatedRemainingResources_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int allSolverTypes_ ;
+    /**
+     * <pre>
+     * 1 to also solve the problem for the 3 solver types over the same samples, see SolutionBuffer.plans.
+     * </pre>
+     *
+     * <code>int32 all_solver_types = 37;</code>
+     * @return The allSolverTypes.
+     */
+    @java.lang.Override
+    public int getAllSolverTypes() {
+      return allSolverTypes_;
+    }
+    /**
+     * <pre>
+     * 1 to also solve the problem for the 3 solver types over the same samples, see SolutionBuffer.plans.
+     * </pre>
+     *
+     * <code>int32 all_solver_types = 37;</code>
+     * @param value The allSolverTypes to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAllSolverTypes(int value) {
+      
+      allSolverTypes_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 1 to also solve the problem for the 3 solver types over the same samples, see SolutionBuffer.plans.
+     * </pre>
+     *
+     * <code>int32 all_solver_types = 37;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAllSolverTypes() {
+      
+      allSolverTypes_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int numberThreads_ ;
+    /**
+     * <pre>
+     * Number of search threads. 0 means the solver's default.
+     * </pre>
+     *
+     * <code>int32 number_threads = 38;</code>
+     * @return The numberThreads.
+     */
+    @java.lang.Override
+    public int getNumberThreads() {
+      return numberThreads_;
+    }
+    /**
+     * <pre>
+     * Number of search threads. 0 means the solver's default.
+     * </pre>
+     *
+     * <code>int32 number_threads = 38;</code>
+     * @param value The numberThreads to set.
+     * @return This builder for chaining.
+     */
+    public Builder setNumberThreads(int value) {
+      
+      numberThreads_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Number of search threads. 0 means the solver's default.
+     * </pre>
+     *
+     * <code>int32 number_threads = 38;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearNumberThreads() {
+      
+      numberThreads_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList cpus_ = emptyIntList();
+    private void ensureCpusIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        cpus_ = mutableCopy(cpus_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <pre>
+     * CPUs the search threads are pinned to. Empty means no pinning.
+     * </pre>
+     *
+     * <code>repeated int32 cpus = 39;</code>
+     * @return A list containing the cpus.
+     */
+    public java.util.List<java.lang.Integer>
+        getCpusList() {
+      return ((bitField0_ & 0x00000002) != 0) ?
+               java.util.Collections.unmodifiableList(cpus_) : cpus_;
+    }
+    /**
+     * <pre>
+     * CPUs the search threads are pinned to. Empty means no pinning.
+     * </pre>
+     *
+     * <code>repeated int32 cpus = 39;</code>
+     * @return The count of cpus.
+     */
+    public int getCpusCount() {
+      return cpus_.size();
+    }
+    /**
+     * <pre>
+     * CPUs the search threads are pinned to. Empty means no pinning.
+     * </pre>
+     *
+     * <code>repeated int32 cpus = 39;</code>
+     * @param index The index of the element to return.
+     * @return The cpus at the given index.
+     */
+    public int getCpus(int index) {
+      return cpus_.getInt(index);
+    }
+    /**
+     * <pre>
+     * CPUs the search threads are pinned to. Empty means no pinning.
+     * </pre>
+     *
+     * <code>repeated int32 cpus = 39;</code>
+     * @param index The index to set the value at.
+     * @param value The cpus to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCpus(
+        int index, int value) {
+      ensureCpusIsMutable();
+      cpus_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * CPUs the search threads are pinned to. Empty means no pinning.
+     * </pre>
+     *
+     * <code>repeated int32 cpus = 39;</code>
+     * @param value The cpus to add.
+     * @return This builder for chaining.
+     */
+    public Builder addCpus(int value) {
+      ensureCpusIsMutable();
+      cpus_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * CPUs the search threads are pinned to. Empty means no pinning.
+     * </pre>
+     *
+     * <code>repeated int32 cpus = 39;</code>
+     * @param values The cpus to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllCpus(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureCpusIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, cpus_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * CPUs the search threads are pinned to. Empty means no pinning.
+     * </pre>
+     *
+     * <code>repeated int32 cpus = 39;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCpus() {
+      cpus_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -19,84 +19,12 @@ public interface GameStateBufferOrBuilder extends
    */
   int getNbBarracks();
 
-  /**
-   * <code>int32 min_distance_resource_base = 3;</code>
-   * @return The minDistanceResourceBase.
-   */
-  int getMinDistanceResourceBase();
-
-  /**
-   * <code>int32 max_distance_resource_base = 4;</code>
-   * @return The maxDistanceResourceBase.
-   */
-  int getMaxDistanceResourceBase();
-
-  /**
-   * <code>int32 no_initial_base = 5;</code>
-   * @return The noInitialBase.
-   */
-  int getNoInitialBase();
-
-  /**
-   * <code>int32 no_initial_barracks = 6;</code>
-   * @return The noInitialBarracks.
-   */
-  int getNoInitialBarracks();
-
   /**
    * <code>int32 resources = 7;</code>
    * @return The resources.
    */
   int getResources();
 
-  /**
-   * <code>int32 initial_resources = 8;</code>
-   * @return The initialResources.
-   */
-  int getInitialResources();
-
-  /**
-   * <code>int32 enemy_resources_loss = 9;</code>
-   * @return The enemyResourcesLoss.
-   */
-  int getEnemyResourcesLoss();
-
-  /**
-   * <code>int32 worker_move_time = 10;</code>
-   * @return The workerMoveTime.
-   */
-  int getWorkerMoveTime();
-
-  /**
-   * <code>int32 worker_harvest_time = 11;</code>
-   * @return The workerHarvestTime.
-   */
-  int getWorkerHarvestTime();
-
-  /**
-   * <code>int32 worker_return_time = 12;</code>
-   * @return The workerReturnTime.
-   */
-  int getWorkerReturnTime();
-
-  /**
-   * <code>int32 harvest_amount = 13;</code>
-   * @return The harvestAmount.
-   */
-  int getHarvestAmount();
-
-  /**
-   * <code>int32 base_cost = 14;</code>
-   * @return The baseCost.
-   */
-  int getBaseCost();
-
-  /**
-   * <code>int32 barracks_cost = 15;</code>
-   * @return The barracksCost.
-   */
-  int getBarracksCost();
-
   /**
    * <code>int32 heavy_cost = 16;</code>
    * @return The heavyCost.
@@ -133,18 +61,6 @@ public interface GameStateBufferOrBuilder extends
    */
   int getMyRangedUnits();
 
-  /**
-   * <code>int32 initial_enemy_worker = 22;</code>
-   * @return The initialEnemyWorker.
-   */
-  int getInitialEnemyWorker();
-
-  /**
-   * <code>int32 observed_enemy_worker = 23;</code>
-   * @return The observedEnemyWorker.
-   */
-  int getObservedEnemyWorker();
-
   /**
    * <code>int32 observed_enemy_heavy = 24;</code>
    * @return The observedEnemyHeavy.
@@ -163,12 +79,6 @@ public interface GameStateBufferOrBuilder extends
    */
   int getObservedEnemyRanged();
 
-  /**
-   * <code>int32 observed_enemy_worker_in_total = 27;</code>
-   * @return The observedEnemyWorkerInTotal.
-   */
-  int getObservedEnemyWorkerInTotal();
-
   /**
    * <code>int32 observed_enemy_heavy_in_total = 28;</code>
    * @return The observedEnemyHeavyInTotal.
@@ -198,4 +108,116 @@ public interface GameStateBufferOrBuilder extends
    * @return The nbSamples.
    */
   int getNbSamples();
+
+  /**
+   * <pre>
+   * Assignment of the 12 model variables found at the previous decision, to start the search from.
+   * Empty at the first decision of a game.
+   * </pre>
+   *
+   * <code>repeated int32 previous_assignment = 33;</code>
+   * @return A list containing the previousAssignment.
+   */
+  java.util.List<java.lang.Integer> getPreviousAssignmentList();
+  /**
+   * <pre>
+   * Assignment of the 12 model variables found at the previous decision, to start the search from.
+   * Empty at the first decision of a game.
+   * </pre>
+   *
+   * <code>repeated int32 previous_assignment = 33;</code>
+   * @return The count of previousAssignment.
+   */
+  int getPreviousAssignmentCount();
+  /**
+   * <pre>
+   * Assignment of the 12 model variables found at the previous decision, to start the search from.
+   * Empty at the first decision of a game.
+   * </pre>
+   *
+   * <code>repeated int32 previous_assignment = 33;</code>
+   * @param index The index of the element to return.
+   * @return The previousAssignment at the given index.
+   */
+  int getPreviousAssignment(int index);
+
+  /**
+   * <pre>
+   * Time the solver may spend on this request, in microseconds. 0 means the solver's default.
+   * </pre>
+   *
+   * <code>int32 time_budget_us = 34;</code>
+   * @return The timeBudgetUs.
+   */
+  int getTimeBudgetUs();
+
+  /**
+   * <pre>
+   * Samples are drawn until their compositions stabilize, between min_samples and nb_samples.
+   * 0 draws exactly nb_samples.
+   * </pre>
+   *
+   * <code>int32 min_samples = 35;</code>
+   * @return The minSamples.
+   */
+  int getMinSamples();
+
+  /**
+   * <pre>
+   * Resources the opponent has not spent yet, estimated by microPhantom along the game.
+   * </pre>
+   *
+   * <code>int32 estimated_remaining_resources = 36;</code>
+   * @return The estimatedRemainingResources.
+   */
+  int getEstimatedRemainingResources();
+
+  /**
+   * <pre>
+   * 1 to also solve the problem for the 3 solver types over the same samples, see SolutionBuffer.plans.
+   * </pre>
+   *
+   * <code>int32 all_solver_types = 37;</code>
+   * @return The allSolverTypes.
+   */
+  int getAllSolverTypes();
+
+  /**
+   * <pre>
+   * Number of search threads. 0 means the solver's default.
+   * </pre>
+   *
+   * <code>int32 number_threads = 38;</code>
+   * @return The numberThreads.
+   */
+  int getNumberThreads();
+
+  /**
+   * <pre>
+   * CPUs the search threads are pinned to. Empty means no pinning.
+   * </pre>
+   *
+   * <code>repeated int32 cpus = 39;</code>
+   * @return A list containing the cpus.
+   */
+  java.util.List<java.lang.Integer> getCpusList();
+  /**
+   * <pre>
+   * CPUs the search threads are pinned to. Empty means no pinning.
+   * </pre>
+   *
+   * <code>repeated int32 cpus = 39;</code>
+   * @return The count of cpus.
+   */
+  int getCpusCount();
+  /**
+   * <pre>
+   * CPUs the search threads are pinned to. Empty means no pinning.
+   * </pre>
+   *
+   * <code>repeated int32 cpus = 39;</code>
+   * @param index The index of the element to return.
+   * @return The cpus at the given index.
+   */
+  int getCpus(int index);
 }
@@ -33,33 +33,31 @@ public final class MicroPhantomProtos {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\022microphantom.proto\"\370\006\n\017GameStateBuffer" +
-      "\022\014\n\004time\030\001 \001(\005\022\023\n\013nb_barracks\030\002 \001(\005\022\"\n\032m" +
-      "in_distance_resource_base\030\003 \001(\005\022\"\n\032max_d" +
-      "istance_resource_base\030\004 \001(\005\022\027\n\017no_initia" +
-      "l_base\030\005 \001(\005\022\033\n\023no_initial_barracks\030\006 \001(" +
-      "\005\022\021\n\tresources\030\007 \001(\005\022\031\n\021initial_resource" +
-      "s\030\010 \001(\005\022\034\n\024enemy_resources_loss\030\t \001(\005\022\030\n" +
-      "\020worker_move_time\030\n \001(\005\022\033\n\023worker_harves" +
-      "t_time\030\013 \001(\005\022\032\n\022worker_return_time\030\014 \001(\005" +
-      "\022\026\n\016harvest_amount\030\r \001(\005\022\021\n\tbase_cost\030\016 " +
-      "\001(\005\022\025\n\rbarracks_cost\030\017 \001(\005\022\022\n\nheavy_cost" +
-      "\030\020 \001(\005\022\022\n\nlight_cost\030\021 \001(\005\022\023\n\013ranged_cos" +
-      "t\030\022 \001(\005\022\026\n\016my_heavy_units\030\023 \001(\005\022\026\n\016my_li" +
-      "ght_units\030\024 \001(\005\022\027\n\017my_ranged_units\030\025 \001(\005" +
-      "\022\034\n\024initial_enemy_worker\030\026 \001(\005\022\035\n\025observ" +
-      "ed_enemy_worker\030\027 \001(\005\022\034\n\024observed_enemy_" +
-      "heavy\030\030 \001(\005\022\034\n\024observed_enemy_light\030\031 \001(" +
-      "\005\022\035\n\025observed_enemy_ranged\030\032 \001(\005\022&\n\036obse" +
-      "rved_enemy_worker_in_total\030\033 \001(\005\022%\n\035obse" +
-      "rved_enemy_heavy_in_total\030\034 \001(\005\022%\n\035obser" +
-      "ved_enemy_light_in_total\030\035 \001(\005\022&\n\036observ" +
-      "ed_enemy_ranged_in_total\030\036 \001(\005\022\023\n\013solver" +
-      "_type\030\037 \001(\005\022\022\n\nnb_samples\030  \001(\005\"S\n\016Solut" +
-      "ionBuffer\022\024\n\014number_heavy\030\001 \001(\005\022\024\n\014numbe" +
-      "r_light\030\002 \001(\005\022\025\n\rnumber_ranged\030\003 \001(\005B/\n\027" +
-      "com.microphantom.protosB\022MicroPhantomPro" +
-      "tosP\001b\006proto3"
+      "\n\022microphantom.proto\"\226\005\n\017GameStateBuffer" +
+      "\022\014\n\004time\030\001 \001(\005\022\023\n\013nb_barracks\030\002 \001(\005\022\021\n\tr" +
+      "esources\030\007 \001(\005\022\022\n\nheavy_cost\030\020 \001(\005\022\022\n\nli" +
+      "ght_cost\030\021 \001(\005\022\023\n\013ranged_cost\030\022 \001(\005\022\026\n\016m" +
+      "y_heavy_units\030\023 \001(\005\022\026\n\016my_light_units\030\024 " +
+      "\001(\005\022\027\n\017my_ranged_units\030\025 \001(\005\022\034\n\024observed" +
+      "_enemy_heavy\030\030 \001(\005\022\034\n\024observed_enemy_lig" +
+      "ht\030\031 \001(\005\022\035\n\025observed_enemy_ranged\030\032 \001(\005\022" +
+      "%\n\035observed_enemy_heavy_in_total\030\034 \001(\005\022%" +
+      "\n\035observed_enemy_light_in_total\030\035 \001(\005\022&\n" +
+      "\036observed_enemy_ranged_in_total\030\036 \001(\005\022\023\n" +
+      "\013solver_type\030\037 \001(\005\022\022\n\nnb_samples\030  \001(\005\022\033" +
+      "\n\023previous_assignment\030! \003(\005\022\026\n\016time_budg" +
+      "et_us\030\" \001(\005\022\023\n\013min_samples\030# \001(\005\022%\n\035esti" +
+      "mated_remaining_resources\030$ \001(\005\022\030\n\020all_s" +
+      "olver_types\030% \001(\005\022\026\n\016number_threads\030& \001(" +
+      "\005\022\014\n\004cpus\030\' \003(\005J\004\010\003\020\007J\004\010\010\020\020J\004\010\026\020\027J\004\010\027\020\030J" +
+      "\004\010\033\020\034\"\343\001\n\016SolutionBuffer\022\024\n\014number_heavy" +
+      "\030\001 \001(\005\022\024\n\014number_light\030\002 \001(\005\022\025\n\rnumber_r" +
+      "anged\030\003 \001(\005\022\022\n\nassignment\030\004 \003(\005\022\r\n\005plans" +
+      "\030\005 \003(\005\022\030\n\020plan_assignments\030\006 \003(\005\022\025\n\rsolv" +
+      "e_time_us\030\007 \001(\005\022\021\n\tsatisfied\030\010 \001(\005\022\014\n\004co" +
+      "st\030\t \001(\001\022\031\n\021search_iterations\030\n \001(\005B/\n\027c" +
+      "om.microphantom.protosB\022MicroPhantomProt" +
+      "osP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -70,13 +68,13 @@ public final class MicroPhantomProtos {
     internal_static_GameStateBuffer_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GameStateBuffer_descriptor,
-        new java.lang.String[] { "Time", "NbBarracks", "MinDistanceResourceBase", "MaxDistanceResourceBase", "NoInitialBase", "NoInitialBarracks", "Resources", "InitialResources", "EnemyResourcesLoss", "WorkerMoveTime", "WorkerHarvestTime", "WorkerReturnTime", "HarvestAmount", "BaseCost", "BarracksCost", "HeavyCost", "LightCost", "RangedCost", "MyHeavyUnits", "MyLightUnits", "MyRangedUnits", "InitialEnemyWorker", "ObservedEnemyWorker", "ObservedEnemyHeavy", "ObservedEnemyLight", "ObservedEnemyRanged", "ObservedEnemyWorkerInTotal", "ObservedEnemyHeavyInTotal", "ObservedEnemyLightInTotal", "ObservedEnemyRangedInTotal", "SolverType", "NbSamples", });
+        new java.lang.String[] { "Time", "NbBarracks", "Resources", "HeavyCost", "LightCost", "RangedCost", "MyHeavyUnits", "MyLightUnits", "MyRangedUnits", "ObservedEnemyHeavy", "ObservedEnemyLight", "ObservedEnemyRanged", "ObservedEnemyHeavyInTotal", "ObservedEnemyLightInTotal", "ObservedEnemyRangedInTotal", "SolverType", "NbSamples", "PreviousAssignment", "TimeBudgetUs", "MinSamples", "EstimatedRemainingResources", "AllSolverTypes", "NumberThreads", "Cpus", });
     internal_static_SolutionBuffer_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_SolutionBuffer_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_SolutionBuffer_descriptor,
-        new java.lang.String[] { "NumberHeavy", "NumberLight", "NumberRanged", });
+        new java.lang.String[] { "NumberHeavy", "NumberLight", "NumberRanged", "Assignment", "Plans", "PlanAssignments", "SolveTimeUs", "Satisfied", "Cost", "SearchIterations", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -16,6 +16,9 @@ private static final long serialVersionUID = 0L;
     super(builder);
   }
   private SolutionBuffer() {
+    assignment_ = emptyIntList();
+    plans_ = emptyIntList();
+    planAssignments_ = emptyIntList();
   }
 
   @java.lang.Override
@@ -38,6 +41,7 @@ private static final long serialVersionUID = 0L;
     if (extensionRegistry == null) {
       throw new java.lang.NullPointerException();
     }
+    int mutable_bitField0_ = 0;
     com.google.protobuf.UnknownFieldSet.Builder unknownFields =
         com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
@@ -63,6 +67,89 @@ private static final long serialVersionUID = 0L;
             numberRanged_ = input.readInt32();
             break;
           }
+          case 32: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              assignment_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            assignment_.addInt(input.readInt32());
+            break;
+          }
+          case 34: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              assignment_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              assignment_.addInt(input.readInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 40: {
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              plans_ = newIntList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            plans_.addInt(input.readInt32());
+            break;
+          }
+          case 42: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+              plans_ = newIntList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              plans_.addInt(input.readInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 48: {
+            if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+              planAssignments_ = newIntList();
+              mutable_bitField0_ |= 0x00000004;
+            }
+            planAssignments_.addInt(input.readInt32());
+            break;
+          }
+          case 50: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000004) != 0) && input.getBytesUntilLimit() > 0) {
+              planAssignments_ = newIntList();
+              mutable_bitField0_ |= 0x00000004;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              planAssignments_.addInt(input.readInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 56: {
+
+            solveTimeUs_ = input.readInt32();
+            break;
+          }
+          case 64: {
+
+            satisfied_ = input.readInt32();
+            break;
+          }
+          case 73: {
+
+            cost_ = input.readDouble();
+            break;
+          }
+          case 80: {
+
+            searchIterations_ = input.readInt32();
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -78,6 +165,15 @@ private static final long serialVersionUID = 0L;
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        assignment_.makeImmutable(); // C
+      }
+      if (((mutable_bitField0_ & 0x00000002) != 0)) {
+        plans_.makeImmutable(); // C
+      }
+      if (((mutable_bitField0_ & 0x00000004) != 0)) {
+        planAssignments_.makeImmutable(); // C
+      }
       this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
@@ -128,6 +224,186 @@ private static final long serialVersionUID = 0L;
     return numberRanged_;
   }
 
+  public static final int ASSIGNMENT_FIELD_NUMBER = 4;
+  private com.google.protobuf.Internal.IntList assignment_;
+  /**
+   * <pre>
+   * Assignment of the 12 model variables the numbers above come from.
+   * </pre>
+   *
+   * <code>repeated int32 assignment = 4;</code>
+   * @return A list containing the assignment.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getAssignmentList() {
+    return assignment_;
+  }
+  /**
+   * <pre>
+   * Assignment of the 12 model variables the numbers above come from.
+   * </pre>
+   *
+   * <code>repeated int32 assignment = 4;</code>
+   * @return The count of assignment.
+   */
+  public int getAssignmentCount() {
+    return assignment_.size();
+  }
+  /**
+   * <pre>
+   * Assignment of the 12 model variables the numbers above come from.
+   * </pre>
+   *
+   * <code>repeated int32 assignment = 4;</code>
+   * @param index The index of the element to return.
+   * @return The assignment at the given index.
+   */
+  public int getAssignment(int index) {
+    return assignment_.getInt(index);
+  }
+  private int assignmentMemoizedSerializedSize = -1;
+
+  public static final int PLANS_FIELD_NUMBER = 5;
+  private com.google.protobuf.Internal.IntList plans_;
+  /**
+   * <pre>
+   * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+   * </pre>
+   *
+   * <code>repeated int32 plans = 5;</code>
+   * @return A list containing the plans.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getPlansList() {
+    return plans_;
+  }
+  /**
+   * <pre>
+   * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+   * </pre>
+   *
+   * <code>repeated int32 plans = 5;</code>
+   * @return The count of plans.
+   */
+  public int getPlansCount() {
+    return plans_.size();
+  }
+  /**
+   * <pre>
+   * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+   * </pre>
+   *
+   * <code>repeated int32 plans = 5;</code>
+   * @param index The index of the element to return.
+   * @return The plans at the given index.
+   */
+  public int getPlans(int index) {
+    return plans_.getInt(index);
+  }
+  private int plansMemoizedSerializedSize = -1;
+
+  public static final int PLAN_ASSIGNMENTS_FIELD_NUMBER = 6;
+  private com.google.protobuf.Internal.IntList planAssignments_;
+  /**
+   * <pre>
+   * With all_solver_types, the 12 variables of each plan.
+   * </pre>
+   *
+   * <code>repeated int32 plan_assignments = 6;</code>
+   * @return A list containing the planAssignments.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getPlanAssignmentsList() {
+    return planAssignments_;
+  }
+  /**
+   * <pre>
+   * With all_solver_types, the 12 variables of each plan.
+   * </pre>
+   *
+   * <code>repeated int32 plan_assignments = 6;</code>
+   * @return The count of planAssignments.
+   */
+  public int getPlanAssignmentsCount() {
+    return planAssignments_.size();
+  }
+  /**
+   * <pre>
+   * With all_solver_types, the 12 variables of each plan.
+   * </pre>
+   *
+   * <code>repeated int32 plan_assignments = 6;</code>
+   * @param index The index of the element to return.
+   * @return The planAssignments at the given index.
+   */
+  public int getPlanAssignments(int index) {
+    return planAssignments_.getInt(index);
+  }
+  private int planAssignmentsMemoizedSerializedSize = -1;
+
+  public static final int SOLVE_TIME_US_FIELD_NUMBER = 7;
+  private int solveTimeUs_;
+  /**
+   * <pre>
+   * Time the solver spent on the request, from sampling to the solution, in microseconds.
+   * </pre>
+   *
+   * <code>int32 solve_time_us = 7;</code>
+   * @return The solveTimeUs.
+   */
+  @java.lang.Override
+  public int getSolveTimeUs() {
+    return solveTimeUs_;
+  }
+
+  public static final int SATISFIED_FIELD_NUMBER = 8;
+  private int satisfied_;
+  /**
+   * <pre>
+   * 1 if the assignment satisfies all constraints.
+   * </pre>
+   *
+   * <code>int32 satisfied = 8;</code>
+   * @return The satisfied.
+   */
+  @java.lang.Override
+  public int getSatisfied() {
+    return satisfied_;
+  }
+
+  public static final int COST_FIELD_NUMBER = 9;
+  private double cost_;
+  /**
+   * <pre>
+   * Value of the objective function for the assignment, which we maximize.
+   * </pre>
+   *
+   * <code>double cost = 9;</code>
+   * @return The cost.
+   */
+  @java.lang.Override
+  public double getCost() {
+    return cost_;
+  }
+
+  public static final int SEARCH_ITERATIONS_FIELD_NUMBER = 10;
+  private int searchIterations_;
+  /**
+   * <pre>
+   * Number of search iterations, summed over search threads (and over solver types with all_solver_types).
+   * </pre>
+   *
+   * <code>int32 search_iterations = 10;</code>
+   * @return The searchIterations.
+   */
+  @java.lang.Override
+  public int getSearchIterations() {
+    return searchIterations_;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -142,6 +418,7 @@ private static final long serialVersionUID = 0L;
   @java.lang.Override
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
+    getSerializedSize();
     if (numberHeavy_ != 0) {
       output.writeInt32(1, numberHeavy_);
     }
@@ -151,6 +428,39 @@ private static final long serialVersionUID = 0L;
     if (numberRanged_ != 0) {
       output.writeInt32(3, numberRanged_);
     }
+    if (getAssignmentList().size() > 0) {
+      output.writeUInt32NoTag(34);
+      output.writeUInt32NoTag(assignmentMemoizedSerializedSize);
+    }
+    for (int i = 0; i < assignment_.size(); i++) {
+      output.writeInt32NoTag(assignment_.getInt(i));
+    }
+    if (getPlansList().size() > 0) {
+      output.writeUInt32NoTag(42);
+      output.writeUInt32NoTag(plansMemoizedSerializedSize);
+    }
+    for (int i = 0; i < plans_.size(); i++) {
+      output.writeInt32NoTag(plans_.getInt(i));
+    }
+    if (getPlanAssignmentsList().size() > 0) {
+      output.writeUInt32NoTag(50);
+      output.writeUInt32NoTag(planAssignmentsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < planAssignments_.size(); i++) {
+      output.writeInt32NoTag(planAssignments_.getInt(i));
+    }
+    if (solveTimeUs_ != 0) {
+      output.writeInt32(7, solveTimeUs_);
+    }
+    if (satisfied_ != 0) {
+      output.writeInt32(8, satisfied_);
+    }
+    if (cost_ != 0D) {
+      output.writeDouble(9, cost_);
+    }
+    if (searchIterations_ != 0) {
+      output.writeInt32(10, searchIterations_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -172,6 +482,64 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(3, numberRanged_);
     }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < assignment_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt32SizeNoTag(assignment_.getInt(i));
+      }
+      size += dataSize;
+      if (!getAssignmentList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      assignmentMemoizedSerializedSize = dataSize;
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < plans_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt32SizeNoTag(plans_.getInt(i));
+      }
+      size += dataSize;
+      if (!getPlansList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      plansMemoizedSerializedSize = dataSize;
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < planAssignments_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt32SizeNoTag(planAssignments_.getInt(i));
+      }
+      size += dataSize;
+      if (!getPlanAssignmentsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      planAssignmentsMemoizedSerializedSize = dataSize;
+    }
+    if (solveTimeUs_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(7, solveTimeUs_);
+    }
+    if (satisfied_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(8, satisfied_);
+    }
+    if (cost_ != 0D) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(9, cost_);
+    }
+    if (searchIterations_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(10, searchIterations_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -193,6 +561,21 @@ private static final long serialVersionUID = 0L;
         != other.getNumberLight()) return false;
     if (getNumberRanged()
         != other.getNumberRanged()) return false;
+    if (!getAssignmentList()
+        .equals(other.getAssignmentList())) return false;
+    if (!getPlansList()
+        .equals(other.getPlansList())) return false;
+    if (!getPlanAssignmentsList()
+        .equals(other.getPlanAssignmentsList())) return false;
+    if (getSolveTimeUs()
+        != other.getSolveTimeUs()) return false;
+    if (getSatisfied()
+        != other.getSatisfied()) return false;
+    if (java.lang.Double.doubleToLongBits(getCost())
+        != java.lang.Double.doubleToLongBits(
+            other.getCost())) return false;
+    if (getSearchIterations()
+        != other.getSearchIterations()) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -210,6 +593,27 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getNumberLight();
     hash = (37 * hash) + NUMBER_RANGED_FIELD_NUMBER;
     hash = (53 * hash) + getNumberRanged();
+    if (getAssignmentCount() > 0) {
+      hash = (37 * hash) + ASSIGNMENT_FIELD_NUMBER;
+      hash = (53 * hash) + getAssignmentList().hashCode();
+    }
+    if (getPlansCount() > 0) {
+      hash = (37 * hash) + PLANS_FIELD_NUMBER;
+      hash = (53 * hash) + getPlansList().hashCode();
+    }
+    if (getPlanAssignmentsCount() > 0) {
+      hash = (37 * hash) + PLAN_ASSIGNMENTS_FIELD_NUMBER;
+      hash = (53 * hash) + getPlanAssignmentsList().hashCode();
+    }
+    hash = (37 * hash) + SOLVE_TIME_US_FIELD_NUMBER;
+    hash = (53 * hash) + getSolveTimeUs();
+    hash = (37 * hash) + SATISFIED_FIELD_NUMBER;
+    hash = (53 * hash) + getSatisfied();
+    hash = (37 * hash) + COST_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getCost()));
+    hash = (37 * hash) + SEARCH_ITERATIONS_FIELD_NUMBER;
+    hash = (53 * hash) + getSearchIterations();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -349,6 +753,20 @@ private static final long serialVersionUID = 0L;
 
       numberRanged_ = 0;
 
+      assignment_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      plans_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      planAssignments_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000004);
+      solveTimeUs_ = 0;
+
+      satisfied_ = 0;
+
+      cost_ = 0D;
+
+      searchIterations_ = 0;
+
       return this;
     }
 
@@ -375,9 +793,29 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public com.microphantom.protos.SolutionBuffer buildPartial() {
       com.microphantom.protos.SolutionBuffer result = new com.microphantom.protos.SolutionBuffer(this);
+      int from_bitField0_ = bitField0_;
       result.numberHeavy_ = numberHeavy_;
       result.numberLight_ = numberLight_;
       result.numberRanged_ = numberRanged_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        assignment_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.assignment_ = assignment_;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        plans_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.plans_ = plans_;
+      if (((bitField0_ & 0x00000004) != 0)) {
+        planAssignments_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000004);
+      }
+      result.planAssignments_ = planAssignments_;
+      result.solveTimeUs_ = solveTimeUs_;
+      result.satisfied_ = satisfied_;
+      result.cost_ = cost_;
+      result.searchIterations_ = searchIterations_;
       onBuilt();
       return result;
     }
@@ -435,6 +873,48 @@ private static final long serialVersionUID = 0L;
       if (other.getNumberRanged() != 0) {
         setNumberRanged(other.getNumberRanged());
       }
+      if (!other.assignment_.isEmpty()) {
+        if (assignment_.isEmpty()) {
+          assignment_ = other.assignment_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureAssignmentIsMutable();
+          assignment_.addAll(other.assignment_);
+        }
+        onChanged();
+      }
+      if (!other.plans_.isEmpty()) {
+        if (plans_.isEmpty()) {
+          plans_ = other.plans_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensurePlansIsMutable();
+          plans_.addAll(other.plans_);
+        }
+        onChanged();
+      }
+      if (!other.planAssignments_.isEmpty()) {
+        if (planAssignments_.isEmpty()) {
+          planAssignments_ = other.planAssignments_;
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          ensurePlanAssignmentsIsMutable();
+          planAssignments_.addAll(other.planAssignments_);
+        }
+        onChanged();
+      }
+      if (other.getSolveTimeUs() != 0) {
+        setSolveTimeUs(other.getSolveTimeUs());
+      }
+      if (other.getSatisfied() != 0) {
+        setSatisfied(other.getSatisfied());
+      }
+      if (other.getCost() != 0D) {
+        setCost(other.getCost());
+      }
+      if (other.getSearchIterations() != 0) {
+        setSearchIterations(other.getSearchIterations());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -463,6 +943,7 @@ private static final long serialVersionUID = 0L;
       }
       return this;
     }
+    private int bitField0_;
 
     private int numberHeavy_ ;
     /**
@@ -556,6 +1037,499 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private com.google.protobuf.Internal.IntList assignment_ = emptyIntList();
+    private void ensureAssignmentIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        assignment_ = mutableCopy(assignment_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables the numbers above come from.
+     * </pre>
+     *
+     * <code>repeated int32 assignment = 4;</code>
+     * @return A list containing the assignment.
+     */
+    public java.util.List<java.lang.Integer>
+        getAssignmentList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(assignment_) : assignment_;
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables the numbers above come from.
+     * </pre>
+     *
+     * <code>repeated int32 assignment = 4;</code>
+     * @return The count of assignment.
+     */
+    public int getAssignmentCount() {
+      return assignment_.size();
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables the numbers above come from.
+     * </pre>
+     *
+     * <code>repeated int32 assignment = 4;</code>
+     * @param index The index of the element to return.
+     * @return The assignment at the given index.
+     */
+    public int getAssignment(int index) {
+      return assignment_.getInt(index);
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables the numbers above come from.
+     * </pre>
+     *
+     * <code>repeated int32 assignment = 4;</code>
+     * @param index The index to set the value at.
+     * @param value The assignment to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAssignment(
+        int index, int value) {
+      ensureAssignmentIsMutable();
+      assignment_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables the numbers above come from.
+     * </pre>
+     *
+     * <code>repeated int32 assignment = 4;</code>
+     * @param value The assignment to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAssignment(int value) {
+      ensureAssignmentIsMutable();
+      assignment_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables the numbers above come from.
+     * </pre>
+     *
+     * <code>repeated int32 assignment = 4;</code>
+     * @param values The assignment to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllAssignment(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureAssignmentIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, assignment_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Assignment of the 12 model variables the numbers above come from.
+     * </pre>
+     *
+     * <code>repeated int32 assignment = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAssignment() {
+      assignment_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList plans_ = emptyIntList();
+    private void ensurePlansIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        plans_ = mutableCopy(plans_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+     * </pre>
+     *
+     * <code>repeated int32 plans = 5;</code>
+     * @return A list containing the plans.
+     */
+    public java.util.List<java.lang.Integer>
+        getPlansList() {
+      return ((bitField0_ & 0x00000002) != 0) ?
+               java.util.Collections.unmodifiableList(plans_) : plans_;
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+     * </pre>
+     *
+     * <code>repeated int32 plans = 5;</code>
+     * @return The count of plans.
+     */
+    public int getPlansCount() {
+      return plans_.size();
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+     * </pre>
+     *
+     * <code>repeated int32 plans = 5;</code>
+     * @param index The index of the element to return.
+     * @return The plans at the given index.
+     */
+    public int getPlans(int index) {
+      return plans_.getInt(index);
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+     * </pre>
+     *
+     * <code>repeated int32 plans = 5;</code>
+     * @param index The index to set the value at.
+     * @param value The plans to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPlans(
+        int index, int value) {
+      ensurePlansIsMutable();
+      plans_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+     * </pre>
+     *
+     * <code>repeated int32 plans = 5;</code>
+     * @param value The plans to add.
+     * @return This builder for chaining.
+     */
+    public Builder addPlans(int value) {
+      ensurePlansIsMutable();
+      plans_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+     * </pre>
+     *
+     * <code>repeated int32 plans = 5;</code>
+     * @param values The plans to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllPlans(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensurePlansIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, plans_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+     * </pre>
+     *
+     * <code>repeated int32 plans = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPlans() {
+      plans_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList planAssignments_ = emptyIntList();
+    private void ensurePlanAssignmentsIsMutable() {
+      if (!((bitField0_ & 0x00000004) != 0)) {
+        planAssignments_ = mutableCopy(planAssignments_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the 12 variables of each plan.
+     * </pre>
+     *
+     * <code>repeated int32 plan_assignments = 6;</code>
+     * @return A list containing the planAssignments.
+     */
+    public java.util.List<java.lang.Integer>
+        getPlanAssignmentsList() {
+      return ((bitField0_ & 0x00000004) != 0) ?
+               java.util.Collections.unmodifiableList(planAssignments_) : planAssignments_;
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the 12 variables of each plan.
+     * </pre>
+     *
+     * <code>repeated int32 plan_assignments = 6;</code>
+     * @return The count of planAssignments.
+     */
+    public int getPlanAssignmentsCount() {
+      return planAssignments_.size();
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the 12 variables of each plan.
+     * </pre>
+     *
+     * <code>repeated int32 plan_assignments = 6;</code>
+     * @param index The index of the element to return.
+     * @return The planAssignments at the given index.
+     */
+    public int getPlanAssignments(int index) {
+      return planAssignments_.getInt(index);
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the 12 variables of each plan.
+     * </pre>
+     *
+     * <code>repeated int32 plan_assignments = 6;</code>
+     * @param index The index to set the value at.
+     * @param value The planAssignments to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPlanAssignments(
+        int index, int value) {
+      ensurePlanAssignmentsIsMutable();
+      planAssignments_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the 12 variables of each plan.
+     * </pre>
+     *
+     * <code>repeated int32 plan_assignments = 6;</code>
+     * @param value The planAssignments to add.
+     * @return This builder for chaining.
+     */
+    public Builder addPlanAssignments(int value) {
+      ensurePlanAssignmentsIsMutable();
+      planAssignments_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the 12 variables of each plan.
+     * </pre>
+     *
+     * <code>repeated int32 plan_assignments = 6;</code>
+     * @param values The planAssignments to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllPlanAssignments(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensurePlanAssignmentsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, planAssignments_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * With all_solver_types, the 12 variables of each plan.
+     * </pre>
+     *
+     * <code>repeated int32 plan_assignments = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPlanAssignments() {
+      planAssignments_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000004);
+      onChanged();
+      return this;
+    }
+
+    private int solveTimeUs_ ;
+    /**
+     * <pre>
+     * Time the solver spent on the request, from sampling to the solution, in microseconds.
+     * </pre>
+     *
+     * <code>int32 solve_time_us = 7;</code>
+     * @return The solveTimeUs.
+     */
+    @java.lang.Override
+    public int getSolveTimeUs() {
+      return solveTimeUs_;
+    }
+    /**
+     * <pre>
+     * Time the solver spent on the request, from sampling to the solution, in microseconds.
+     * </pre>
+     *
+     * <code>int32 solve_time_us = 7;</code>
+     * @param value The solveTimeUs to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSolveTimeUs(int value) {
+      
+      solveTimeUs_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Time the solver spent on the request, from sampling to the solution, in microseconds.
+     * </pre>
+     *
+     * <code>int32 solve_time_us = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSolveTimeUs() {
+      
+      solveTimeUs_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int satisfied_ ;
+    /**
+     * <pre>
+     * 1 if the assignment satisfies all constraints.
+     * </pre>
+     *
+     * <code>int32 satisfied = 8;</code>
+     * @return The satisfied.
+     */
+    @java.lang.Override
+    public int getSatisfied() {
+      return satisfied_;
+    }
+    /**
+     * <pre>
+     * 1 if the assignment satisfies all constraints.
+     * </pre>
+     *
+     * <code>int32 satisfied = 8;</code>
+     * @param value The satisfied to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSatisfied(int value) {
+      
+      satisfied_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 1 if the assignment satisfies all constraints.
+     * </pre>
+     *
+     * <code>int32 satisfied = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSatisfied() {
+      
+      satisfied_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private double cost_ ;
+    /**
+     * <pre>
+     * Value of the objective function for the assignment, which we maximize.
+     * </pre>
+     *
+     * <code>double cost = 9;</code>
+     * @return The cost.
+     */
+    @java.lang.Override
+    public double getCost() {
+      return cost_;
+    }
+    /**
+     * <pre>
+     * Value of the objective function for the assignment, which we maximize.
+     * </pre>
+     *
+     * <code>double cost = 9;</code>
+     * @param value The cost to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCost(double value) {
+      
+      cost_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Value of the objective function for the assignment, which we maximize.
+     * </pre>
+     *
+     * <code>double cost = 9;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCost() {
+      
+      cost_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private int searchIterations_ ;
+    /**
+     * <pre>
+     * Number of search iterations, summed over search threads (and over solver types with all_solver_types).
+     * </pre>
+     *
+     * <code>int32 search_iterations = 10;</code>
+     * @return The searchIterations.
+     */
+    @java.lang.Override
+    public int getSearchIterations() {
+      return searchIterations_;
+    }
+    /**
+     * <pre>
+     * Number of search iterations, summed over search threads (and over solver types with all_solver_types).
+     * </pre>
+     *
+     * <code>int32 search_iterations = 10;</code>
+     * @param value The searchIterations to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSearchIterations(int value) {
+      
+      searchIterations_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Number of search iterations, summed over search threads (and over solver types with all_solver_types).
+     * </pre>
+     *
+     * <code>int32 search_iterations = 10;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSearchIterations() {
+      
+      searchIterations_ = 0;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -24,4 +24,131 @@ public interface SolutionBufferOrBuilder extends
    * @return The numberRanged.
    */
   int getNumberRanged();
+
+  /**
+   * <pre>
+   * Assignment of the 12 model variables the numbers above come from.
+   * </pre>
+   *
+   * <code>repeated int32 assignment = 4;</code>
+   * @return A list containing the assignment.
+   */
+  java.util.List<java.lang.Integer> getAssignmentList();
+  /**
+   * <pre>
+   * Assignment of the 12 model variables the numbers above come from.
+   * </pre>
+   *
+   * <code>repeated int32 assignment = 4;</code>
+   * @return The count of assignment.
+   */
+  int getAssignmentCount();
+  /**
+   * <pre>
+   * Assignment of the 12 model variables the numbers above come from.
+   * </pre>
+   *
+   * <code>repeated int32 assignment = 4;</code>
+   * @param index The index of the element to return.
+   * @return The assignment at the given index.
+   */
+  int getAssignment(int index);
+
+  /**
+   * <pre>
+   * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+   * </pre>
+   *
+   * <code>repeated int32 plans = 5;</code>
+   * @return A list containing the plans.
+   */
+  java.util.List<java.lang.Integer> getPlansList();
+  /**
+   * <pre>
+   * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+   * </pre>
+   *
+   * <code>repeated int32 plans = 5;</code>
+   * @return The count of plans.
+   */
+  int getPlansCount();
+  /**
+   * <pre>
+   * With all_solver_types, the numbers of heavy, light and ranged units to produce for each solver type, in that order.
+   * </pre>
+   *
+   * <code>repeated int32 plans = 5;</code>
+   * @param index The index of the element to return.
+   * @return The plans at the given index.
+   */
+  int getPlans(int index);
+
+  /**
+   * <pre>
+   * With all_solver_types, the 12 variables of each plan.
+   * </pre>
+   *
+   * <code>repeated int32 plan_assignments = 6;</code>
+   * @return A list containing the planAssignments.
+   */
+  java.util.List<java.lang.Integer> getPlanAssignmentsList();
+  /**
+   * <pre>
+   * With all_solver_types, the 12 variables of each plan.
+   * </pre>
+   *
+   * <code>repeated int32 plan_assignments = 6;</code>
+   * @return The count of planAssignments.
+   */
+  int getPlanAssignmentsCount();
+  /**
+   * <pre>
+   * With all_solver_types, the 12 variables of each plan.
+   * </pre>
+   *
+   * <code>repeated int32 plan_assignments = 6;</code>
+   * @param index The index of the element to return.
+   * @return The planAssignments at the given index.
+   */
+  int getPlanAssignments(int index);
+
+  /**
+   * <pre>
+   * Time the solver spent on the request, from sampling to the solution, in microseconds.
+   * </pre>
+   *
+   * <code>int32 solve_time_us = 7;</code>
+   * @return The solveTimeUs.
+   */
+  int getSolveTimeUs();
+
+  /**
+   * <pre>
+   * 1 if the assignment satisfies all constraints.
+   * </pre>
+   *
+   * <code>int32 satisfied = 8;</code>
+   * @return The satisfied.
+   */
+  int getSatisfied();
+
+  /**
+   * <pre>
+   * Value of the objective function for the assignment, which we maximize.
+   * </pre>
+   *
+   * <code>double cost = 9;</code>
+   * @return The cost.
+   */
+  double getCost();
+
+  /**
+   * <pre>
+   * Number of search iterations, summed over search threads (and over solver types with all_solver_types).
+   * </pre>
+   *
+   * <code>int32 search_iterations = 10;</code>
+   * @return The searchIterations.
+   */
+  int getSearchIterations();
 }
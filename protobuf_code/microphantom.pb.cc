@@ -18,38 +18,32 @@
 PROTOBUF_PRAGMA_INIT_SEG
 constexpr GameStateBuffer::GameStateBuffer(
   ::PROTOBUF_NAMESPACE_ID::internal::ConstantInitialized)
-  : time_(0)
+  : previous_assignment_()
+  , _previous_assignment_cached_byte_size_()
+  , cpus_()
+  , _cpus_cached_byte_size_()
+  , time_(0)
   , nb_barracks_(0)
-  , min_distance_resource_base_(0)
-  , max_distance_resource_base_(0)
-  , no_initial_base_(0)
-  , no_initial_barracks_(0)
   , resources_(0)
-  , initial_resources_(0)
-  , enemy_resources_loss_(0)
-  , worker_move_time_(0)
-  , worker_harvest_time_(0)
-  , worker_return_time_(0)
-  , harvest_amount_(0)
-  , base_cost_(0)
-  , barracks_cost_(0)
   , heavy_cost_(0)
   , light_cost_(0)
   , ranged_cost_(0)
   , my_heavy_units_(0)
   , my_light_units_(0)
   , my_ranged_units_(0)
-  , initial_enemy_worker_(0)
-  , observed_enemy_worker_(0)
   , observed_enemy_heavy_(0)
   , observed_enemy_light_(0)
   , observed_enemy_ranged_(0)
-  , observed_enemy_worker_in_total_(0)
   , observed_enemy_heavy_in_total_(0)
   , observed_enemy_light_in_total_(0)
   , observed_enemy_ranged_in_total_(0)
   , solver_type_(0)
-  , nb_samples_(0){}
+  , nb_samples_(0)
+  , time_budget_us_(0)
+  , min_samples_(0)
+  , estimated_remaining_resources_(0)
+  , all_solver_types_(0)
+  , number_threads_(0){}
 struct GameStateBufferDefaultTypeInternal {
   constexpr GameStateBufferDefaultTypeInternal()
     : _instance(::PROTOBUF_NAMESPACE_ID::internal::ConstantInitialized{}) {}
@@ -61,9 +55,19 @@ struct GameStateBufferDefaultTypeInternal {
 PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT GameStateBufferDefaultTypeInternal _GameStateBuffer_default_instance_;
 constexpr SolutionBuffer::SolutionBuffer(
   ::PROTOBUF_NAMESPACE_ID::internal::ConstantInitialized)
-  : number_heavy_(0)
+  : assignment_()
+  , _assignment_cached_byte_size_()
+  , plans_()
+  , _plans_cached_byte_size_()
+  , plan_assignments_()
+  , _plan_assignments_cached_byte_size_()
+  , cost_(0)
+  , number_heavy_(0)
   , number_light_(0)
-  , number_ranged_(0){}
+  , number_ranged_(0)
+  , solve_time_us_(0)
+  , satisfied_(0)
+  , search_iterations_(0){}
 struct SolutionBufferDefaultTypeInternal {
   constexpr SolutionBufferDefaultTypeInternal()
     : _instance(::PROTOBUF_NAMESPACE_ID::internal::ConstantInitialized{}) {}
@@ -85,36 +89,28 @@ const ::PROTOBUF_NAMESPACE_ID::uint32 TableStruct_microphantom_2eproto::offsets[
   ~0u,  // no _weak_field_map_
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, time_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, nb_barracks_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, min_distance_resource_base_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, max_distance_resource_base_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, no_initial_base_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, no_initial_barracks_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, resources_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, initial_resources_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, enemy_resources_loss_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, worker_move_time_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, worker_harvest_time_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, worker_return_time_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, harvest_amount_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, base_cost_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, barracks_cost_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, heavy_cost_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, light_cost_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, ranged_cost_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, my_heavy_units_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, my_light_units_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, my_ranged_units_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, initial_enemy_worker_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, observed_enemy_worker_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, observed_enemy_heavy_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, observed_enemy_light_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, observed_enemy_ranged_),
-  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, observed_enemy_worker_in_total_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, observed_enemy_heavy_in_total_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, observed_enemy_light_in_total_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, observed_enemy_ranged_in_total_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, solver_type_),
   PROTOBUF_FIELD_OFFSET(::GameStateBuffer, nb_samples_),
+  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, previous_assignment_),
+  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, time_budget_us_),
+  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, min_samples_),
+  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, estimated_remaining_resources_),
+  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, all_solver_types_),
+  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, number_threads_),
+  PROTOBUF_FIELD_OFFSET(::GameStateBuffer, cpus_),
   ~0u,  // no _has_bits_
   PROTOBUF_FIELD_OFFSET(::SolutionBuffer, _internal_metadata_),
   ~0u,  // no _extensions_
@@ -123,10 +119,17 @@ const ::PROTOBUF_NAMESPACE_ID::uint32 TableStruct_microphantom_2eproto::offsets[
   PROTOBUF_FIELD_OFFSET(::SolutionBuffer, number_heavy_),
   PROTOBUF_FIELD_OFFSET(::SolutionBuffer, number_light_),
   PROTOBUF_FIELD_OFFSET(::SolutionBuffer, number_ranged_),
+  PROTOBUF_FIELD_OFFSET(::SolutionBuffer, assignment_),
+  PROTOBUF_FIELD_OFFSET(::SolutionBuffer, plans_),
+  PROTOBUF_FIELD_OFFSET(::SolutionBuffer, plan_assignments_),
+  PROTOBUF_FIELD_OFFSET(::SolutionBuffer, solve_time_us_),
+  PROTOBUF_FIELD_OFFSET(::SolutionBuffer, satisfied_),
+  PROTOBUF_FIELD_OFFSET(::SolutionBuffer, cost_),
+  PROTOBUF_FIELD_OFFSET(::SolutionBuffer, search_iterations_),
 };
 static const ::PROTOBUF_NAMESPACE_ID::internal::MigrationSchema schemas[] PROTOBUF_SECTION_VARIABLE(protodesc_cold) = {
   { 0, -1, sizeof(::GameStateBuffer)},
-  { 37, -1, sizeof(::SolutionBuffer)},
+  { 29, -1, sizeof(::SolutionBuffer)},
 };
 
 static ::PROTOBUF_NAMESPACE_ID::Message const * const file_default_instances[] = {
@@ -135,37 +138,35 @@ static ::PROTOBUF_NAMESPACE_ID::Message const * const file_default_instances[] =
 };
 
 const char descriptor_table_protodef_microphantom_2eproto[] PROTOBUF_SECTION_VARIABLE(protodesc_cold) =
-  "\n\022microphantom.proto\"\370\006\n\017GameStateBuffer"
-  "\022\014\n\004time\030\001 \001(\005\022\023\n\013nb_barracks\030\002 \001(\005\022\"\n\032m"
-  "in_distance_resource_base\030\003 \001(\005\022\"\n\032max_d"
-  "istance_resource_base\030\004 \001(\005\022\027\n\017no_initia"
-  "l_base\030\005 \001(\005\022\033\n\023no_initial_barracks\030\006 \001("
-  "\005\022\021\n\tresources\030\007 \001(\005\022\031\n\021initial_resource"
-  "s\030\010 \001(\005\022\034\n\024enemy_resources_loss\030\t \001(\005\022\030\n"
-  "\020worker_move_time\030\n \001(\005\022\033\n\023worker_harves"
-  "t_time\030\013 \001(\005\022\032\n\022worker_return_time\030\014 \001(\005"
-  "\022\026\n\016harvest_amount\030\r \001(\005\022\021\n\tbase_cost\030\016 "
-  "\001(\005\022\025\n\rbarracks_cost\030\017 \001(\005\022\022\n\nheavy_cost"
-  "\030\020 \001(\005\022\022\n\nlight_cost\030\021 \001(\005\022\023\n\013ranged_cos"
-  "t\030\022 \001(\005\022\026\n\016my_heavy_units\030\023 \001(\005\022\026\n\016my_li"
-  "ght_units\030\024 \001(\005\022\027\n\017my_ranged_units\030\025 \001(\005"
-  "\022\034\n\024initial_enemy_worker\030\026 \001(\005\022\035\n\025observ"
-  "ed_enemy_worker\030\027 \001(\005\022\034\n\024observed_enemy_"
-  "heavy\030\030 \001(\005\022\034\n\024observed_enemy_light\030\031 \001("
-  "\005\022\035\n\025observed_enemy_ranged\030\032 \001(\005\022&\n\036obse"
-  "rved_enemy_worker_in_total\030\033 \001(\005\022%\n\035obse"
-  "rved_enemy_heavy_in_total\030\034 \001(\005\022%\n\035obser"
-  "ved_enemy_light_in_total\030\035 \001(\005\022&\n\036observ"
-  "ed_enemy_ranged_in_total\030\036 \001(\005\022\023\n\013solver"
-  "_type\030\037 \001(\005\022\022\n\nnb_samples\030  \001(\005\"S\n\016Solut"
-  "ionBuffer\022\024\n\014number_heavy\030\001 \001(\005\022\024\n\014numbe"
-  "r_light\030\002 \001(\005\022\025\n\rnumber_ranged\030\003 \001(\005B/\n\027"
-  "com.microphantom.protosB\022MicroPhantomPro"
-  "tosP\001b\006proto3"
+  "\n\022microphantom.proto\"\226\005\n\017GameStateBuffer"
+  "\022\014\n\004time\030\001 \001(\005\022\023\n\013nb_barracks\030\002 \001(\005\022\021\n\tr"
+  "esources\030\007 \001(\005\022\022\n\nheavy_cost\030\020 \001(\005\022\022\n\nli"
+  "ght_cost\030\021 \001(\005\022\023\n\013ranged_cost\030\022 \001(\005\022\026\n\016m"
+  "y_heavy_units\030\023 \001(\005\022\026\n\016my_light_units\030\024 "
+  "\001(\005\022\027\n\017my_ranged_units\030\025 \001(\005\022\034\n\024observed"
+  "_enemy_heavy\030\030 \001(\005\022\034\n\024observed_enemy_lig"
+  "ht\030\031 \001(\005\022\035\n\025observed_enemy_ranged\030\032 \001(\005\022"
+  "%\n\035observed_enemy_heavy_in_total\030\034 \001(\005\022%"
+  "\n\035observed_enemy_light_in_total\030\035 \001(\005\022&\n"
+  "\036observed_enemy_ranged_in_total\030\036 \001(\005\022\023\n"
+  "\013solver_type\030\037 \001(\005\022\022\n\nnb_samples\030  \001(\005\022\033"
+  "\n\023previous_assignment\030! \003(\005\022\026\n\016time_budg"
+  "et_us\030\" \001(\005\022\023\n\013min_samples\030# \001(\005\022%\n\035esti"
+  "mated_remaining_resources\030$ \001(\005\022\030\n\020all_s"
+  "olver_types\030% \001(\005\022\026\n\016number_threads\030& \001("
+  "\005\022\014\n\004cpus\030\' \003(\005J\004\010\003\020\007J\004\010\010\020\020J\004\010\026\020\027J\004\010\027\020\030J"
+  "\004\010\033\020\034\"\343\001\n\016SolutionBuffer\022\024\n\014number_heavy"
+  "\030\001 \001(\005\022\024\n\014number_light\030\002 \001(\005\022\025\n\rnumber_r"
+  "anged\030\003 \001(\005\022\022\n\nassignment\030\004 \003(\005\022\r\n\005plans"
+  "\030\005 \003(\005\022\030\n\020plan_assignments\030\006 \003(\005\022\025\n\rsolv"
+  "e_time_us\030\007 \001(\005\022\021\n\tsatisfied\030\010 \001(\005\022\014\n\004co"
+  "st\030\t \001(\001\022\031\n\021search_iterations\030\n \001(\005B/\n\027c"
+  "om.microphantom.protosB\022MicroPhantomProt"
+  "osP\001b\006proto3"
   ;
 static ::PROTOBUF_NAMESPACE_ID::internal::once_flag descriptor_table_microphantom_2eproto_once;
 const ::PROTOBUF_NAMESPACE_ID::internal::DescriptorTable descriptor_table_microphantom_2eproto = {
-  false, false, 1053, descriptor_table_protodef_microphantom_2eproto, "microphantom.proto", 
+  false, false, 972, descriptor_table_protodef_microphantom_2eproto, "microphantom.proto", 
   &descriptor_table_microphantom_2eproto_once, nullptr, 0, 2,
   schemas, file_default_instances, TableStruct_microphantom_2eproto::offsets,
   file_level_metadata_microphantom_2eproto, file_level_enum_descriptors_microphantom_2eproto, file_level_service_descriptors_microphantom_2eproto,
@@ -185,7 +186,9 @@ class GameStateBuffer::_Internal {
 
 GameStateBuffer::GameStateBuffer(::PROTOBUF_NAMESPACE_ID::Arena* arena,
                          bool is_message_owned)
-  : ::PROTOBUF_NAMESPACE_ID::Message(arena, is_message_owned) {
+  : ::PROTOBUF_NAMESPACE_ID::Message(arena, is_message_owned),
+  previous_assignment_(arena),
+  cpus_(arena) {
   SharedCtor();
   if (!is_message_owned) {
     RegisterArenaDtor(arena);
@@ -193,19 +196,21 @@ GameStateBuffer::GameStateBuffer(::PROTOBUF_NAMESPACE_ID::Arena* arena,
   // @@protoc_insertion_point(arena_constructor:GameStateBuffer)
 }
 GameStateBuffer::GameStateBuffer(const GameStateBuffer& from)
-  : ::PROTOBUF_NAMESPACE_ID::Message() {
+  : ::PROTOBUF_NAMESPACE_ID::Message(),
+      previous_assignment_(from.previous_assignment_),
+      cpus_(from.cpus_) {
   _internal_metadata_.MergeFrom<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(from._internal_metadata_);
   ::memcpy(&time_, &from.time_,
-    static_cast<size_t>(reinterpret_cast<char*>(&nb_samples_) -
-    reinterpret_cast<char*>(&time_)) + sizeof(nb_samples_));
+    static_cast<size_t>(reinterpret_cast<char*>(&number_threads_) -
+    reinterpret_cast<char*>(&time_)) + sizeof(number_threads_));
   // @@protoc_insertion_point(copy_constructor:GameStateBuffer)
 }
 
 inline void GameStateBuffer::SharedCtor() {
 ::memset(reinterpret_cast<char*>(this) + static_cast<size_t>(
     reinterpret_cast<char*>(&time_) - reinterpret_cast<char*>(this)),
-    0, static_cast<size_t>(reinterpret_cast<char*>(&nb_samples_) -
-    reinterpret_cast<char*>(&time_)) + sizeof(nb_samples_));
+    0, static_cast<size_t>(reinterpret_cast<char*>(&number_threads_) -
+    reinterpret_cast<char*>(&time_)) + sizeof(number_threads_));
 }
 
 GameStateBuffer::~GameStateBuffer() {
@@ -235,9 +240,11 @@ void GameStateBuffer::Clear() {
   // Prevent compiler warnings about cached_has_bits being unused
   (void) cached_has_bits;
 
+  previous_assignment_.Clear();
+  cpus_.Clear();
   ::memset(&time_, 0, static_cast<size_t>(
-      reinterpret_cast<char*>(&nb_samples_) -
-      reinterpret_cast<char*>(&time_)) + sizeof(nb_samples_));
+      reinterpret_cast<char*>(&number_threads_) -
+      reinterpret_cast<char*>(&time_)) + sizeof(number_threads_));
   _internal_metadata_.Clear<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>();
 }
 
@@ -261,34 +268,6 @@ const char* GameStateBuffer::_InternalParse(const char* ptr, ::PROTOBUF_NAMESPAC
           CHK_(ptr);
         } else goto handle_unusual;
         continue;
-      // int32 min_distance_resource_base = 3;
-      case 3:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 24)) {
-          min_distance_resource_base_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 max_distance_resource_base = 4;
-      case 4:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 32)) {
-          max_distance_resource_base_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 no_initial_base = 5;
-      case 5:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 40)) {
-          no_initial_base_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 no_initial_barracks = 6;
-      case 6:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 48)) {
-          no_initial_barracks_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
       // int32 resources = 7;
       case 7:
         if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 56)) {
@@ -296,62 +275,6 @@ const char* GameStateBuffer::_InternalParse(const char* ptr, ::PROTOBUF_NAMESPAC
           CHK_(ptr);
         } else goto handle_unusual;
         continue;
-      // int32 initial_resources = 8;
-      case 8:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 64)) {
-          initial_resources_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 enemy_resources_loss = 9;
-      case 9:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 72)) {
-          enemy_resources_loss_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 worker_move_time = 10;
-      case 10:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 80)) {
-          worker_move_time_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 worker_harvest_time = 11;
-      case 11:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 88)) {
-          worker_harvest_time_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 worker_return_time = 12;
-      case 12:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 96)) {
-          worker_return_time_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 harvest_amount = 13;
-      case 13:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 104)) {
-          harvest_amount_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 base_cost = 14;
-      case 14:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 112)) {
-          base_cost_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 barracks_cost = 15;
-      case 15:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 120)) {
-          barracks_cost_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
       // int32 heavy_cost = 16;
       case 16:
         if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 128)) {
@@ -394,20 +317,6 @@ const char* GameStateBuffer::_InternalParse(const char* ptr, ::PROTOBUF_NAMESPAC
           CHK_(ptr);
         } else goto handle_unusual;
         continue;
-      // int32 initial_enemy_worker = 22;
-      case 22:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 176)) {
-          initial_enemy_worker_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
-      // int32 observed_enemy_worker = 23;
-      case 23:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 184)) {
-          observed_enemy_worker_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
       // int32 observed_enemy_heavy = 24;
       case 24:
         if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 192)) {
@@ -429,13 +338,6 @@ const char* GameStateBuffer::_InternalParse(const char* ptr, ::PROTOBUF_NAMESPAC
           CHK_(ptr);
         } else goto handle_unusual;
         continue;
-      // int32 observed_enemy_worker_in_total = 27;
-      case 27:
-        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 216)) {
-          observed_enemy_worker_in_total_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
-          CHK_(ptr);
-        } else goto handle_unusual;
-        continue;
       // int32 observed_enemy_heavy_in_total = 28;
       case 28:
         if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 224)) {
@@ -471,6 +373,61 @@ const char* GameStateBuffer::_InternalParse(const char* ptr, ::PROTOBUF_NAMESPAC
           CHK_(ptr);
         } else goto handle_unusual;
         continue;
+      // repeated int32 previous_assignment = 33;
+      case 33:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 10)) {
+          ptr = ::PROTOBUF_NAMESPACE_ID::internal::PackedInt32Parser(_internal_mutable_previous_assignment(), ptr, ctx);
+          CHK_(ptr);
+        } else if (static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 8) {
+          _internal_add_previous_assignment(::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr));
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // int32 time_budget_us = 34;
+      case 34:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 16)) {
+          time_budget_us_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // int32 min_samples = 35;
+      case 35:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 24)) {
+          min_samples_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // int32 estimated_remaining_resources = 36;
+      case 36:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 32)) {
+          estimated_remaining_resources_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // int32 all_solver_types = 37;
+      case 37:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 40)) {
+          all_solver_types_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // int32 number_threads = 38;
+      case 38:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 48)) {
+          number_threads_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // repeated int32 cpus = 39;
+      case 39:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 58)) {
+          ptr = ::PROTOBUF_NAMESPACE_ID::internal::PackedInt32Parser(_internal_mutable_cpus(), ptr, ctx);
+          CHK_(ptr);
+        } else if (static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 56) {
+          _internal_add_cpus(::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr));
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
       default: {
       handle_unusual:
         if ((tag == 0) || ((tag & 7) == 4)) {
@@ -512,84 +469,12 @@ failure:
     target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(2, this->_internal_nb_barracks(), target);
   }
 
-  // int32 min_distance_resource_base = 3;
-  if (this->_internal_min_distance_resource_base() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(3, this->_internal_min_distance_resource_base(), target);
-  }
-
-  // int32 max_distance_resource_base = 4;
-  if (this->_internal_max_distance_resource_base() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(4, this->_internal_max_distance_resource_base(), target);
-  }
-
-  // int32 no_initial_base = 5;
-  if (this->_internal_no_initial_base() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(5, this->_internal_no_initial_base(), target);
-  }
-
-  // int32 no_initial_barracks = 6;
-  if (this->_internal_no_initial_barracks() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(6, this->_internal_no_initial_barracks(), target);
-  }
-
   // int32 resources = 7;
   if (this->_internal_resources() != 0) {
     target = stream->EnsureSpace(target);
     target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(7, this->_internal_resources(), target);
   }
 
-  // int32 initial_resources = 8;
-  if (this->_internal_initial_resources() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(8, this->_internal_initial_resources(), target);
-  }
-
-  // int32 enemy_resources_loss = 9;
-  if (this->_internal_enemy_resources_loss() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(9, this->_internal_enemy_resources_loss(), target);
-  }
-
-  // int32 worker_move_time = 10;
-  if (this->_internal_worker_move_time() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(10, this->_internal_worker_move_time(), target);
-  }
-
-  // int32 worker_harvest_time = 11;
-  if (this->_internal_worker_harvest_time() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(11, this->_internal_worker_harvest_time(), target);
-  }
-
-  // int32 worker_return_time = 12;
-  if (this->_internal_worker_return_time() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(12, this->_internal_worker_return_time(), target);
-  }
-
-  // int32 harvest_amount = 13;
-  if (this->_internal_harvest_amount() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(13, this->_internal_harvest_amount(), target);
-  }
-
-  // int32 base_cost = 14;
-  if (this->_internal_base_cost() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(14, this->_internal_base_cost(), target);
-  }
-
-  // int32 barracks_cost = 15;
-  if (this->_internal_barracks_cost() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(15, this->_internal_barracks_cost(), target);
-  }
-
   // int32 heavy_cost = 16;
   if (this->_internal_heavy_cost() != 0) {
     target = stream->EnsureSpace(target);
@@ -626,18 +511,6 @@ failure:
     target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(21, this->_internal_my_ranged_units(), target);
   }
 
-  // int32 initial_enemy_worker = 22;
-  if (this->_internal_initial_enemy_worker() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(22, this->_internal_initial_enemy_worker(), target);
-  }
-
-  // int32 observed_enemy_worker = 23;
-  if (this->_internal_observed_enemy_worker() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(23, this->_internal_observed_enemy_worker(), target);
-  }
-
   // int32 observed_enemy_heavy = 24;
   if (this->_internal_observed_enemy_heavy() != 0) {
     target = stream->EnsureSpace(target);
@@ -656,12 +529,6 @@ failure:
     target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(26, this->_internal_observed_enemy_ranged(), target);
   }
 
-  // int32 observed_enemy_worker_in_total = 27;
-  if (this->_internal_observed_enemy_worker_in_total() != 0) {
-    target = stream->EnsureSpace(target);
-    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(27, this->_internal_observed_enemy_worker_in_total(), target);
-  }
-
   // int32 observed_enemy_heavy_in_total = 28;
   if (this->_internal_observed_enemy_heavy_in_total() != 0) {
     target = stream->EnsureSpace(target);
@@ -692,6 +559,54 @@ failure:
     target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(32, this->_internal_nb_samples(), target);
   }
 
+  // repeated int32 previous_assignment = 33;
+  {
+    int byte_size = _previous_assignment_cached_byte_size_.load(std::memory_order_relaxed);
+    if (byte_size > 0) {
+      target = stream->WriteInt32Packed(
+          33, _internal_previous_assignment(), byte_size, target);
+    }
+  }
+
+  // int32 time_budget_us = 34;
+  if (this->_internal_time_budget_us() != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(34, this->_internal_time_budget_us(), target);
+  }
+
+  // int32 min_samples = 35;
+  if (this->_internal_min_samples() != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(35, this->_internal_min_samples(), target);
+  }
+
+  // int32 estimated_remaining_resources = 36;
+  if (this->_internal_estimated_remaining_resources() != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(36, this->_internal_estimated_remaining_resources(), target);
+  }
+
+  // int32 all_solver_types = 37;
+  if (this->_internal_all_solver_types() != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(37, this->_internal_all_solver_types(), target);
+  }
+
+  // int32 number_threads = 38;
+  if (this->_internal_number_threads() != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(38, this->_internal_number_threads(), target);
+  }
+
+  // repeated int32 cpus = 39;
+  {
+    int byte_size = _cpus_cached_byte_size_.load(std::memory_order_relaxed);
+    if (byte_size > 0) {
+      target = stream->WriteInt32Packed(
+          39, _internal_cpus(), byte_size, target);
+    }
+  }
+
   if (PROTOBUF_PREDICT_FALSE(_internal_metadata_.have_unknown_fields())) {
     target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormat::InternalSerializeUnknownFieldsToArray(
         _internal_metadata_.unknown_fields<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(::PROTOBUF_NAMESPACE_ID::UnknownFieldSet::default_instance), target, stream);
@@ -708,6 +623,36 @@ size_t GameStateBuffer::ByteSizeLong() const {
   // Prevent compiler warnings about cached_has_bits being unused
   (void) cached_has_bits;
 
+  // repeated int32 previous_assignment = 33;
+  {
+    size_t data_size = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::
+      Int32Size(this->previous_assignment_);
+    if (data_size > 0) {
+      total_size += 2 +
+        ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+            static_cast<::PROTOBUF_NAMESPACE_ID::int32>(data_size));
+    }
+    int cached_size = ::PROTOBUF_NAMESPACE_ID::internal::ToCachedSize(data_size);
+    _previous_assignment_cached_byte_size_.store(cached_size,
+                                    std::memory_order_relaxed);
+    total_size += data_size;
+  }
+
+  // repeated int32 cpus = 39;
+  {
+    size_t data_size = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::
+      Int32Size(this->cpus_);
+    if (data_size > 0) {
+      total_size += 2 +
+        ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+            static_cast<::PROTOBUF_NAMESPACE_ID::int32>(data_size));
+    }
+    int cached_size = ::PROTOBUF_NAMESPACE_ID::internal::ToCachedSize(data_size);
+    _cpus_cached_byte_size_.store(cached_size,
+                                    std::memory_order_relaxed);
+    total_size += data_size;
+  }
+
   // int32 time = 1;
   if (this->_internal_time() != 0) {
     total_size += 1 +
@@ -722,34 +667,6 @@ size_t GameStateBuffer::ByteSizeLong() const {
         this->_internal_nb_barracks());
   }
 
-  // int32 min_distance_resource_base = 3;
-  if (this->_internal_min_distance_resource_base() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_min_distance_resource_base());
-  }
-
-  // int32 max_distance_resource_base = 4;
-  if (this->_internal_max_distance_resource_base() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_max_distance_resource_base());
-  }
-
-  // int32 no_initial_base = 5;
-  if (this->_internal_no_initial_base() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_no_initial_base());
-  }
-
-  // int32 no_initial_barracks = 6;
-  if (this->_internal_no_initial_barracks() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_no_initial_barracks());
-  }
-
   // int32 resources = 7;
   if (this->_internal_resources() != 0) {
     total_size += 1 +
@@ -757,62 +674,6 @@ size_t GameStateBuffer::ByteSizeLong() const {
         this->_internal_resources());
   }
 
-  // int32 initial_resources = 8;
-  if (this->_internal_initial_resources() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_initial_resources());
-  }
-
-  // int32 enemy_resources_loss = 9;
-  if (this->_internal_enemy_resources_loss() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_enemy_resources_loss());
-  }
-
-  // int32 worker_move_time = 10;
-  if (this->_internal_worker_move_time() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_worker_move_time());
-  }
-
-  // int32 worker_harvest_time = 11;
-  if (this->_internal_worker_harvest_time() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_worker_harvest_time());
-  }
-
-  // int32 worker_return_time = 12;
-  if (this->_internal_worker_return_time() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_worker_return_time());
-  }
-
-  // int32 harvest_amount = 13;
-  if (this->_internal_harvest_amount() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_harvest_amount());
-  }
-
-  // int32 base_cost = 14;
-  if (this->_internal_base_cost() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_base_cost());
-  }
-
-  // int32 barracks_cost = 15;
-  if (this->_internal_barracks_cost() != 0) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_barracks_cost());
-  }
-
   // int32 heavy_cost = 16;
   if (this->_internal_heavy_cost() != 0) {
     total_size += 2 +
@@ -855,20 +716,6 @@ size_t GameStateBuffer::ByteSizeLong() const {
         this->_internal_my_ranged_units());
   }
 
-  // int32 initial_enemy_worker = 22;
-  if (this->_internal_initial_enemy_worker() != 0) {
-    total_size += 2 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_initial_enemy_worker());
-  }
-
-  // int32 observed_enemy_worker = 23;
-  if (this->_internal_observed_enemy_worker() != 0) {
-    total_size += 2 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_observed_enemy_worker());
-  }
-
   // int32 observed_enemy_heavy = 24;
   if (this->_internal_observed_enemy_heavy() != 0) {
     total_size += 2 +
@@ -890,13 +737,6 @@ size_t GameStateBuffer::ByteSizeLong() const {
         this->_internal_observed_enemy_ranged());
   }
 
-  // int32 observed_enemy_worker_in_total = 27;
-  if (this->_internal_observed_enemy_worker_in_total() != 0) {
-    total_size += 2 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
-        this->_internal_observed_enemy_worker_in_total());
-  }
-
   // int32 observed_enemy_heavy_in_total = 28;
   if (this->_internal_observed_enemy_heavy_in_total() != 0) {
     total_size += 2 +
@@ -932,6 +772,41 @@ size_t GameStateBuffer::ByteSizeLong() const {
         this->_internal_nb_samples());
   }
 
+  // int32 time_budget_us = 34;
+  if (this->_internal_time_budget_us() != 0) {
+    total_size += 2 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+        this->_internal_time_budget_us());
+  }
+
+  // int32 min_samples = 35;
+  if (this->_internal_min_samples() != 0) {
+    total_size += 2 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+        this->_internal_min_samples());
+  }
+
+  // int32 estimated_remaining_resources = 36;
+  if (this->_internal_estimated_remaining_resources() != 0) {
+    total_size += 2 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+        this->_internal_estimated_remaining_resources());
+  }
+
+  // int32 all_solver_types = 37;
+  if (this->_internal_all_solver_types() != 0) {
+    total_size += 2 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+        this->_internal_all_solver_types());
+  }
+
+  // int32 number_threads = 38;
+  if (this->_internal_number_threads() != 0) {
+    total_size += 2 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+        this->_internal_number_threads());
+  }
+
   if (PROTOBUF_PREDICT_FALSE(_internal_metadata_.have_unknown_fields())) {
     return ::PROTOBUF_NAMESPACE_ID::internal::ComputeUnknownFieldsSize(
         _internal_metadata_, total_size, &_cached_size_);
@@ -960,51 +835,17 @@ void GameStateBuffer::MergeFrom(const GameStateBuffer& from) {
   ::PROTOBUF_NAMESPACE_ID::uint32 cached_has_bits = 0;
   (void) cached_has_bits;
 
+  previous_assignment_.MergeFrom(from.previous_assignment_);
+  cpus_.MergeFrom(from.cpus_);
   if (from._internal_time() != 0) {
     _internal_set_time(from._internal_time());
   }
   if (from._internal_nb_barracks() != 0) {
     _internal_set_nb_barracks(from._internal_nb_barracks());
   }
-  if (from._internal_min_distance_resource_base() != 0) {
-    _internal_set_min_distance_resource_base(from._internal_min_distance_resource_base());
-  }
-  if (from._internal_max_distance_resource_base() != 0) {
-    _internal_set_max_distance_resource_base(from._internal_max_distance_resource_base());
-  }
-  if (from._internal_no_initial_base() != 0) {
-    _internal_set_no_initial_base(from._internal_no_initial_base());
-  }
-  if (from._internal_no_initial_barracks() != 0) {
-    _internal_set_no_initial_barracks(from._internal_no_initial_barracks());
-  }
   if (from._internal_resources() != 0) {
     _internal_set_resources(from._internal_resources());
   }
-  if (from._internal_initial_resources() != 0) {
-    _internal_set_initial_resources(from._internal_initial_resources());
-  }
-  if (from._internal_enemy_resources_loss() != 0) {
-    _internal_set_enemy_resources_loss(from._internal_enemy_resources_loss());
-  }
-  if (from._internal_worker_move_time() != 0) {
-    _internal_set_worker_move_time(from._internal_worker_move_time());
-  }
-  if (from._internal_worker_harvest_time() != 0) {
-    _internal_set_worker_harvest_time(from._internal_worker_harvest_time());
-  }
-  if (from._internal_worker_return_time() != 0) {
-    _internal_set_worker_return_time(from._internal_worker_return_time());
-  }
-  if (from._internal_harvest_amount() != 0) {
-    _internal_set_harvest_amount(from._internal_harvest_amount());
-  }
-  if (from._internal_base_cost() != 0) {
-    _internal_set_base_cost(from._internal_base_cost());
-  }
-  if (from._internal_barracks_cost() != 0) {
-    _internal_set_barracks_cost(from._internal_barracks_cost());
-  }
   if (from._internal_heavy_cost() != 0) {
     _internal_set_heavy_cost(from._internal_heavy_cost());
   }
@@ -1023,12 +864,6 @@ void GameStateBuffer::MergeFrom(const GameStateBuffer& from) {
   if (from._internal_my_ranged_units() != 0) {
     _internal_set_my_ranged_units(from._internal_my_ranged_units());
   }
-  if (from._internal_initial_enemy_worker() != 0) {
-    _internal_set_initial_enemy_worker(from._internal_initial_enemy_worker());
-  }
-  if (from._internal_observed_enemy_worker() != 0) {
-    _internal_set_observed_enemy_worker(from._internal_observed_enemy_worker());
-  }
   if (from._internal_observed_enemy_heavy() != 0) {
     _internal_set_observed_enemy_heavy(from._internal_observed_enemy_heavy());
   }
@@ -1038,9 +873,6 @@ void GameStateBuffer::MergeFrom(const GameStateBuffer& from) {
   if (from._internal_observed_enemy_ranged() != 0) {
     _internal_set_observed_enemy_ranged(from._internal_observed_enemy_ranged());
   }
-  if (from._internal_observed_enemy_worker_in_total() != 0) {
-    _internal_set_observed_enemy_worker_in_total(from._internal_observed_enemy_worker_in_total());
-  }
   if (from._internal_observed_enemy_heavy_in_total() != 0) {
     _internal_set_observed_enemy_heavy_in_total(from._internal_observed_enemy_heavy_in_total());
   }
@@ -1056,6 +888,21 @@ void GameStateBuffer::MergeFrom(const GameStateBuffer& from) {
   if (from._internal_nb_samples() != 0) {
     _internal_set_nb_samples(from._internal_nb_samples());
   }
+  if (from._internal_time_budget_us() != 0) {
+    _internal_set_time_budget_us(from._internal_time_budget_us());
+  }
+  if (from._internal_min_samples() != 0) {
+    _internal_set_min_samples(from._internal_min_samples());
+  }
+  if (from._internal_estimated_remaining_resources() != 0) {
+    _internal_set_estimated_remaining_resources(from._internal_estimated_remaining_resources());
+  }
+  if (from._internal_all_solver_types() != 0) {
+    _internal_set_all_solver_types(from._internal_all_solver_types());
+  }
+  if (from._internal_number_threads() != 0) {
+    _internal_set_number_threads(from._internal_number_threads());
+  }
   _internal_metadata_.MergeFrom<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(from._internal_metadata_);
 }
 
@@ -1073,9 +920,11 @@ bool GameStateBuffer::IsInitialized() const {
 void GameStateBuffer::InternalSwap(GameStateBuffer* other) {
   using std::swap;
   _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  previous_assignment_.InternalSwap(&other->previous_assignment_);
+  cpus_.InternalSwap(&other->cpus_);
   ::PROTOBUF_NAMESPACE_ID::internal::memswap<
-      PROTOBUF_FIELD_OFFSET(GameStateBuffer, nb_samples_)
-      + sizeof(GameStateBuffer::nb_samples_)
+      PROTOBUF_FIELD_OFFSET(GameStateBuffer, number_threads_)
+      + sizeof(GameStateBuffer::number_threads_)
       - PROTOBUF_FIELD_OFFSET(GameStateBuffer, time_)>(
           reinterpret_cast<char*>(&time_),
           reinterpret_cast<char*>(&other->time_));
@@ -1095,7 +944,10 @@ class SolutionBuffer::_Internal {
 
 SolutionBuffer::SolutionBuffer(::PROTOBUF_NAMESPACE_ID::Arena* arena,
                          bool is_message_owned)
-  : ::PROTOBUF_NAMESPACE_ID::Message(arena, is_message_owned) {
+  : ::PROTOBUF_NAMESPACE_ID::Message(arena, is_message_owned),
+  assignment_(arena),
+  plans_(arena),
+  plan_assignments_(arena) {
   SharedCtor();
   if (!is_message_owned) {
     RegisterArenaDtor(arena);
@@ -1103,19 +955,22 @@ SolutionBuffer::SolutionBuffer(::PROTOBUF_NAMESPACE_ID::Arena* arena,
   // @@protoc_insertion_point(arena_constructor:SolutionBuffer)
 }
 SolutionBuffer::SolutionBuffer(const SolutionBuffer& from)
-  : ::PROTOBUF_NAMESPACE_ID::Message() {
+  : ::PROTOBUF_NAMESPACE_ID::Message(),
+      assignment_(from.assignment_),
+      plans_(from.plans_),
+      plan_assignments_(from.plan_assignments_) {
   _internal_metadata_.MergeFrom<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(from._internal_metadata_);
-  ::memcpy(&number_heavy_, &from.number_heavy_,
-    static_cast<size_t>(reinterpret_cast<char*>(&number_ranged_) -
-    reinterpret_cast<char*>(&number_heavy_)) + sizeof(number_ranged_));
+  ::memcpy(&cost_, &from.cost_,
+    static_cast<size_t>(reinterpret_cast<char*>(&search_iterations_) -
+    reinterpret_cast<char*>(&cost_)) + sizeof(search_iterations_));
   // @@protoc_insertion_point(copy_constructor:SolutionBuffer)
 }
 
 inline void SolutionBuffer::SharedCtor() {
 ::memset(reinterpret_cast<char*>(this) + static_cast<size_t>(
-    reinterpret_cast<char*>(&number_heavy_) - reinterpret_cast<char*>(this)),
-    0, static_cast<size_t>(reinterpret_cast<char*>(&number_ranged_) -
-    reinterpret_cast<char*>(&number_heavy_)) + sizeof(number_ranged_));
+    reinterpret_cast<char*>(&cost_) - reinterpret_cast<char*>(this)),
+    0, static_cast<size_t>(reinterpret_cast<char*>(&search_iterations_) -
+    reinterpret_cast<char*>(&cost_)) + sizeof(search_iterations_));
 }
 
 SolutionBuffer::~SolutionBuffer() {
@@ -1145,9 +1000,12 @@ void SolutionBuffer::Clear() {
   // Prevent compiler warnings about cached_has_bits being unused
   (void) cached_has_bits;
 
-  ::memset(&number_heavy_, 0, static_cast<size_t>(
-      reinterpret_cast<char*>(&number_ranged_) -
-      reinterpret_cast<char*>(&number_heavy_)) + sizeof(number_ranged_));
+  assignment_.Clear();
+  plans_.Clear();
+  plan_assignments_.Clear();
+  ::memset(&cost_, 0, static_cast<size_t>(
+      reinterpret_cast<char*>(&search_iterations_) -
+      reinterpret_cast<char*>(&cost_)) + sizeof(search_iterations_));
   _internal_metadata_.Clear<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>();
 }
 
@@ -1178,6 +1036,64 @@ const char* SolutionBuffer::_InternalParse(const char* ptr, ::PROTOBUF_NAMESPACE
           CHK_(ptr);
         } else goto handle_unusual;
         continue;
+      // repeated int32 assignment = 4;
+      case 4:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 34)) {
+          ptr = ::PROTOBUF_NAMESPACE_ID::internal::PackedInt32Parser(_internal_mutable_assignment(), ptr, ctx);
+          CHK_(ptr);
+        } else if (static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 32) {
+          _internal_add_assignment(::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr));
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // repeated int32 plans = 5;
+      case 5:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 42)) {
+          ptr = ::PROTOBUF_NAMESPACE_ID::internal::PackedInt32Parser(_internal_mutable_plans(), ptr, ctx);
+          CHK_(ptr);
+        } else if (static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 40) {
+          _internal_add_plans(::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr));
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // repeated int32 plan_assignments = 6;
+      case 6:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 50)) {
+          ptr = ::PROTOBUF_NAMESPACE_ID::internal::PackedInt32Parser(_internal_mutable_plan_assignments(), ptr, ctx);
+          CHK_(ptr);
+        } else if (static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 48) {
+          _internal_add_plan_assignments(::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr));
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // int32 solve_time_us = 7;
+      case 7:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 56)) {
+          solve_time_us_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // int32 satisfied = 8;
+      case 8:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 64)) {
+          satisfied_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
+      // double cost = 9;
+      case 9:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 73)) {
+          cost_ = ::PROTOBUF_NAMESPACE_ID::internal::UnalignedLoad<double>(ptr);
+          ptr += sizeof(double);
+        } else goto handle_unusual;
+        continue;
+      // int32 search_iterations = 10;
+      case 10:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<::PROTOBUF_NAMESPACE_ID::uint8>(tag) == 80)) {
+          search_iterations_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
+          CHK_(ptr);
+        } else goto handle_unusual;
+        continue;
       default: {
       handle_unusual:
         if ((tag == 0) || ((tag & 7) == 4)) {
@@ -1225,6 +1141,57 @@ failure:
     target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(3, this->_internal_number_ranged(), target);
   }
 
+  // repeated int32 assignment = 4;
+  {
+    int byte_size = _assignment_cached_byte_size_.load(std::memory_order_relaxed);
+    if (byte_size > 0) {
+      target = stream->WriteInt32Packed(
+          4, _internal_assignment(), byte_size, target);
+    }
+  }
+
+  // repeated int32 plans = 5;
+  {
+    int byte_size = _plans_cached_byte_size_.load(std::memory_order_relaxed);
+    if (byte_size > 0) {
+      target = stream->WriteInt32Packed(
+          5, _internal_plans(), byte_size, target);
+    }
+  }
+
+  // repeated int32 plan_assignments = 6;
+  {
+    int byte_size = _plan_assignments_cached_byte_size_.load(std::memory_order_relaxed);
+    if (byte_size > 0) {
+      target = stream->WriteInt32Packed(
+          6, _internal_plan_assignments(), byte_size, target);
+    }
+  }
+
+  // int32 solve_time_us = 7;
+  if (this->_internal_solve_time_us() != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(7, this->_internal_solve_time_us(), target);
+  }
+
+  // int32 satisfied = 8;
+  if (this->_internal_satisfied() != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(8, this->_internal_satisfied(), target);
+  }
+
+  // double cost = 9;
+  if (!(this->_internal_cost() <= 0 && this->_internal_cost() >= 0)) {
+    target = stream->EnsureSpace(target);
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteDoubleToArray(9, this->_internal_cost(), target);
+  }
+
+  // int32 search_iterations = 10;
+  if (this->_internal_search_iterations() != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::WriteInt32ToArray(10, this->_internal_search_iterations(), target);
+  }
+
   if (PROTOBUF_PREDICT_FALSE(_internal_metadata_.have_unknown_fields())) {
     target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormat::InternalSerializeUnknownFieldsToArray(
         _internal_metadata_.unknown_fields<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(::PROTOBUF_NAMESPACE_ID::UnknownFieldSet::default_instance), target, stream);
@@ -1241,6 +1208,56 @@ size_t SolutionBuffer::ByteSizeLong() const {
   // Prevent compiler warnings about cached_has_bits being unused
   (void) cached_has_bits;
 
+  // repeated int32 assignment = 4;
+  {
+    size_t data_size = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::
+      Int32Size(this->assignment_);
+    if (data_size > 0) {
+      total_size += 1 +
+        ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+            static_cast<::PROTOBUF_NAMESPACE_ID::int32>(data_size));
+    }
+    int cached_size = ::PROTOBUF_NAMESPACE_ID::internal::ToCachedSize(data_size);
+    _assignment_cached_byte_size_.store(cached_size,
+                                    std::memory_order_relaxed);
+    total_size += data_size;
+  }
+
+  // repeated int32 plans = 5;
+  {
+    size_t data_size = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::
+      Int32Size(this->plans_);
+    if (data_size > 0) {
+      total_size += 1 +
+        ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+            static_cast<::PROTOBUF_NAMESPACE_ID::int32>(data_size));
+    }
+    int cached_size = ::PROTOBUF_NAMESPACE_ID::internal::ToCachedSize(data_size);
+    _plans_cached_byte_size_.store(cached_size,
+                                    std::memory_order_relaxed);
+    total_size += data_size;
+  }
+
+  // repeated int32 plan_assignments = 6;
+  {
+    size_t data_size = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::
+      Int32Size(this->plan_assignments_);
+    if (data_size > 0) {
+      total_size += 1 +
+        ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+            static_cast<::PROTOBUF_NAMESPACE_ID::int32>(data_size));
+    }
+    int cached_size = ::PROTOBUF_NAMESPACE_ID::internal::ToCachedSize(data_size);
+    _plan_assignments_cached_byte_size_.store(cached_size,
+                                    std::memory_order_relaxed);
+    total_size += data_size;
+  }
+
+  // double cost = 9;
+  if (!(this->_internal_cost() <= 0 && this->_internal_cost() >= 0)) {
+    total_size += 1 + 8;
+  }
+
   // int32 number_heavy = 1;
   if (this->_internal_number_heavy() != 0) {
     total_size += 1 +
@@ -1262,6 +1279,27 @@ size_t SolutionBuffer::ByteSizeLong() const {
         this->_internal_number_ranged());
   }
 
+  // int32 solve_time_us = 7;
+  if (this->_internal_solve_time_us() != 0) {
+    total_size += 1 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+        this->_internal_solve_time_us());
+  }
+
+  // int32 satisfied = 8;
+  if (this->_internal_satisfied() != 0) {
+    total_size += 1 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+        this->_internal_satisfied());
+  }
+
+  // int32 search_iterations = 10;
+  if (this->_internal_search_iterations() != 0) {
+    total_size += 1 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::Int32Size(
+        this->_internal_search_iterations());
+  }
+
   if (PROTOBUF_PREDICT_FALSE(_internal_metadata_.have_unknown_fields())) {
     return ::PROTOBUF_NAMESPACE_ID::internal::ComputeUnknownFieldsSize(
         _internal_metadata_, total_size, &_cached_size_);
@@ -1290,6 +1328,12 @@ void SolutionBuffer::MergeFrom(const SolutionBuffer& from) {
   ::PROTOBUF_NAMESPACE_ID::uint32 cached_has_bits = 0;
   (void) cached_has_bits;
 
+  assignment_.MergeFrom(from.assignment_);
+  plans_.MergeFrom(from.plans_);
+  plan_assignments_.MergeFrom(from.plan_assignments_);
+  if (!(from._internal_cost() <= 0 && from._internal_cost() >= 0)) {
+    _internal_set_cost(from._internal_cost());
+  }
   if (from._internal_number_heavy() != 0) {
     _internal_set_number_heavy(from._internal_number_heavy());
   }
@@ -1299,6 +1343,15 @@ void SolutionBuffer::MergeFrom(const SolutionBuffer& from) {
   if (from._internal_number_ranged() != 0) {
     _internal_set_number_ranged(from._internal_number_ranged());
   }
+  if (from._internal_solve_time_us() != 0) {
+    _internal_set_solve_time_us(from._internal_solve_time_us());
+  }
+  if (from._internal_satisfied() != 0) {
+    _internal_set_satisfied(from._internal_satisfied());
+  }
+  if (from._internal_search_iterations() != 0) {
+    _internal_set_search_iterations(from._internal_search_iterations());
+  }
   _internal_metadata_.MergeFrom<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(from._internal_metadata_);
 }
 
@@ -1316,12 +1369,15 @@ bool SolutionBuffer::IsInitialized() const {
 void SolutionBuffer::InternalSwap(SolutionBuffer* other) {
   using std::swap;
   _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  assignment_.InternalSwap(&other->assignment_);
+  plans_.InternalSwap(&other->plans_);
+  plan_assignments_.InternalSwap(&other->plan_assignments_);
   ::PROTOBUF_NAMESPACE_ID::internal::memswap<
-      PROTOBUF_FIELD_OFFSET(SolutionBuffer, number_ranged_)
-      + sizeof(SolutionBuffer::number_ranged_)
-      - PROTOBUF_FIELD_OFFSET(SolutionBuffer, number_heavy_)>(
-          reinterpret_cast<char*>(&number_heavy_),
-          reinterpret_cast<char*>(&other->number_heavy_));
+      PROTOBUF_FIELD_OFFSET(SolutionBuffer, search_iterations_)
+      + sizeof(SolutionBuffer::search_iterations_)
+      - PROTOBUF_FIELD_OFFSET(SolutionBuffer, cost_)>(
+          reinterpret_cast<char*>(&cost_),
+          reinterpret_cast<char*>(&other->cost_));
 }
 
 ::PROTOBUF_NAMESPACE_ID::Metadata SolutionBuffer::GetMetadata() const {
@@ -181,39 +181,75 @@ class GameStateBuffer final :
   // accessors -------------------------------------------------------
 
   enum : int {
+    kPreviousAssignmentFieldNumber = 33,
+    kCpusFieldNumber = 39,
     kTimeFieldNumber = 1,
     kNbBarracksFieldNumber = 2,
-    kMinDistanceResourceBaseFieldNumber = 3,
-    kMaxDistanceResourceBaseFieldNumber = 4,
-    kNoInitialBaseFieldNumber = 5,
-    kNoInitialBarracksFieldNumber = 6,
     kResourcesFieldNumber = 7,
-    kInitialResourcesFieldNumber = 8,
-    kEnemyResourcesLossFieldNumber = 9,
-    kWorkerMoveTimeFieldNumber = 10,
-    kWorkerHarvestTimeFieldNumber = 11,
-    kWorkerReturnTimeFieldNumber = 12,
-    kHarvestAmountFieldNumber = 13,
-    kBaseCostFieldNumber = 14,
-    kBarracksCostFieldNumber = 15,
     kHeavyCostFieldNumber = 16,
     kLightCostFieldNumber = 17,
     kRangedCostFieldNumber = 18,
     kMyHeavyUnitsFieldNumber = 19,
     kMyLightUnitsFieldNumber = 20,
     kMyRangedUnitsFieldNumber = 21,
-    kInitialEnemyWorkerFieldNumber = 22,
-    kObservedEnemyWorkerFieldNumber = 23,
     kObservedEnemyHeavyFieldNumber = 24,
     kObservedEnemyLightFieldNumber = 25,
     kObservedEnemyRangedFieldNumber = 26,
-    kObservedEnemyWorkerInTotalFieldNumber = 27,
     kObservedEnemyHeavyInTotalFieldNumber = 28,
     kObservedEnemyLightInTotalFieldNumber = 29,
     kObservedEnemyRangedInTotalFieldNumber = 30,
     kSolverTypeFieldNumber = 31,
     kNbSamplesFieldNumber = 32,
+    kTimeBudgetUsFieldNumber = 34,
+    kMinSamplesFieldNumber = 35,
+    kEstimatedRemainingResourcesFieldNumber = 36,
+    kAllSolverTypesFieldNumber = 37,
+    kNumberThreadsFieldNumber = 38,
   };
+  // repeated int32 previous_assignment = 33;
+  int previous_assignment_size() const;
+  private:
+  int _internal_previous_assignment_size() const;
+  public:
+  void clear_previous_assignment();
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_previous_assignment(int index) const;
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      _internal_previous_assignment() const;
+  void _internal_add_previous_assignment(::PROTOBUF_NAMESPACE_ID::int32 value);
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      _internal_mutable_previous_assignment();
+  public:
+  ::PROTOBUF_NAMESPACE_ID::int32 previous_assignment(int index) const;
+  void set_previous_assignment(int index, ::PROTOBUF_NAMESPACE_ID::int32 value);
+  void add_previous_assignment(::PROTOBUF_NAMESPACE_ID::int32 value);
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      previous_assignment() const;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      mutable_previous_assignment();
+
+  // repeated int32 cpus = 39;
+  int cpus_size() const;
+  private:
+  int _internal_cpus_size() const;
+  public:
+  void clear_cpus();
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_cpus(int index) const;
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      _internal_cpus() const;
+  void _internal_add_cpus(::PROTOBUF_NAMESPACE_ID::int32 value);
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      _internal_mutable_cpus();
+  public:
+  ::PROTOBUF_NAMESPACE_ID::int32 cpus(int index) const;
+  void set_cpus(int index, ::PROTOBUF_NAMESPACE_ID::int32 value);
+  void add_cpus(::PROTOBUF_NAMESPACE_ID::int32 value);
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      cpus() const;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      mutable_cpus();
+
   // int32 time = 1;
   void clear_time();
   ::PROTOBUF_NAMESPACE_ID::int32 time() const;
@@ -232,42 +268,6 @@ class GameStateBuffer final :
   void _internal_set_nb_barracks(::PROTOBUF_NAMESPACE_ID::int32 value);
   public:
 
-  // int32 min_distance_resource_base = 3;
-  void clear_min_distance_resource_base();
-  ::PROTOBUF_NAMESPACE_ID::int32 min_distance_resource_base() const;
-  void set_min_distance_resource_base(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_min_distance_resource_base() const;
-  void _internal_set_min_distance_resource_base(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 max_distance_resource_base = 4;
-  void clear_max_distance_resource_base();
-  ::PROTOBUF_NAMESPACE_ID::int32 max_distance_resource_base() const;
-  void set_max_distance_resource_base(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_max_distance_resource_base() const;
-  void _internal_set_max_distance_resource_base(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 no_initial_base = 5;
-  void clear_no_initial_base();
-  ::PROTOBUF_NAMESPACE_ID::int32 no_initial_base() const;
-  void set_no_initial_base(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_no_initial_base() const;
-  void _internal_set_no_initial_base(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 no_initial_barracks = 6;
-  void clear_no_initial_barracks();
-  ::PROTOBUF_NAMESPACE_ID::int32 no_initial_barracks() const;
-  void set_no_initial_barracks(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_no_initial_barracks() const;
-  void _internal_set_no_initial_barracks(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
   // int32 resources = 7;
   void clear_resources();
   ::PROTOBUF_NAMESPACE_ID::int32 resources() const;
@@ -277,78 +277,6 @@ class GameStateBuffer final :
   void _internal_set_resources(::PROTOBUF_NAMESPACE_ID::int32 value);
   public:
 
-  // int32 initial_resources = 8;
-  void clear_initial_resources();
-  ::PROTOBUF_NAMESPACE_ID::int32 initial_resources() const;
-  void set_initial_resources(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_initial_resources() const;
-  void _internal_set_initial_resources(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 enemy_resources_loss = 9;
-  void clear_enemy_resources_loss();
-  ::PROTOBUF_NAMESPACE_ID::int32 enemy_resources_loss() const;
-  void set_enemy_resources_loss(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_enemy_resources_loss() const;
-  void _internal_set_enemy_resources_loss(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 worker_move_time = 10;
-  void clear_worker_move_time();
-  ::PROTOBUF_NAMESPACE_ID::int32 worker_move_time() const;
-  void set_worker_move_time(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_worker_move_time() const;
-  void _internal_set_worker_move_time(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 worker_harvest_time = 11;
-  void clear_worker_harvest_time();
-  ::PROTOBUF_NAMESPACE_ID::int32 worker_harvest_time() const;
-  void set_worker_harvest_time(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_worker_harvest_time() const;
-  void _internal_set_worker_harvest_time(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 worker_return_time = 12;
-  void clear_worker_return_time();
-  ::PROTOBUF_NAMESPACE_ID::int32 worker_return_time() const;
-  void set_worker_return_time(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_worker_return_time() const;
-  void _internal_set_worker_return_time(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 harvest_amount = 13;
-  void clear_harvest_amount();
-  ::PROTOBUF_NAMESPACE_ID::int32 harvest_amount() const;
-  void set_harvest_amount(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_harvest_amount() const;
-  void _internal_set_harvest_amount(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 base_cost = 14;
-  void clear_base_cost();
-  ::PROTOBUF_NAMESPACE_ID::int32 base_cost() const;
-  void set_base_cost(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_base_cost() const;
-  void _internal_set_base_cost(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 barracks_cost = 15;
-  void clear_barracks_cost();
-  ::PROTOBUF_NAMESPACE_ID::int32 barracks_cost() const;
-  void set_barracks_cost(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_barracks_cost() const;
-  void _internal_set_barracks_cost(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
   // int32 heavy_cost = 16;
   void clear_heavy_cost();
   ::PROTOBUF_NAMESPACE_ID::int32 heavy_cost() const;
@@ -403,24 +331,6 @@ class GameStateBuffer final :
   void _internal_set_my_ranged_units(::PROTOBUF_NAMESPACE_ID::int32 value);
   public:
 
-  // int32 initial_enemy_worker = 22;
-  void clear_initial_enemy_worker();
-  ::PROTOBUF_NAMESPACE_ID::int32 initial_enemy_worker() const;
-  void set_initial_enemy_worker(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_initial_enemy_worker() const;
-  void _internal_set_initial_enemy_worker(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
-  // int32 observed_enemy_worker = 23;
-  void clear_observed_enemy_worker();
-  ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_worker() const;
-  void set_observed_enemy_worker(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_observed_enemy_worker() const;
-  void _internal_set_observed_enemy_worker(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
   // int32 observed_enemy_heavy = 24;
   void clear_observed_enemy_heavy();
   ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_heavy() const;
@@ -448,15 +358,6 @@ class GameStateBuffer final :
   void _internal_set_observed_enemy_ranged(::PROTOBUF_NAMESPACE_ID::int32 value);
   public:
 
-  // int32 observed_enemy_worker_in_total = 27;
-  void clear_observed_enemy_worker_in_total();
-  ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_worker_in_total() const;
-  void set_observed_enemy_worker_in_total(::PROTOBUF_NAMESPACE_ID::int32 value);
-  private:
-  ::PROTOBUF_NAMESPACE_ID::int32 _internal_observed_enemy_worker_in_total() const;
-  void _internal_set_observed_enemy_worker_in_total(::PROTOBUF_NAMESPACE_ID::int32 value);
-  public:
-
   // int32 observed_enemy_heavy_in_total = 28;
   void clear_observed_enemy_heavy_in_total();
   ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_heavy_in_total() const;
@@ -502,6 +403,51 @@ class GameStateBuffer final :
   void _internal_set_nb_samples(::PROTOBUF_NAMESPACE_ID::int32 value);
   public:
 
+  // int32 time_budget_us = 34;
+  void clear_time_budget_us();
+  ::PROTOBUF_NAMESPACE_ID::int32 time_budget_us() const;
+  void set_time_budget_us(::PROTOBUF_NAMESPACE_ID::int32 value);
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_time_budget_us() const;
+  void _internal_set_time_budget_us(::PROTOBUF_NAMESPACE_ID::int32 value);
+  public:
+
+  // int32 min_samples = 35;
+  void clear_min_samples();
+  ::PROTOBUF_NAMESPACE_ID::int32 min_samples() const;
+  void set_min_samples(::PROTOBUF_NAMESPACE_ID::int32 value);
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_min_samples() const;
+  void _internal_set_min_samples(::PROTOBUF_NAMESPACE_ID::int32 value);
+  public:
+
+  // int32 estimated_remaining_resources = 36;
+  void clear_estimated_remaining_resources();
+  ::PROTOBUF_NAMESPACE_ID::int32 estimated_remaining_resources() const;
+  void set_estimated_remaining_resources(::PROTOBUF_NAMESPACE_ID::int32 value);
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_estimated_remaining_resources() const;
+  void _internal_set_estimated_remaining_resources(::PROTOBUF_NAMESPACE_ID::int32 value);
+  public:
+
+  // int32 all_solver_types = 37;
+  void clear_all_solver_types();
+  ::PROTOBUF_NAMESPACE_ID::int32 all_solver_types() const;
+  void set_all_solver_types(::PROTOBUF_NAMESPACE_ID::int32 value);
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_all_solver_types() const;
+  void _internal_set_all_solver_types(::PROTOBUF_NAMESPACE_ID::int32 value);
+  public:
+
+  // int32 number_threads = 38;
+  void clear_number_threads();
+  ::PROTOBUF_NAMESPACE_ID::int32 number_threads() const;
+  void set_number_threads(::PROTOBUF_NAMESPACE_ID::int32 value);
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_number_threads() const;
+  void _internal_set_number_threads(::PROTOBUF_NAMESPACE_ID::int32 value);
+  public:
+
   // @@protoc_insertion_point(class_scope:GameStateBuffer)
  private:
   class _Internal;
@@ -509,38 +455,32 @@ class GameStateBuffer final :
   template <typename T> friend class ::PROTOBUF_NAMESPACE_ID::Arena::InternalHelper;
   typedef void InternalArenaConstructable_;
   typedef void DestructorSkippable_;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 > previous_assignment_;
+  mutable std::atomic<int> _previous_assignment_cached_byte_size_;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 > cpus_;
+  mutable std::atomic<int> _cpus_cached_byte_size_;
   ::PROTOBUF_NAMESPACE_ID::int32 time_;
   ::PROTOBUF_NAMESPACE_ID::int32 nb_barracks_;
-  ::PROTOBUF_NAMESPACE_ID::int32 min_distance_resource_base_;
-  ::PROTOBUF_NAMESPACE_ID::int32 max_distance_resource_base_;
-  ::PROTOBUF_NAMESPACE_ID::int32 no_initial_base_;
-  ::PROTOBUF_NAMESPACE_ID::int32 no_initial_barracks_;
   ::PROTOBUF_NAMESPACE_ID::int32 resources_;
-  ::PROTOBUF_NAMESPACE_ID::int32 initial_resources_;
-  ::PROTOBUF_NAMESPACE_ID::int32 enemy_resources_loss_;
-  ::PROTOBUF_NAMESPACE_ID::int32 worker_move_time_;
-  ::PROTOBUF_NAMESPACE_ID::int32 worker_harvest_time_;
-  ::PROTOBUF_NAMESPACE_ID::int32 worker_return_time_;
-  ::PROTOBUF_NAMESPACE_ID::int32 harvest_amount_;
-  ::PROTOBUF_NAMESPACE_ID::int32 base_cost_;
-  ::PROTOBUF_NAMESPACE_ID::int32 barracks_cost_;
   ::PROTOBUF_NAMESPACE_ID::int32 heavy_cost_;
   ::PROTOBUF_NAMESPACE_ID::int32 light_cost_;
   ::PROTOBUF_NAMESPACE_ID::int32 ranged_cost_;
   ::PROTOBUF_NAMESPACE_ID::int32 my_heavy_units_;
   ::PROTOBUF_NAMESPACE_ID::int32 my_light_units_;
   ::PROTOBUF_NAMESPACE_ID::int32 my_ranged_units_;
-  ::PROTOBUF_NAMESPACE_ID::int32 initial_enemy_worker_;
-  ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_worker_;
   ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_heavy_;
   ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_light_;
   ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_ranged_;
-  ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_worker_in_total_;
   ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_heavy_in_total_;
   ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_light_in_total_;
   ::PROTOBUF_NAMESPACE_ID::int32 observed_enemy_ranged_in_total_;
   ::PROTOBUF_NAMESPACE_ID::int32 solver_type_;
   ::PROTOBUF_NAMESPACE_ID::int32 nb_samples_;
+  ::PROTOBUF_NAMESPACE_ID::int32 time_budget_us_;
+  ::PROTOBUF_NAMESPACE_ID::int32 min_samples_;
+  ::PROTOBUF_NAMESPACE_ID::int32 estimated_remaining_resources_;
+  ::PROTOBUF_NAMESPACE_ID::int32 all_solver_types_;
+  ::PROTOBUF_NAMESPACE_ID::int32 number_threads_;
   mutable ::PROTOBUF_NAMESPACE_ID::internal::CachedSize _cached_size_;
   friend struct ::TableStruct_microphantom_2eproto;
 };
@@ -661,10 +601,92 @@ class SolutionBuffer final :
   // accessors -------------------------------------------------------
 
   enum : int {
+    kAssignmentFieldNumber = 4,
+    kPlansFieldNumber = 5,
+    kPlanAssignmentsFieldNumber = 6,
+    kCostFieldNumber = 9,
     kNumberHeavyFieldNumber = 1,
     kNumberLightFieldNumber = 2,
     kNumberRangedFieldNumber = 3,
+    kSolveTimeUsFieldNumber = 7,
+    kSatisfiedFieldNumber = 8,
+    kSearchIterationsFieldNumber = 10,
   };
+  // repeated int32 assignment = 4;
+  int assignment_size() const;
+  private:
+  int _internal_assignment_size() const;
+  public:
+  void clear_assignment();
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_assignment(int index) const;
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      _internal_assignment() const;
+  void _internal_add_assignment(::PROTOBUF_NAMESPACE_ID::int32 value);
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      _internal_mutable_assignment();
+  public:
+  ::PROTOBUF_NAMESPACE_ID::int32 assignment(int index) const;
+  void set_assignment(int index, ::PROTOBUF_NAMESPACE_ID::int32 value);
+  void add_assignment(::PROTOBUF_NAMESPACE_ID::int32 value);
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      assignment() const;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      mutable_assignment();
+
+  // repeated int32 plans = 5;
+  int plans_size() const;
+  private:
+  int _internal_plans_size() const;
+  public:
+  void clear_plans();
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_plans(int index) const;
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      _internal_plans() const;
+  void _internal_add_plans(::PROTOBUF_NAMESPACE_ID::int32 value);
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      _internal_mutable_plans();
+  public:
+  ::PROTOBUF_NAMESPACE_ID::int32 plans(int index) const;
+  void set_plans(int index, ::PROTOBUF_NAMESPACE_ID::int32 value);
+  void add_plans(::PROTOBUF_NAMESPACE_ID::int32 value);
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      plans() const;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      mutable_plans();
+
+  // repeated int32 plan_assignments = 6;
+  int plan_assignments_size() const;
+  private:
+  int _internal_plan_assignments_size() const;
+  public:
+  void clear_plan_assignments();
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_plan_assignments(int index) const;
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      _internal_plan_assignments() const;
+  void _internal_add_plan_assignments(::PROTOBUF_NAMESPACE_ID::int32 value);
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      _internal_mutable_plan_assignments();
+  public:
+  ::PROTOBUF_NAMESPACE_ID::int32 plan_assignments(int index) const;
+  void set_plan_assignments(int index, ::PROTOBUF_NAMESPACE_ID::int32 value);
+  void add_plan_assignments(::PROTOBUF_NAMESPACE_ID::int32 value);
+  const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+      plan_assignments() const;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+      mutable_plan_assignments();
+
+  // double cost = 9;
+  void clear_cost();
+  double cost() const;
+  void set_cost(double value);
+  private:
+  double _internal_cost() const;
+  void _internal_set_cost(double value);
+  public:
+
   // int32 number_heavy = 1;
   void clear_number_heavy();
   ::PROTOBUF_NAMESPACE_ID::int32 number_heavy() const;
@@ -692,6 +714,33 @@ class SolutionBuffer final :
   void _internal_set_number_ranged(::PROTOBUF_NAMESPACE_ID::int32 value);
   public:
 
+  // int32 solve_time_us = 7;
+  void clear_solve_time_us();
+  ::PROTOBUF_NAMESPACE_ID::int32 solve_time_us() const;
+  void set_solve_time_us(::PROTOBUF_NAMESPACE_ID::int32 value);
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_solve_time_us() const;
+  void _internal_set_solve_time_us(::PROTOBUF_NAMESPACE_ID::int32 value);
+  public:
+
+  // int32 satisfied = 8;
+  void clear_satisfied();
+  ::PROTOBUF_NAMESPACE_ID::int32 satisfied() const;
+  void set_satisfied(::PROTOBUF_NAMESPACE_ID::int32 value);
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_satisfied() const;
+  void _internal_set_satisfied(::PROTOBUF_NAMESPACE_ID::int32 value);
+  public:
+
+  // int32 search_iterations = 10;
+  void clear_search_iterations();
+  ::PROTOBUF_NAMESPACE_ID::int32 search_iterations() const;
+  void set_search_iterations(::PROTOBUF_NAMESPACE_ID::int32 value);
+  private:
+  ::PROTOBUF_NAMESPACE_ID::int32 _internal_search_iterations() const;
+  void _internal_set_search_iterations(::PROTOBUF_NAMESPACE_ID::int32 value);
+  public:
+
   // @@protoc_insertion_point(class_scope:SolutionBuffer)
  private:
   class _Internal;
@@ -699,9 +748,19 @@ class SolutionBuffer final :
   template <typename T> friend class ::PROTOBUF_NAMESPACE_ID::Arena::InternalHelper;
   typedef void InternalArenaConstructable_;
   typedef void DestructorSkippable_;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 > assignment_;
+  mutable std::atomic<int> _assignment_cached_byte_size_;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 > plans_;
+  mutable std::atomic<int> _plans_cached_byte_size_;
+  ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 > plan_assignments_;
+  mutable std::atomic<int> _plan_assignments_cached_byte_size_;
+  double cost_;
   ::PROTOBUF_NAMESPACE_ID::int32 number_heavy_;
   ::PROTOBUF_NAMESPACE_ID::int32 number_light_;
   ::PROTOBUF_NAMESPACE_ID::int32 number_ranged_;
+  ::PROTOBUF_NAMESPACE_ID::int32 solve_time_us_;
+  ::PROTOBUF_NAMESPACE_ID::int32 satisfied_;
+  ::PROTOBUF_NAMESPACE_ID::int32 search_iterations_;
   mutable ::PROTOBUF_NAMESPACE_ID::internal::CachedSize _cached_size_;
   friend struct ::TableStruct_microphantom_2eproto;
 };
@@ -756,86 +815,6 @@ inline void GameStateBuffer::set_nb_barracks(::PROTOBUF_NAMESPACE_ID::int32 valu
   // @@protoc_insertion_point(field_set:GameStateBuffer.nb_barracks)
 }
 
-// int32 min_distance_resource_base = 3;
-inline void GameStateBuffer::clear_min_distance_resource_base() {
-  min_distance_resource_base_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_min_distance_resource_base() const {
-  return min_distance_resource_base_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::min_distance_resource_base() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.min_distance_resource_base)
-  return _internal_min_distance_resource_base();
-}
-inline void GameStateBuffer::_internal_set_min_distance_resource_base(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  min_distance_resource_base_ = value;
-}
-inline void GameStateBuffer::set_min_distance_resource_base(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_min_distance_resource_base(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.min_distance_resource_base)
-}
-
-// int32 max_distance_resource_base = 4;
-inline void GameStateBuffer::clear_max_distance_resource_base() {
-  max_distance_resource_base_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_max_distance_resource_base() const {
-  return max_distance_resource_base_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::max_distance_resource_base() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.max_distance_resource_base)
-  return _internal_max_distance_resource_base();
-}
-inline void GameStateBuffer::_internal_set_max_distance_resource_base(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  max_distance_resource_base_ = value;
-}
-inline void GameStateBuffer::set_max_distance_resource_base(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_max_distance_resource_base(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.max_distance_resource_base)
-}
-
-// int32 no_initial_base = 5;
-inline void GameStateBuffer::clear_no_initial_base() {
-  no_initial_base_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_no_initial_base() const {
-  return no_initial_base_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::no_initial_base() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.no_initial_base)
-  return _internal_no_initial_base();
-}
-inline void GameStateBuffer::_internal_set_no_initial_base(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  no_initial_base_ = value;
-}
-inline void GameStateBuffer::set_no_initial_base(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_no_initial_base(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.no_initial_base)
-}
-
-// int32 no_initial_barracks = 6;
-inline void GameStateBuffer::clear_no_initial_barracks() {
-  no_initial_barracks_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_no_initial_barracks() const {
-  return no_initial_barracks_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::no_initial_barracks() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.no_initial_barracks)
-  return _internal_no_initial_barracks();
-}
-inline void GameStateBuffer::_internal_set_no_initial_barracks(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  no_initial_barracks_ = value;
-}
-inline void GameStateBuffer::set_no_initial_barracks(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_no_initial_barracks(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.no_initial_barracks)
-}
-
 // int32 resources = 7;
 inline void GameStateBuffer::clear_resources() {
   resources_ = 0;
@@ -856,166 +835,6 @@ inline void GameStateBuffer::set_resources(::PROTOBUF_NAMESPACE_ID::int32 value)
   // @@protoc_insertion_point(field_set:GameStateBuffer.resources)
 }
 
-// int32 initial_resources = 8;
-inline void GameStateBuffer::clear_initial_resources() {
-  initial_resources_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_initial_resources() const {
-  return initial_resources_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::initial_resources() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.initial_resources)
-  return _internal_initial_resources();
-}
-inline void GameStateBuffer::_internal_set_initial_resources(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  initial_resources_ = value;
-}
-inline void GameStateBuffer::set_initial_resources(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_initial_resources(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.initial_resources)
-}
-
-// int32 enemy_resources_loss = 9;
-inline void GameStateBuffer::clear_enemy_resources_loss() {
-  enemy_resources_loss_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_enemy_resources_loss() const {
-  return enemy_resources_loss_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::enemy_resources_loss() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.enemy_resources_loss)
-  return _internal_enemy_resources_loss();
-}
-inline void GameStateBuffer::_internal_set_enemy_resources_loss(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  enemy_resources_loss_ = value;
-}
-inline void GameStateBuffer::set_enemy_resources_loss(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_enemy_resources_loss(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.enemy_resources_loss)
-}
-
-// int32 worker_move_time = 10;
-inline void GameStateBuffer::clear_worker_move_time() {
-  worker_move_time_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_worker_move_time() const {
-  return worker_move_time_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::worker_move_time() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.worker_move_time)
-  return _internal_worker_move_time();
-}
-inline void GameStateBuffer::_internal_set_worker_move_time(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  worker_move_time_ = value;
-}
-inline void GameStateBuffer::set_worker_move_time(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_worker_move_time(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.worker_move_time)
-}
-
-// int32 worker_harvest_time = 11;
-inline void GameStateBuffer::clear_worker_harvest_time() {
-  worker_harvest_time_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_worker_harvest_time() const {
-  return worker_harvest_time_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::worker_harvest_time() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.worker_harvest_time)
-  return _internal_worker_harvest_time();
-}
-inline void GameStateBuffer::_internal_set_worker_harvest_time(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  worker_harvest_time_ = value;
-}
-inline void GameStateBuffer::set_worker_harvest_time(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_worker_harvest_time(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.worker_harvest_time)
-}
-
-// int32 worker_return_time = 12;
-inline void GameStateBuffer::clear_worker_return_time() {
-  worker_return_time_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_worker_return_time() const {
-  return worker_return_time_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::worker_return_time() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.worker_return_time)
-  return _internal_worker_return_time();
-}
-inline void GameStateBuffer::_internal_set_worker_return_time(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  worker_return_time_ = value;
-}
-inline void GameStateBuffer::set_worker_return_time(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_worker_return_time(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.worker_return_time)
-}
-
-// int32 harvest_amount = 13;
-inline void GameStateBuffer::clear_harvest_amount() {
-  harvest_amount_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_harvest_amount() const {
-  return harvest_amount_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::harvest_amount() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.harvest_amount)
-  return _internal_harvest_amount();
-}
-inline void GameStateBuffer::_internal_set_harvest_amount(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  harvest_amount_ = value;
-}
-inline void GameStateBuffer::set_harvest_amount(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_harvest_amount(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.harvest_amount)
-}
-
-// int32 base_cost = 14;
-inline void GameStateBuffer::clear_base_cost() {
-  base_cost_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_base_cost() const {
-  return base_cost_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::base_cost() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.base_cost)
-  return _internal_base_cost();
-}
-inline void GameStateBuffer::_internal_set_base_cost(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  base_cost_ = value;
-}
-inline void GameStateBuffer::set_base_cost(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_base_cost(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.base_cost)
-}
-
-// int32 barracks_cost = 15;
-inline void GameStateBuffer::clear_barracks_cost() {
-  barracks_cost_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_barracks_cost() const {
-  return barracks_cost_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::barracks_cost() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.barracks_cost)
-  return _internal_barracks_cost();
-}
-inline void GameStateBuffer::_internal_set_barracks_cost(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  barracks_cost_ = value;
-}
-inline void GameStateBuffer::set_barracks_cost(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_barracks_cost(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.barracks_cost)
-}
-
 // int32 heavy_cost = 16;
 inline void GameStateBuffer::clear_heavy_cost() {
   heavy_cost_ = 0;
@@ -1136,46 +955,6 @@ inline void GameStateBuffer::set_my_ranged_units(::PROTOBUF_NAMESPACE_ID::int32
   // @@protoc_insertion_point(field_set:GameStateBuffer.my_ranged_units)
 }
 
-// int32 initial_enemy_worker = 22;
-inline void GameStateBuffer::clear_initial_enemy_worker() {
-  initial_enemy_worker_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_initial_enemy_worker() const {
-  return initial_enemy_worker_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::initial_enemy_worker() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.initial_enemy_worker)
-  return _internal_initial_enemy_worker();
-}
-inline void GameStateBuffer::_internal_set_initial_enemy_worker(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  initial_enemy_worker_ = value;
-}
-inline void GameStateBuffer::set_initial_enemy_worker(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_initial_enemy_worker(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.initial_enemy_worker)
-}
-
-// int32 observed_enemy_worker = 23;
-inline void GameStateBuffer::clear_observed_enemy_worker() {
-  observed_enemy_worker_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_observed_enemy_worker() const {
-  return observed_enemy_worker_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::observed_enemy_worker() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.observed_enemy_worker)
-  return _internal_observed_enemy_worker();
-}
-inline void GameStateBuffer::_internal_set_observed_enemy_worker(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  observed_enemy_worker_ = value;
-}
-inline void GameStateBuffer::set_observed_enemy_worker(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_observed_enemy_worker(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.observed_enemy_worker)
-}
-
 // int32 observed_enemy_heavy = 24;
 inline void GameStateBuffer::clear_observed_enemy_heavy() {
   observed_enemy_heavy_ = 0;
@@ -1236,26 +1015,6 @@ inline void GameStateBuffer::set_observed_enemy_ranged(::PROTOBUF_NAMESPACE_ID::
   // @@protoc_insertion_point(field_set:GameStateBuffer.observed_enemy_ranged)
 }
 
-// int32 observed_enemy_worker_in_total = 27;
-inline void GameStateBuffer::clear_observed_enemy_worker_in_total() {
-  observed_enemy_worker_in_total_ = 0;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_observed_enemy_worker_in_total() const {
-  return observed_enemy_worker_in_total_;
-}
-inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::observed_enemy_worker_in_total() const {
-  // @@protoc_insertion_point(field_get:GameStateBuffer.observed_enemy_worker_in_total)
-  return _internal_observed_enemy_worker_in_total();
-}
-inline void GameStateBuffer::_internal_set_observed_enemy_worker_in_total(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  
-  observed_enemy_worker_in_total_ = value;
-}
-inline void GameStateBuffer::set_observed_enemy_worker_in_total(::PROTOBUF_NAMESPACE_ID::int32 value) {
-  _internal_set_observed_enemy_worker_in_total(value);
-  // @@protoc_insertion_point(field_set:GameStateBuffer.observed_enemy_worker_in_total)
-}
-
 // int32 observed_enemy_heavy_in_total = 28;
 inline void GameStateBuffer::clear_observed_enemy_heavy_in_total() {
   observed_enemy_heavy_in_total_ = 0;
@@ -1356,6 +1115,200 @@ inline void GameStateBuffer::set_nb_samples(::PROTOBUF_NAMESPACE_ID::int32 value
   // @@protoc_insertion_point(field_set:GameStateBuffer.nb_samples)
 }
 
+// repeated int32 previous_assignment = 33;
+inline int GameStateBuffer::_internal_previous_assignment_size() const {
+  return previous_assignment_.size();
+}
+inline int GameStateBuffer::previous_assignment_size() const {
+  return _internal_previous_assignment_size();
+}
+inline void GameStateBuffer::clear_previous_assignment() {
+  previous_assignment_.Clear();
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_previous_assignment(int index) const {
+  return previous_assignment_.Get(index);
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::previous_assignment(int index) const {
+  // @@protoc_insertion_point(field_get:GameStateBuffer.previous_assignment)
+  return _internal_previous_assignment(index);
+}
+inline void GameStateBuffer::set_previous_assignment(int index, ::PROTOBUF_NAMESPACE_ID::int32 value) {
+  previous_assignment_.Set(index, value);
+  // @@protoc_insertion_point(field_set:GameStateBuffer.previous_assignment)
+}
+inline void GameStateBuffer::_internal_add_previous_assignment(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  previous_assignment_.Add(value);
+}
+inline void GameStateBuffer::add_previous_assignment(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_add_previous_assignment(value);
+  // @@protoc_insertion_point(field_add:GameStateBuffer.previous_assignment)
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+GameStateBuffer::_internal_previous_assignment() const {
+  return previous_assignment_;
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+GameStateBuffer::previous_assignment() const {
+  // @@protoc_insertion_point(field_list:GameStateBuffer.previous_assignment)
+  return _internal_previous_assignment();
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+GameStateBuffer::_internal_mutable_previous_assignment() {
+  return &previous_assignment_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+GameStateBuffer::mutable_previous_assignment() {
+  // @@protoc_insertion_point(field_mutable_list:GameStateBuffer.previous_assignment)
+  return _internal_mutable_previous_assignment();
+}
+
+// int32 time_budget_us = 34;
+inline void GameStateBuffer::clear_time_budget_us() {
+  time_budget_us_ = 0;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_time_budget_us() const {
+  return time_budget_us_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::time_budget_us() const {
+  // @@protoc_insertion_point(field_get:GameStateBuffer.time_budget_us)
+  return _internal_time_budget_us();
+}
+inline void GameStateBuffer::_internal_set_time_budget_us(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  
+  time_budget_us_ = value;
+}
+inline void GameStateBuffer::set_time_budget_us(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_set_time_budget_us(value);
+  // @@protoc_insertion_point(field_set:GameStateBuffer.time_budget_us)
+}
+
+// int32 min_samples = 35;
+inline void GameStateBuffer::clear_min_samples() {
+  min_samples_ = 0;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_min_samples() const {
+  return min_samples_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::min_samples() const {
+  // @@protoc_insertion_point(field_get:GameStateBuffer.min_samples)
+  return _internal_min_samples();
+}
+inline void GameStateBuffer::_internal_set_min_samples(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  
+  min_samples_ = value;
+}
+inline void GameStateBuffer::set_min_samples(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_set_min_samples(value);
+  // @@protoc_insertion_point(field_set:GameStateBuffer.min_samples)
+}
+
+// int32 estimated_remaining_resources = 36;
+inline void GameStateBuffer::clear_estimated_remaining_resources() {
+  estimated_remaining_resources_ = 0;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_estimated_remaining_resources() const {
+  return estimated_remaining_resources_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::estimated_remaining_resources() const {
+  // @@protoc_insertion_point(field_get:GameStateBuffer.estimated_remaining_resources)
+  return _internal_estimated_remaining_resources();
+}
+inline void GameStateBuffer::_internal_set_estimated_remaining_resources(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  
+  estimated_remaining_resources_ = value;
+}
+inline void GameStateBuffer::set_estimated_remaining_resources(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_set_estimated_remaining_resources(value);
+  // @@protoc_insertion_point(field_set:GameStateBuffer.estimated_remaining_resources)
+}
+
+// int32 all_solver_types = 37;
+inline void GameStateBuffer::clear_all_solver_types() {
+  all_solver_types_ = 0;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_all_solver_types() const {
+  return all_solver_types_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::all_solver_types() const {
+  // @@protoc_insertion_point(field_get:GameStateBuffer.all_solver_types)
+  return _internal_all_solver_types();
+}
+inline void GameStateBuffer::_internal_set_all_solver_types(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  
+  all_solver_types_ = value;
+}
+inline void GameStateBuffer::set_all_solver_types(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_set_all_solver_types(value);
+  // @@protoc_insertion_point(field_set:GameStateBuffer.all_solver_types)
+}
+
+// int32 number_threads = 38;
+inline void GameStateBuffer::clear_number_threads() {
+  number_threads_ = 0;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_number_threads() const {
+  return number_threads_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::number_threads() const {
+  // @@protoc_insertion_point(field_get:GameStateBuffer.number_threads)
+  return _internal_number_threads();
+}
+inline void GameStateBuffer::_internal_set_number_threads(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  
+  number_threads_ = value;
+}
+inline void GameStateBuffer::set_number_threads(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_set_number_threads(value);
+  // @@protoc_insertion_point(field_set:GameStateBuffer.number_threads)
+}
+
+// repeated int32 cpus = 39;
+inline int GameStateBuffer::_internal_cpus_size() const {
+  return cpus_.size();
+}
+inline int GameStateBuffer::cpus_size() const {
+  return _internal_cpus_size();
+}
+inline void GameStateBuffer::clear_cpus() {
+  cpus_.Clear();
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::_internal_cpus(int index) const {
+  return cpus_.Get(index);
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 GameStateBuffer::cpus(int index) const {
+  // @@protoc_insertion_point(field_get:GameStateBuffer.cpus)
+  return _internal_cpus(index);
+}
+inline void GameStateBuffer::set_cpus(int index, ::PROTOBUF_NAMESPACE_ID::int32 value) {
+  cpus_.Set(index, value);
+  // @@protoc_insertion_point(field_set:GameStateBuffer.cpus)
+}
+inline void GameStateBuffer::_internal_add_cpus(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  cpus_.Add(value);
+}
+inline void GameStateBuffer::add_cpus(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_add_cpus(value);
+  // @@protoc_insertion_point(field_add:GameStateBuffer.cpus)
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+GameStateBuffer::_internal_cpus() const {
+  return cpus_;
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+GameStateBuffer::cpus() const {
+  // @@protoc_insertion_point(field_list:GameStateBuffer.cpus)
+  return _internal_cpus();
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+GameStateBuffer::_internal_mutable_cpus() {
+  return &cpus_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+GameStateBuffer::mutable_cpus() {
+  // @@protoc_insertion_point(field_mutable_list:GameStateBuffer.cpus)
+  return _internal_mutable_cpus();
+}
+
 // -------------------------------------------------------------------
 
 // SolutionBuffer
@@ -1420,6 +1373,227 @@ inline void SolutionBuffer::set_number_ranged(::PROTOBUF_NAMESPACE_ID::int32 val
   // @@protoc_insertion_point(field_set:SolutionBuffer.number_ranged)
 }
 
+// repeated int32 assignment = 4;
+inline int SolutionBuffer::_internal_assignment_size() const {
+  return assignment_.size();
+}
+inline int SolutionBuffer::assignment_size() const {
+  return _internal_assignment_size();
+}
+inline void SolutionBuffer::clear_assignment() {
+  assignment_.Clear();
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::_internal_assignment(int index) const {
+  return assignment_.Get(index);
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::assignment(int index) const {
+  // @@protoc_insertion_point(field_get:SolutionBuffer.assignment)
+  return _internal_assignment(index);
+}
+inline void SolutionBuffer::set_assignment(int index, ::PROTOBUF_NAMESPACE_ID::int32 value) {
+  assignment_.Set(index, value);
+  // @@protoc_insertion_point(field_set:SolutionBuffer.assignment)
+}
+inline void SolutionBuffer::_internal_add_assignment(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  assignment_.Add(value);
+}
+inline void SolutionBuffer::add_assignment(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_add_assignment(value);
+  // @@protoc_insertion_point(field_add:SolutionBuffer.assignment)
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+SolutionBuffer::_internal_assignment() const {
+  return assignment_;
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+SolutionBuffer::assignment() const {
+  // @@protoc_insertion_point(field_list:SolutionBuffer.assignment)
+  return _internal_assignment();
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+SolutionBuffer::_internal_mutable_assignment() {
+  return &assignment_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+SolutionBuffer::mutable_assignment() {
+  // @@protoc_insertion_point(field_mutable_list:SolutionBuffer.assignment)
+  return _internal_mutable_assignment();
+}
+
+// repeated int32 plans = 5;
+inline int SolutionBuffer::_internal_plans_size() const {
+  return plans_.size();
+}
+inline int SolutionBuffer::plans_size() const {
+  return _internal_plans_size();
+}
+inline void SolutionBuffer::clear_plans() {
+  plans_.Clear();
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::_internal_plans(int index) const {
+  return plans_.Get(index);
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::plans(int index) const {
+  // @@protoc_insertion_point(field_get:SolutionBuffer.plans)
+  return _internal_plans(index);
+}
+inline void SolutionBuffer::set_plans(int index, ::PROTOBUF_NAMESPACE_ID::int32 value) {
+  plans_.Set(index, value);
+  // @@protoc_insertion_point(field_set:SolutionBuffer.plans)
+}
+inline void SolutionBuffer::_internal_add_plans(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  plans_.Add(value);
+}
+inline void SolutionBuffer::add_plans(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_add_plans(value);
+  // @@protoc_insertion_point(field_add:SolutionBuffer.plans)
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+SolutionBuffer::_internal_plans() const {
+  return plans_;
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+SolutionBuffer::plans() const {
+  // @@protoc_insertion_point(field_list:SolutionBuffer.plans)
+  return _internal_plans();
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+SolutionBuffer::_internal_mutable_plans() {
+  return &plans_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+SolutionBuffer::mutable_plans() {
+  // @@protoc_insertion_point(field_mutable_list:SolutionBuffer.plans)
+  return _internal_mutable_plans();
+}
+
+// repeated int32 plan_assignments = 6;
+inline int SolutionBuffer::_internal_plan_assignments_size() const {
+  return plan_assignments_.size();
+}
+inline int SolutionBuffer::plan_assignments_size() const {
+  return _internal_plan_assignments_size();
+}
+inline void SolutionBuffer::clear_plan_assignments() {
+  plan_assignments_.Clear();
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::_internal_plan_assignments(int index) const {
+  return plan_assignments_.Get(index);
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::plan_assignments(int index) const {
+  // @@protoc_insertion_point(field_get:SolutionBuffer.plan_assignments)
+  return _internal_plan_assignments(index);
+}
+inline void SolutionBuffer::set_plan_assignments(int index, ::PROTOBUF_NAMESPACE_ID::int32 value) {
+  plan_assignments_.Set(index, value);
+  // @@protoc_insertion_point(field_set:SolutionBuffer.plan_assignments)
+}
+inline void SolutionBuffer::_internal_add_plan_assignments(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  plan_assignments_.Add(value);
+}
+inline void SolutionBuffer::add_plan_assignments(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_add_plan_assignments(value);
+  // @@protoc_insertion_point(field_add:SolutionBuffer.plan_assignments)
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+SolutionBuffer::_internal_plan_assignments() const {
+  return plan_assignments_;
+}
+inline const ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >&
+SolutionBuffer::plan_assignments() const {
+  // @@protoc_insertion_point(field_list:SolutionBuffer.plan_assignments)
+  return _internal_plan_assignments();
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+SolutionBuffer::_internal_mutable_plan_assignments() {
+  return &plan_assignments_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::RepeatedField< ::PROTOBUF_NAMESPACE_ID::int32 >*
+SolutionBuffer::mutable_plan_assignments() {
+  // @@protoc_insertion_point(field_mutable_list:SolutionBuffer.plan_assignments)
+  return _internal_mutable_plan_assignments();
+}
+
+// int32 solve_time_us = 7;
+inline void SolutionBuffer::clear_solve_time_us() {
+  solve_time_us_ = 0;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::_internal_solve_time_us() const {
+  return solve_time_us_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::solve_time_us() const {
+  // @@protoc_insertion_point(field_get:SolutionBuffer.solve_time_us)
+  return _internal_solve_time_us();
+}
+inline void SolutionBuffer::_internal_set_solve_time_us(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  
+  solve_time_us_ = value;
+}
+inline void SolutionBuffer::set_solve_time_us(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_set_solve_time_us(value);
+  // @@protoc_insertion_point(field_set:SolutionBuffer.solve_time_us)
+}
+
+// int32 satisfied = 8;
+inline void SolutionBuffer::clear_satisfied() {
+  satisfied_ = 0;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::_internal_satisfied() const {
+  return satisfied_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::satisfied() const {
+  // @@protoc_insertion_point(field_get:SolutionBuffer.satisfied)
+  return _internal_satisfied();
+}
+inline void SolutionBuffer::_internal_set_satisfied(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  
+  satisfied_ = value;
+}
+inline void SolutionBuffer::set_satisfied(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_set_satisfied(value);
+  // @@protoc_insertion_point(field_set:SolutionBuffer.satisfied)
+}
+
+// double cost = 9;
+inline void SolutionBuffer::clear_cost() {
+  cost_ = 0;
+}
+inline double SolutionBuffer::_internal_cost() const {
+  return cost_;
+}
+inline double SolutionBuffer::cost() const {
+  // @@protoc_insertion_point(field_get:SolutionBuffer.cost)
+  return _internal_cost();
+}
+inline void SolutionBuffer::_internal_set_cost(double value) {
+  
+  cost_ = value;
+}
+inline void SolutionBuffer::set_cost(double value) {
+  _internal_set_cost(value);
+  // @@protoc_insertion_point(field_set:SolutionBuffer.cost)
+}
+
+// int32 search_iterations = 10;
+inline void SolutionBuffer::clear_search_iterations() {
+  search_iterations_ = 0;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::_internal_search_iterations() const {
+  return search_iterations_;
+}
+inline ::PROTOBUF_NAMESPACE_ID::int32 SolutionBuffer::search_iterations() const {
+  // @@protoc_insertion_point(field_get:SolutionBuffer.search_iterations)
+  return _internal_search_iterations();
+}
+inline void SolutionBuffer::_internal_set_search_iterations(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  
+  search_iterations_ = value;
+}
+inline void SolutionBuffer::set_search_iterations(::PROTOBUF_NAMESPACE_ID::int32 value) {
+  _internal_set_search_iterations(value);
+  // @@protoc_insertion_point(field_set:SolutionBuffer.search_iterations)
+}
+
 #ifdef __GNUC__
   #pragma GCC diagnostic pop
 #endif  // __GNUC__
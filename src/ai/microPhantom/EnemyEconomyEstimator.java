@@ -0,0 +1,139 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+
+package ai.microPhantom;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import rts.units.Unit;
+import rts.units.UnitType;
+
+/**
+ * Estimation of the resources the opponent has not spent yet, updated at each frame.
+ *
+ * The opponent is supposed to start like us, with as many workers harvesting resources as
+ * far from their base as ours. Resources are gathered frame after frame by the workers we
+ * know the opponent has, and spent in the buildings, workers and army units we saw, plus
+ * the army units we destroyed.
+ */
+public class EnemyEconomyEstimator
+{
+	UnitType worker_type;
+	UnitType base_type;
+	UnitType barracks_type;
+
+	boolean started;
+	int initial_resources;
+	int initial_workers;
+	int initial_bases;
+	int initial_barracks;
+	double mean_distance; // between resource patches and base
+
+	int last_time;
+	int workers; // workers we think the opponent has
+	double gathered_resources;
+	int spent_resources;
+
+	Set<Long> seen_workers;
+	Set<Long> seen_bases;
+	Set<Long> seen_barracks;
+
+	public EnemyEconomyEstimator( UnitType worker_type, UnitType base_type, UnitType barracks_type )
+	{
+		this.worker_type = worker_type;
+		this.base_type = base_type;
+		this.barracks_type = barracks_type;
+		started = false;
+		mean_distance = 20.0; // let's consider resources are far away, until we know better
+		seen_workers = new HashSet<Long>();
+		seen_bases = new HashSet<Long>();
+		seen_barracks = new HashSet<Long>();
+	}
+
+	// Initial state of the opponent, supposed to be ours.
+	public void start( int time, int resources, int workers, boolean has_base, boolean has_barracks )
+	{
+		started = true;
+		last_time = time;
+		initial_resources = resources;
+		initial_workers = workers;
+		initial_bases = has_base ? 1 : 0;
+		initial_barracks = has_barracks ? 1 : 0;
+		this.workers = workers;
+	}
+
+	// Distances between our base and our resource patches, once we know them.
+	public void setResourceDistance( int min_distance, int max_distance )
+	{
+		if( min_distance != -1 )
+			mean_distance = (double)( min_distance + max_distance ) / 2;
+	}
+
+	// To call on each enemy unit we currently see.
+	public void observe( Unit unit )
+	{
+		if( unit.getType().ID == worker_type.ID )
+			seen_workers.add( unit.getID() );
+		else if( unit.getType().ID == base_type.ID )
+			seen_bases.add( unit.getID() );
+		else if( unit.getType().ID == barracks_type.ID )
+			seen_barracks.add( unit.getID() );
+	}
+
+	// Gather resources from the last update to time, with the workers the opponent has now,
+	// then count what we saw the opponent spend.
+	// known_workers is the number of enemy workers we saw and did not see die, army_value is the
+	// cost of enemy army units we saw and did not see die, and army_loss the cost of the ones we saw die.
+	public void update( int time, int known_workers, int army_value, int army_loss )
+	{
+		if( !started )
+			return;
+
+		if( time > last_time && workers > 0 )
+		{
+			// 20 * ( workers - 1 ) is to express a penalty when there are more than one worker: they tend to hinder each other.
+			double trip_time = mean_distance * worker_type.moveTime * 2 + worker_type.harvestTime + worker_type.returnTime + 20 * ( workers - 1 );
+			gathered_resources += worker_type.harvestAmount * workers * ( time - last_time ) / trip_time;
+		}
+		last_time = Math.max( last_time, time );
+		workers = Math.max( initial_workers, known_workers );
+
+		// If we have no base or barracks at start, the opponent likely had to build one.
+		int built_bases = Math.max( 1 - initial_bases, seen_bases.size() - initial_bases );
+		int built_barracks = Math.max( 1 - initial_barracks, seen_barracks.size() - initial_barracks );
+		int trained_workers = Math.max( 0, seen_workers.size() - initial_workers );
+
+		spent_resources = built_bases * base_type.cost
+			+ built_barracks * barracks_type.cost
+			+ trained_workers * worker_type.cost
+			+ army_value
+			+ army_loss;
+	}
+
+	public int getEstimatedRemainingResources()
+	{
+		return Math.max( 0, initial_resources + (int)gathered_resources - spent_resources );
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+package ai.microPhantom;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import rts.units.Unit;
+
+/**
+ * Exploration targets of all the units exploring the map, planned together once per frame.
+ *
+ * Behaviors only ask for a target: army units with no enemy in sight head to the stalest cells
+ * of the heat map, workers knowing no resource patch head to the cells revealing enough fog the
+ * closest to our initial base. Targets are then assigned to these units in one pass, unit after
+ * unit, away from the sight of the targets already assigned, so that two units do not explore
+ * the same place. A unit keeps its target while it is still worth it, for at most period cycles.
+ */
+public class ExplorationPlanner
+{
+	int width;
+	int height;
+	int surface;
+	int[] heat_map; // shared with microPhantom
+	LastSeenIndex last_seen; // shared with microPhantom
+	int period; // in game cycles
+
+	List<Unit> explorers; // army units asking for a target this frame
+	List<Unit> searchers; // workers asking for a target this frame
+	Map<Long, Integer> targets; // by unit ID
+	Map<Long, Integer> assignment_times; // by unit ID
+	BitSet taken; // cells in sight of the targets assigned this frame
+
+	public ExplorationPlanner( int width, int height, int[] heat_map, LastSeenIndex last_seen, int period )
+	{
+		this.width = width;
+		this.height = height;
+		surface = width * height;
+		this.heat_map = heat_map;
+		this.last_seen = last_seen;
+		this.period = period;
+		explorers = new ArrayList<Unit>();
+		searchers = new ArrayList<Unit>();
+		targets = new HashMap<Long, Integer>();
+		assignment_times = new HashMap<Long, Integer>();
+		taken = new BitSet( surface );
+	}
+
+	public void requestExploration( Unit u )
+	{
+		explorers.add( u );
+	}
+
+	public void requestResourceSearch( Unit u )
+	{
+		searchers.add( u );
+	}
+
+	public List<Unit> getExplorers()
+	{
+		return explorers;
+	}
+
+	public List<Unit> getSearchers()
+	{
+		return searchers;
+	}
+
+	// Forget the requests of this frame, once units move toward their targets.
+	public void clearRequests()
+	{
+		explorers.clear();
+		searchers.clear();
+	}
+
+	public void setPeriod( int period )
+	{
+		this.period = period;
+	}
+
+	// Target of the unit as a row-major cell, -1 if it has none.
+	public int getTarget( Unit u )
+	{
+		Integer target = targets.get( u.getID() );
+		return target == null ? -1 : target;
+	}
+
+	// Assign targets to the units asking for one this frame.
+	// Workers look for cells with at least min_fog unseen cells around, according to fog.
+	public void plan( int time, int base_x, int base_y, FogCounter fog, int min_fog )
+	{
+		taken.clear();
+
+		// Forget the units not exploring anymore
+		Set<Long> requesting = new HashSet<Long>();
+		for( Unit u : explorers )
+			requesting.add( u.getID() );
+		for( Unit u : searchers )
+			requesting.add( u.getID() );
+		targets.keySet().retainAll( requesting );
+		assignment_times.keySet().retainAll( requesting );
+
+		// Keep targets still worth it: not seen since assigned for army units,
+		// still revealing enough fog for workers
+		List<Unit> new_explorers = new ArrayList<Unit>();
+		for( Unit u : explorers )
+			if( keep( u, time ) && heat_map[ targets.get( u.getID() ) ] < assignment_times.get( u.getID() ) )
+				take( targets.get( u.getID() ), u.getType().sightRadius );
+			else
+				new_explorers.add( u );
+
+		List<Unit> new_searchers = new ArrayList<Unit>();
+		for( Unit u : searchers )
+			if( keep( u, time ) && fog.count( targets.get( u.getID() ) ) >= min_fog )
+				take( targets.get( u.getID() ), u.getType().sightRadius );
+			else
+				new_searchers.add( u );
+
+		for( Unit u : new_explorers )
+		{
+			int target = last_seen.nearestStalest( u.getX(), u.getY(), taken );
+			// all the stale places are being explored: join the closest one
+			if( target == -1 )
+				target = last_seen.nearestStalest( u.getX(), u.getY() );
+			assign( u, target, time );
+		}
+
+		if( !new_searchers.isEmpty() )
+			planResourceSearch( new_searchers, time, base_x, base_y, fog, min_fog );
+	}
+
+	private boolean keep( Unit u, int time )
+	{
+		return targets.containsKey( u.getID() ) && time - assignment_times.get( u.getID() ) < period;
+	}
+
+	private void assign( Unit u, int target, int time )
+	{
+		if( target == -1 )
+		{
+			targets.remove( u.getID() );
+			assignment_times.remove( u.getID() );
+		}
+		else
+		{
+			targets.put( u.getID(), target );
+			assignment_times.put( u.getID(), time );
+			take( target, u.getType().sightRadius );
+		}
+	}
+
+	// Cells a unit sees from the given cell, ie within a Euclidean distance of its sight radius.
+	private void take( int cell, int sight )
+	{
+		int x = cell % width;
+		int y = cell / width;
+		for( int y_sight = Math.max( 0, y - sight ) ; y_sight <= Math.min( height - 1, y + sight ) ; ++y_sight )
+		{
+			int dx = (int)Math.sqrt( sight * sight - ( y_sight - y ) * ( y_sight - y ) );
+			taken.set( width * y_sight + Math.max( 0, x - dx ), width * y_sight + Math.min( width - 1, x + dx ) + 1 );
+		}
+	}
+
+	// Cells revealing enough fog, the closest to our initial base first, and as a tiebreaker, the closest to the worker.
+	// Candidate cells are gathered by distance to the base in a single pass over the map, for all workers.
+	private void planResourceSearch( List<Unit> workers, int time, int base_x, int base_y, FogCounter fog, int min_fog )
+	{
+		if( base_x == -1 )
+		{
+			for( Unit u : workers )
+				assign( u, -1, time );
+			return;
+		}
+
+		int max_distance = Math.max( base_x, width - 1 - base_x ) + Math.max( base_y, height - 1 - base_y );
+		List<List<Integer>> candidates = new ArrayList<List<Integer>>( max_distance + 1 );
+		for( int distance = 0 ; distance <= max_distance ; ++distance )
+			candidates.add( new ArrayList<Integer>() );
+
+		for( int cell = 0 ; cell < surface ; ++cell )
+			if( fog.count( cell ) >= min_fog )
+				candidates.get( Math.abs( cell % width - base_x ) + Math.abs( cell / width - base_y ) ).add( cell );
+
+		for( Unit u : workers )
+		{
+			int target = closestCandidate( u, candidates, true );
+			// all the places are being explored: join the closest one
+			if( target == -1 )
+				target = closestCandidate( u, candidates, false );
+			assign( u, target, time );
+		}
+	}
+
+	private int closestCandidate( Unit u, List<List<Integer>> candidates, boolean skip_taken )
+	{
+		for( List<Integer> cells : candidates )
+		{
+			int closest = -1;
+			int distance_self = Integer.MAX_VALUE;
+			for( int cell : cells )
+				if( !skip_taken || !taken.get( cell ) )
+				{
+					int distance = Math.abs( cell % width - u.getX() ) + Math.abs( cell / width - u.getY() );
+					if( distance < distance_self )
+					{
+						distance_self = distance;
+						closest = cell;
+					}
+				}
+
+			if( closest != -1 )
+				return closest;
+		}
+
+		return -1;
+	}
+}
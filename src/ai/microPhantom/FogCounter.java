@@ -0,0 +1,93 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+package ai.microPhantom;
+
+import java.util.BitSet;
+
+/**
+ * Number of cells never seen within a Manhattan distance of each cell of the map, ie the fog
+ * a unit with this sight radius would reveal there.
+ *
+ * Cells are never unseen again once seen, so counts only decrease: revealing a cell updates the
+ * counts of the cells around it, and each cell is revealed at most once in a game.
+ */
+public class FogCounter
+{
+	int width;
+	int height;
+	int radius;
+	int[] counts; // row-major, like the heat map
+
+	// Count the non-wall cells with a heat of -1 in the given row-major heat map.
+	public FogCounter( int width, int height, int radius, int[] heat_map, BitSet walls )
+	{
+		this.width = width;
+		this.height = height;
+		this.radius = radius;
+		counts = new int[ width * height ];
+
+		// unseen cells of each row before each column
+		int[] row_fog = new int[ height * ( width + 1 ) ];
+		for( int y = 0 ; y < height ; ++y )
+			for( int x = 0 ; x < width ; ++x )
+			{
+				int cell = width * y + x;
+				row_fog[ ( width + 1 ) * y + x + 1 ] = row_fog[ ( width + 1 ) * y + x ] + ( heat_map[ cell ] == -1 && !walls.get( cell ) ? 1 : 0 );
+			}
+
+		for( int y = 0 ; y < height ; ++y )
+			for( int x = 0 ; x < width ; ++x )
+			{
+				int count = 0;
+				for( int y_fog = Math.max( 0, y - radius ) ; y_fog <= Math.min( height - 1, y + radius ) ; ++y_fog )
+				{
+					int dx = radius - Math.abs( y_fog - y );
+					count += row_fog[ ( width + 1 ) * y_fog + Math.min( width, x + dx + 1 ) ] - row_fog[ ( width + 1 ) * y_fog + Math.max( 0, x - dx ) ];
+				}
+				counts[ width * y + x ] = count;
+			}
+	}
+
+	// The unseen cell (x,y) has just been seen.
+	public void reveal( int x, int y )
+	{
+		for( int y_fog = Math.max( 0, y - radius ) ; y_fog <= Math.min( height - 1, y + radius ) ; ++y_fog )
+		{
+			int dx = radius - Math.abs( y_fog - y );
+			int row = width * y_fog;
+			for( int cell = row + Math.max( 0, x - dx ) ; cell <= row + Math.min( width - 1, x + dx ) ; ++cell )
+				--counts[ cell ];
+		}
+	}
+
+	public int getRadius()
+	{
+		return radius;
+	}
+
+	// Number of unseen cells within radius of the given cell.
+	public int count( int cell )
+	{
+		return counts[ cell ];
+	}
+}
@@ -0,0 +1,355 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+package ai.microPhantom;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import com.google.protobuf.CodedOutputStream;
+
+import com.microphantom.protos.SolutionBuffer;
+import com.microphantom.protos.GameStateBuffer;
+
+/**
+ * Production solver running GHOST in a solver_cpp process.
+ * The process is spawned at the first request and kept alive for the whole game.
+ *
+ * microRTS clones AIs freely: nothing is bound nor written in the temporary directory
+ * before the first request, so that clones never used to play cost nothing.
+ */
+public class GhostProductionSolver implements ProductionSolver
+{
+	// To give a distinct socket path to each instance.
+	private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger( 0 );
+	// The most time a spawned solver has to connect to us, in ms.
+	static final int CONNECTION_TIMEOUT = 2000;
+
+	String solver_path;
+
+	ServerSocketChannel serverSocketChannel;
+	SocketChannel solver_channel;
+	Process solver_process;
+	// Each instance has its own endpoint, given to the solver through its command line.
+	InetAddress inetAddress;
+	int port;
+	boolean unix_domain_socket;
+	boolean bound_to_unix_domain_socket;
+	Path socket_path;
+
+	ByteBuffer request_buffer;
+	ByteBuffer reply_buffer;
+
+	public GhostProductionSolver( String solver_path, boolean unix_domain_socket )
+	{
+		this.solver_path = solver_path;
+		this.unix_domain_socket = unix_domain_socket;
+		request_buffer = ByteBuffer.allocateDirect( 1024 );
+		reply_buffer = ByteBuffer.allocateDirect( 1024 );
+
+		try
+		{
+			inetAddress = InetAddress.getByName( "localhost" );
+		}
+		catch( UnknownHostException e )
+		{
+			System.out.println( "Unknown Host Exception (but it wouldn't be: it's localhost)" );
+			System.out.println( e.getMessage() );
+		}
+	}
+
+	/*
+	 * Private methods
+	 */
+
+	// Spawn the solver and wait for it to connect. The connection is then kept open
+	// for the whole game: the solver serves one request after another until we close it.
+	// A solver dying or hanging before it connects must not block us: we give up after
+	// CONNECTION_TIMEOUT, and the next request spawns another solver.
+	private void startSolver() throws IOException
+	{
+		if( serverSocketChannel == null || !serverSocketChannel.isOpen() )
+			openServerSocket();
+
+		String[] command;
+		if( bound_to_unix_domain_socket )
+			command = new String[]{ solver_path, "unix", socket_path.toString() };
+		else
+			command = new String[]{ solver_path, "tcp", Integer.toString( port ) };
+
+		// Nobody reads the solver outputs: if they were pipes, the solver would block once they are full.
+		solver_process = new ProcessBuilder( command )
+			.redirectOutput( ProcessBuilder.Redirect.DISCARD )
+			.redirectError( ProcessBuilder.Redirect.INHERIT )
+			.start();
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( CONNECTION_TIMEOUT );
+		serverSocketChannel.configureBlocking( false );
+		try
+		{
+			while( ( solver_channel = serverSocketChannel.accept() ) == null )
+			{
+				if( !solver_process.isAlive() )
+					throw new IOException( "The solver exited before connecting, with code " + solver_process.exitValue() );
+				if( System.nanoTime() > deadline )
+					throw new IOException( "The solver did not connect within " + CONNECTION_TIMEOUT + " ms" );
+				Thread.sleep( 1 );
+			}
+		}
+		catch( InterruptedException e )
+		{
+			Thread.currentThread().interrupt();
+			stopSolver();
+			throw new IOException( "Interrupted while waiting for the solver to connect" );
+		}
+		catch( IOException e )
+		{
+			stopSolver();
+			throw e;
+		}
+		finally
+		{
+			serverSocketChannel.configureBlocking( true );
+		}
+	}
+
+	// Listen on our Unix domain socket if asked and supported by the system and the JVM,
+	// on a TCP port picked by the system otherwise.
+	private void openServerSocket() throws IOException
+	{
+		bound_to_unix_domain_socket = false;
+		if( unix_domain_socket )
+		{
+			try
+			{
+				if( socket_path == null )
+				{
+					socket_path = Paths.get( System.getProperty( "java.io.tmpdir" ),
+					                         "microPhantom-" + ProcessHandle.current().pid() + "-" + INSTANCE_COUNTER.incrementAndGet() + ".sock" );
+					// in case the game never calls gameOver on us
+					socket_path.toFile().deleteOnExit();
+				}
+				Files.deleteIfExists( socket_path );
+				serverSocketChannel = UnixDomainSockets.bind( socket_path );
+				bound_to_unix_domain_socket = true;
+				return;
+			}
+			catch( UnsupportedOperationException | IOException | LinkageError e )
+			{
+				// LinkageError: Unix domain sockets need Java 16 or later
+				System.out.println( "Unix domain socket unavailable, falling back to TCP" );
+				System.out.println( e.toString() );
+			}
+		}
+
+		serverSocketChannel = ServerSocketChannel.open();
+		serverSocketChannel.bind( new InetSocketAddress( inetAddress, 0 ) );
+		port = ( (InetSocketAddress)serverSocketChannel.getLocalAddress() ).getPort();
+	}
+
+	private void closeServerSocket()
+	{
+		try
+		{
+			if( serverSocketChannel != null && serverSocketChannel.isOpen() )
+				serverSocketChannel.close();
+			serverSocketChannel = null;
+			if( socket_path != null )
+				Files.deleteIfExists( socket_path );
+		}
+		catch( IOException e1 )
+		{
+			System.out.println( "IO exception in process" );
+			System.out.println( e1.getMessage() );
+		}
+	}
+
+	// Messages to and from the solver are framed by their size, encoded as a varint, like
+	// protobuf's writeDelimitedTo. The message is encoded straight into the request buffer,
+	// which is reused from one request to another.
+	private void writeFrame( GameStateBuffer game_state ) throws IOException
+	{
+		int size = game_state.getSerializedSize();
+		int frame_size = CodedOutputStream.computeUInt32SizeNoTag( size ) + size;
+		if( request_buffer.capacity() < frame_size )
+			request_buffer = ByteBuffer.allocateDirect( frame_size );
+
+		request_buffer.clear();
+		CodedOutputStream output = CodedOutputStream.newInstance( request_buffer );
+		output.writeUInt32NoTag( size );
+		game_state.writeTo( output );
+		output.flush();
+		request_buffer.flip();
+
+		while( request_buffer.hasRemaining() )
+			solver_channel.write( request_buffer );
+	}
+
+	// Read a whole frame from the solver into the reply buffer, which is reused from one reply to another.
+	// Return the reply buffer, with its position and limit set on the message.
+	private ByteBuffer readFrame() throws IOException
+	{
+		int header_size = 0;
+		int size = -1;
+
+		reply_buffer.clear();
+		while( size == -1 || reply_buffer.position() < header_size + size )
+		{
+			if( solver_channel.read( reply_buffer ) == -1 )
+				throw new EOFException( "The solver closed the connection" );
+
+			if( size == -1 )
+			{
+				// try to decode the varint header with the bytes we have so far
+				int value = 0;
+				for( int i = 0 ; i < reply_buffer.position() && i < 5 ; ++i )
+				{
+					byte b = reply_buffer.get( i );
+					value |= ( b & 0x7F ) << ( 7 * i );
+					if( ( b & 0x80 ) == 0 )
+					{
+						header_size = i + 1;
+						size = value;
+						break;
+					}
+				}
+
+				if( size == -1 && reply_buffer.position() >= 5 )
+					throw new IOException( "Malformed frame header from the solver" );
+
+				if( size != -1 && reply_buffer.capacity() < header_size + size )
+				{
+					ByteBuffer larger_buffer = ByteBuffer.allocateDirect( header_size + size );
+					reply_buffer.flip();
+					larger_buffer.put( reply_buffer );
+					reply_buffer = larger_buffer;
+				}
+			}
+		}
+
+		reply_buffer.flip();
+		reply_buffer.position( header_size );
+		reply_buffer.limit( header_size + size );
+		return reply_buffer;
+	}
+
+	// Closing the connection makes the solver leave its request loop and exit.
+	private void stopSolver()
+	{
+		try
+		{
+			if( solver_channel != null && solver_channel.isOpen() )
+				solver_channel.close();
+		}
+		catch( IOException e1 )
+		{
+			System.out.println( "IO exception in process" );
+			System.out.println( e1.getMessage() );
+		}
+		solver_channel = null;
+
+		if( solver_process != null )
+		{
+			try
+			{
+				if( !solver_process.waitFor( 100, TimeUnit.MILLISECONDS ) )
+				{
+					solver_process.descendants().forEach( ProcessHandle::destroy );
+					solver_process.destroy();
+				}
+			}
+			catch( InterruptedException e )
+			{
+				solver_process.destroy();
+				Thread.currentThread().interrupt();
+			}
+			solver_process = null;
+		}
+	}
+
+	// The only place referring to Unix domain socket classes, which do not exist before Java 16:
+	// this class is only loaded when we try to bind such a socket, where its failure is caught.
+	private static class UnixDomainSockets
+	{
+		static ServerSocketChannel bind( Path path ) throws IOException
+		{
+			ServerSocketChannel channel = ServerSocketChannel.open( StandardProtocolFamily.UNIX );
+			try
+			{
+				SocketAddress address = UnixDomainSocketAddress.of( path );
+				channel.bind( address );
+			}
+			catch( IOException | RuntimeException e )
+			{
+				channel.close();
+				throw e;
+			}
+			return channel;
+		}
+	}
+
+	/*
+	 * Public methods
+	 */
+
+	// Send the game state to the solver and wait for its answer.
+	// If anything goes wrong, a new solver will be spawned at the next request.
+	@Override
+	public SolutionBuffer solve( GameStateBuffer game_state ) throws IOException
+	{
+		try
+		{
+			if( solver_channel == null || !solver_channel.isOpen() )
+				startSolver();
+
+			writeFrame( game_state );
+			return SolutionBuffer.parseFrom( readFrame() );
+		}
+		catch( IOException e )
+		{
+			stopSolver();
+			throw e;
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		stopSolver();
+		closeServerSocket();
+	}
+}
@@ -0,0 +1,570 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+package ai.microPhantom;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+
+import com.microphantom.protos.SolutionBuffer;
+import com.microphantom.protos.GameStateBuffer;
+
+/**
+ * Production solver running in the JVM, without any native process.
+ *
+ * It is a port of problem_model: the enemy army estimation of production.cpp and sampler.cpp, the model of
+ * builder.cpp (same variables, constraints_rts.cpp constraints and obj_rts.cpp objective,
+ * phi functions of phi_function.hpp), and a local search in the spirit of GHOST's one.
+ */
+public class JavaProductionSolver implements ProductionSolver
+{
+	public static final int DEFAULT_TIME_BUDGET = 90; // in ms, like the GHOST solver
+
+	// Variables:
+	// 0-2: Heavy/Light/Ranged assigned to heavy
+	// 3-5: Heavy/Light/Ranged assigned to light
+	// 6-8: Heavy/Light/Ranged assigned to ranged
+	// 9-11: Heavy/Light/Ranged to produce
+	static final int NUMBER_VARIABLES = 12;
+
+	// Coefficients:
+	// H vs H, L vs H, R vs H
+	// H vs L, L vs L, R vs L
+	// H vs R, L vs R, R vs R
+	static final double[] COEFFICIENTS = { 1.   , 0.374, 1.564,
+	                                       2.675, 1.   , 0.472,
+	                                       0.639, 2.119, 1. };
+
+	// Variables of the 3 Assignment constraints, then of Stock and ProductionCapacity.
+	static final int[][] CONSTRAINT_VARIABLES = { { 0, 3, 6, 9 },
+	                                              { 1, 4, 7, 10 },
+	                                              { 2, 5, 8, 11 },
+	                                              { 9, 10, 11 },
+	                                              { 9, 10, 11 } };
+
+	// Number of moves without improvement before restarting from a random assignment.
+	static final int RESTART_THRESHOLD = 2 * NUMBER_VARIABLES;
+
+	// Sampling stops once a batch moves the frequencies of sampled compositions by less than this total variation distance.
+	static final double SAMPLES_CONVERGENCE = 0.05;
+
+	long time_budget; // in ns, for requests without a time budget
+	Random random;
+
+	// Model of the current request
+	int[] my_units;
+	int resources;
+	int nb_barracks;
+	int[] costs;
+	int[] domain_size;
+	int[] samples; // flat array of unique { heavy, light, ranged } compositions
+	int[] weights; // number of draws of each composition
+	int number_samples; // number of unique compositions
+	int total_weight; // number of draws
+	DoubleUnaryOperator phi;
+
+	// Search state
+	int[] values;
+	int[] best_values;
+	double[] constraint_errors;
+	double[] sample_values; // scratch buffer of the objective
+	int[] sorted_weights; // scratch buffer of the objective, weights in the order of sample_values
+	long[] sample_keys; // scratch buffer to collapse samples
+	int search_iterations; // of the current request
+	int[] strata; // scratch buffer of the sampler
+	int[] remaining_resources; // scratch buffer of the sampler
+	int[] estimated; // scratch buffer of the sampler, flat array of compositions
+
+	public JavaProductionSolver()
+	{
+		this( DEFAULT_TIME_BUDGET );
+	}
+
+	public JavaProductionSolver( int time_budget )
+	{
+		this.time_budget = TimeUnit.MILLISECONDS.toNanos( time_budget );
+		random = new Random();
+		my_units = new int[3];
+		costs = new int[3];
+		domain_size = new int[ NUMBER_VARIABLES ];
+		values = new int[ NUMBER_VARIABLES ];
+		best_values = new int[ NUMBER_VARIABLES ];
+		constraint_errors = new double[ CONSTRAINT_VARIABLES.length ];
+		samples = new int[0];
+		weights = new int[0];
+		sample_keys = new long[0];
+		sample_values = new double[0];
+		sorted_weights = new int[0];
+		strata = new int[0];
+		remaining_resources = new int[0];
+		estimated = new int[0];
+	}
+
+	/*
+	 * Phi functions, see phi_function.hpp
+	 */
+	static DoubleUnaryOperator logistic( int lambda, double shift )
+	{
+		return p -> 1.0 / ( 1 + Math.exp( - lambda * ( 2 * p - shift ) ) );
+	}
+
+	static DoubleUnaryOperator logit( int lambda )
+	{
+		return p ->
+			{
+				if( p < 0.005 ) return 0.0;
+				if( p > 0.995 ) return 1.0;
+				return Math.max( 0., 1 + Math.log( p / ( 2 - p ) ) / lambda );
+			};
+	}
+
+	static DoubleUnaryOperator identity()
+	{
+		return p -> p;
+	}
+
+	static DoubleUnaryOperator pessimistic()
+	{
+		return logistic( 10, 1.3 );
+	}
+
+	static DoubleUnaryOperator optimistic()
+	{
+		return logit( 10 );
+	}
+
+	static DoubleUnaryOperator phi( int solver_type )
+	{
+		if( solver_type == 2 )
+			return pessimistic();
+		else if( solver_type == 1 )
+			return optimistic();
+		else
+			return identity();
+	}
+
+	/*
+	 * Private methods
+	 */
+
+	// Estimate how the opponent spent its remaining resources: each sample is
+	// a possible enemy army composition. Same estimation as in production.cpp.
+	private void sampleEnemyArmy( GameStateBuffer game_state )
+	{
+		// microPhantom estimates how much resources the opponent has along the game, see EnemyEconomyEstimator.
+		int estimated_remaining_resources = game_state.getEstimatedRemainingResources();
+
+		// Enemy units currently seen count double. Enemy units unseen but we saw before (so dead or returned under the fog) count simple.
+		// +1 to each unit type to never have a probability = 0 of producing any type of unit.
+		int[] observed = { game_state.getObservedEnemyHeavy(), game_state.getObservedEnemyLight(), game_state.getObservedEnemyRanged() };
+		double[] distribution = { 1 + observed[0] + game_state.getObservedEnemyHeavyInTotal(),
+		                          1 + observed[1] + game_state.getObservedEnemyLightInTotal(),
+		                          1 + observed[2] + game_state.getObservedEnemyRangedInTotal() };
+
+		// Without min_samples, draw exactly nb_samples. Otherwise, draw samples by batches of
+		// min_samples and stop once a batch barely changes the frequencies of sampled compositions.
+		int max_samples = Math.max( 0, game_state.getNbSamples() );
+		int batch_size = game_state.getMinSamples() > 0 ? Math.min( game_state.getMinSamples(), max_samples ) : max_samples;
+		if( sample_keys.length < max_samples )
+		{
+			samples = new int[ 3 * max_samples ];
+			weights = new int[ max_samples ];
+			sample_keys = new long[ max_samples ];
+			sample_values = new double[ max_samples ];
+			sorted_weights = new int[ max_samples ];
+			strata = new int[ max_samples ];
+			remaining_resources = new int[ max_samples ];
+			estimated = new int[ 3 * max_samples ];
+		}
+
+		total_weight = 0;
+		while( total_weight < max_samples )
+		{
+			int previous_size = total_weight;
+			int batch_end = Math.min( max_samples, previous_size + Math.max( 1, batch_size ) );
+
+			drawSamples( previous_size, batch_end, distribution, observed, estimated_remaining_resources );
+
+			// Previous samples are sorted: sort the batch, compare both, then sort everything.
+			Arrays.sort( sample_keys, previous_size, batch_end );
+			double distance = previous_size == 0 ? 1. : frequencyDistance( previous_size, batch_end );
+			Arrays.sort( sample_keys, 0, batch_end );
+			total_weight = batch_end;
+
+			if( game_state.getMinSamples() > 0 && distance <= SAMPLES_CONVERGENCE )
+				break;
+		}
+
+		// Many samples are the same composition: keep each one once, weighted by its number of draws.
+		number_samples = 0;
+		for( int counter = 0 ; counter < total_weight ; ++counter )
+		{
+			if( number_samples > 0 && sample_keys[ counter ] == sample_keys[ counter - 1 ] )
+			{
+				++weights[ number_samples - 1 ];
+				continue;
+			}
+
+			for( int type = 0 ; type < 3 ; ++type )
+				samples[ 3 * number_samples + type ] = (int)( ( sample_keys[ counter ] >>> ( 21 * ( 2 - type ) ) ) & 0x1FFFFF );
+			weights[ number_samples ] = 1;
+			++number_samples;
+		}
+	}
+
+	// Draw the sample keys [from, to) like sampler.cpp: the opponent spends its resources unit after
+	// unit, picking among the unit types it can still afford, with draws stratified over the batch.
+	private void drawSamples( int from, int to, double[] distribution, int[] observed, int resources )
+	{
+		int number = to - from;
+		int min_cost = Math.min( costs[0], Math.min( costs[1], costs[2] ) );
+
+		for( int i = 0 ; i < number ; ++i )
+		{
+			strata[ i ] = i;
+			remaining_resources[ i ] = resources;
+			for( int type = 0 ; type < 3 ; ++type )
+				estimated[ 3 * i + type ] = 0;
+		}
+
+		// Each sample produces one unit per step, as long as it can afford one.
+		boolean can_produce = resources >= min_cost;
+		while( can_produce )
+		{
+			can_produce = false;
+			for( int i = number - 1 ; i > 0 ; --i )
+			{
+				int j = random.nextInt( i + 1 );
+				int stratum = strata[ i ];
+				strata[ i ] = strata[ j ];
+				strata[ j ] = stratum;
+			}
+
+			for( int i = 0 ; i < number ; ++i )
+			{
+				if( remaining_resources[ i ] < min_cost )
+					continue;
+
+				double total = 0.;
+				for( int type = 0 ; type < 3 ; ++type )
+					if( remaining_resources[ i ] >= costs[ type ] )
+						total += distribution[ type ];
+
+				// stratified draw in [0, total)
+				double draw = ( strata[ i ] + random.nextDouble() ) / number * total;
+				int unit_produced = -1;
+				for( int type = 0 ; type < 3 ; ++type )
+					if( remaining_resources[ i ] >= costs[ type ] )
+					{
+						unit_produced = type;
+						draw -= distribution[ type ];
+						if( draw < 0 )
+							break;
+					}
+
+				++estimated[ 3 * i + unit_produced ];
+				remaining_resources[ i ] -= costs[ unit_produced ];
+				can_produce = can_produce || remaining_resources[ i ] >= min_cost;
+			}
+		}
+
+		for( int i = 0 ; i < number ; ++i )
+			sample_keys[ from + i ] = compositionKey( estimated[ 3 * i ] + observed[0], estimated[ 3 * i + 1 ] + observed[1], estimated[ 3 * i + 2 ] + observed[2] );
+	}
+
+	// Total variation distance between the frequencies of compositions in the sorted sample keys [0, previous_size),
+	// and in these keys plus the sorted batch [previous_size, batch_end).
+	private double frequencyDistance( int previous_size, int batch_end )
+	{
+		double distance = 0.;
+		int i = 0;
+		int j = previous_size;
+		while( i < previous_size || j < batch_end )
+		{
+			long key = i == previous_size ? sample_keys[ j ] : ( j == batch_end ? sample_keys[ i ] : Math.min( sample_keys[ i ], sample_keys[ j ] ) );
+			int previous_count = 0;
+			int batch_count = 0;
+			for( ; i < previous_size && sample_keys[ i ] == key ; ++i )
+				++previous_count;
+			for( ; j < batch_end && sample_keys[ j ] == key ; ++j )
+				++batch_count;
+
+			distance += Math.abs( (double)( previous_count + batch_count ) / batch_end - (double)previous_count / previous_size );
+		}
+
+		return distance / 2;
+	}
+
+	// Pack a composition in a long, ordered like the composition itself. Unit counts are far below 2^21.
+	private static long compositionKey( int heavy, int light, int ranged )
+	{
+		return ( (long)heavy << 42 ) | ( (long)light << 21 ) | ranged;
+	}
+
+	private void randomAssignment()
+	{
+		for( int i = 0 ; i < NUMBER_VARIABLES ; ++i )
+			values[i] = random.nextInt( domain_size[i] );
+	}
+
+	// Fill constraint_errors and return the sum of errors.
+	private double error()
+	{
+		// assign_XH + assign_XL + assign_XR = possessed_X + to_produce_X
+		for( int type = 0 ; type < 3 ; ++type )
+			constraint_errors[ type ] = Math.abs( values[ type ] + values[ type + 3 ] + values[ type + 6 ] - my_units[ type ] - values[ type + 9 ] );
+
+		// H_cost*to_produce_H + L_cost*to_produce_L + R_cost*to_produce_R <= stock
+		constraint_errors[3] = Math.max( 0., costs[0] * values[9] + costs[1] * values[10] + costs[2] * values[11] - resources );
+
+		// to_produce_H + to_produce_L + to_produce_R <= barracks production capacity
+		constraint_errors[4] = Math.max( 0., values[9] + values[10] + values[11] - nb_barracks );
+
+		double sum = 0.;
+		for( double constraint_error : constraint_errors )
+			sum += constraint_error;
+		return sum;
+	}
+
+	private static double regulation( double x )
+	{
+		return x >= 0 ? x : -( x * x ) - 1;
+	}
+
+	// Rank-dependent utility of our army over enemy army samples, to maximize. See obj_rts.cpp.
+	// Values and weights of compositions are sorted together, by insertion: there are only a few distinct compositions.
+	private double cost()
+	{
+		if( number_samples == 0 )
+			return 0.;
+
+		double vs_heavy = COEFFICIENTS[0] * values[0] + COEFFICIENTS[1] * values[1] + COEFFICIENTS[2] * values[2];
+		double vs_light = COEFFICIENTS[3] * values[3] + COEFFICIENTS[4] * values[4] + COEFFICIENTS[5] * values[5];
+		double vs_ranged = COEFFICIENTS[6] * values[6] + COEFFICIENTS[7] * values[7] + COEFFICIENTS[8] * values[8];
+
+		// min( 1, number ) to forbid overkill, ie, thinking for instance we can defeat 10 lights when the opponent can just have 3 of them (while having other kinds of unit)
+		for( int i = 0 ; i < number_samples ; ++i )
+		{
+			double value = regulation( Math.min( 1.0, vs_heavy - samples[ 3 * i ] ) )
+				+ regulation( Math.min( 1.0, vs_light - samples[ 3 * i + 1 ] ) )
+				+ regulation( Math.min( 1.0, vs_ranged - samples[ 3 * i + 2 ] ) );
+			int weight = weights[i];
+
+			int j = i;
+			for( ; j > 0 && sample_values[ j - 1 ] > value ; --j )
+			{
+				sample_values[j] = sample_values[ j - 1 ];
+				sorted_weights[j] = sorted_weights[ j - 1 ];
+			}
+			sample_values[j] = value;
+			sorted_weights[j] = weight;
+		}
+
+		// The rank only jumps between two compositions, by the weight of the previous one.
+		double RDU = sample_values[0];
+		int rank = sorted_weights[0];
+		for( int i = 1 ; i < number_samples ; ++i )
+		{
+			RDU += ( sample_values[i] - sample_values[i-1] ) * phi.applyAsDouble( (double)( total_weight - rank ) / total_weight );
+			rank += sorted_weights[i];
+		}
+
+		return RDU;
+	}
+
+	// Pick a variable of a violated constraint, or any variable if all constraints are satisfied.
+	private int pickVariable( double error )
+	{
+		if( error == 0. )
+			return random.nextInt( NUMBER_VARIABLES );
+
+		int chosen = -1;
+		int candidates = 0;
+		for( int c = 0 ; c < CONSTRAINT_VARIABLES.length ; ++c )
+			if( constraint_errors[c] > 0. )
+				for( int variable : CONSTRAINT_VARIABLES[c] )
+					if( random.nextInt( ++candidates ) == 0 )
+						chosen = variable;
+
+		return chosen;
+	}
+
+	/*
+	 * Public methods
+	 */
+
+	// Sample enemy armies, then search the best production for the asked solver types.
+	@Override
+	public SolutionBuffer solve( GameStateBuffer game_state )
+	{
+		long start = System.nanoTime();
+		long deadline = start + ( game_state.getTimeBudgetUs() > 0 ? TimeUnit.MICROSECONDS.toNanos( game_state.getTimeBudgetUs() ) : time_budget );
+
+		my_units[0] = game_state.getMyHeavyUnits();
+		my_units[1] = game_state.getMyLightUnits();
+		my_units[2] = game_state.getMyRangedUnits();
+		costs[0] = game_state.getHeavyCost();
+		costs[1] = game_state.getLightCost();
+		costs[2] = game_state.getRangedCost();
+		resources = game_state.getResources();
+		nb_barracks = game_state.getNbBarracks();
+
+		// Tighten domains before search, as Builder::declare_variables does: Stock and ProductionCapacity
+		// bound the units to produce, then Assignment bounds the units we assign. Like there, every domain
+		// keeps two values or more, so that a variable picked to change always has another value to take.
+		for( int type = 0 ; type < 3 ; ++type )
+		{
+			int to_produce = Math.min( 19, nb_barracks );
+			if( costs[ type ] > 0 )
+				to_produce = Math.min( to_produce, resources / costs[ type ] );
+			to_produce = Math.max( 1, to_produce );
+
+			domain_size[ type ] = my_units[ type ] + to_produce + 1;
+			domain_size[ type + 3 ] = my_units[ type ] + to_produce + 1;
+			domain_size[ type + 6 ] = my_units[ type ] + to_produce + 1;
+			domain_size[ type + 9 ] = to_produce + 1;
+		}
+
+		sampleEnemyArmy( game_state );
+
+		// Solve for the asked solver type only, or for the three of them over the same samples,
+		// sharing the time budget, so that microPhantom can switch plans without asking us again.
+		int[] solver_types = game_state.getAllSolverTypes() != 0 ? new int[]{ 0, 1, 2 } : new int[]{ game_state.getSolverType() };
+		SolutionBuffer.Builder solution = SolutionBuffer.newBuilder();
+		search_iterations = 0;
+		for( int k = 0 ; k < solver_types.length ; ++k )
+		{
+			phi = phi( solver_types[ k ] );
+			search( game_state, System.nanoTime() + ( deadline - System.nanoTime() ) / ( solver_types.length - k ) );
+
+			if( solver_types[ k ] == game_state.getSolverType() )
+			{
+				System.arraycopy( best_values, 0, values, 0, NUMBER_VARIABLES );
+				solution.setSatisfied( error() == 0. ? 1 : 0 )
+					.setCost( cost() )
+					.setNumberHeavy( best_values[9] )
+					.setNumberLight( best_values[10] )
+					.setNumberRanged( best_values[11] );
+				for( int value : best_values )
+					solution.addAssignment( value );
+			}
+
+			if( game_state.getAllSolverTypes() != 0 )
+			{
+				solution.addPlans( best_values[9] )
+					.addPlans( best_values[10] )
+					.addPlans( best_values[11] );
+				for( int value : best_values )
+					solution.addPlanAssignments( value );
+			}
+		}
+
+		return solution
+			.setSearchIterations( search_iterations )
+			.setSolveTimeUs( (int)TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - start ) )
+			.build();
+	}
+
+	// Local search over the production model, with the current phi function, until the deadline:
+	// we first look for an assignment satisfying all constraints, then for the satisfying assignment
+	// with the best objective value, kept in best_values.
+	// Each move gives its best value to one variable, breaking ties randomly.
+	private void search( GameStateBuffer game_state, long deadline )
+	{
+		// Start from the previous assignment if any, clamped to the current domains.
+		if( game_state.getPreviousAssignmentCount() == NUMBER_VARIABLES )
+			for( int i = 0 ; i < NUMBER_VARIABLES ; ++i )
+				values[i] = Math.max( 0, Math.min( game_state.getPreviousAssignment( i ), domain_size[i] - 1 ) );
+		else
+			randomAssignment();
+		double error = error();
+		double cost = error == 0. ? cost() : Double.NEGATIVE_INFINITY;
+		double best_error = error;
+		double best_cost = cost;
+		System.arraycopy( values, 0, best_values, 0, NUMBER_VARIABLES );
+		int stagnation = 0;
+
+		while( System.nanoTime() < deadline && !Thread.currentThread().isInterrupted() )
+		{
+			++search_iterations;
+			int variable = pickVariable( error );
+			int current_value = values[ variable ];
+			int move_value = current_value;
+			double move_error = error;
+			double move_cost = cost;
+			int ties = 1;
+
+			for( int value = 0 ; value < domain_size[ variable ] ; ++value )
+			{
+				if( value == current_value )
+					continue;
+
+				values[ variable ] = value;
+				double candidate_error = error();
+				if( candidate_error > move_error )
+					continue;
+
+				double candidate_cost = candidate_error == 0. ? cost() : Double.NEGATIVE_INFINITY;
+				if( candidate_error < move_error || candidate_cost > move_cost )
+				{
+					move_value = value;
+					move_error = candidate_error;
+					move_cost = candidate_cost;
+					ties = 1;
+				}
+				else if( candidate_cost == move_cost && random.nextInt( ++ties ) == 0 )
+					move_value = value;
+			}
+
+			boolean improvement = move_error < error || move_cost > cost;
+			values[ variable ] = move_value;
+			error = error();
+			cost = move_cost;
+
+			if( improvement )
+			{
+				stagnation = 0;
+				if( error < best_error || ( error == best_error && cost > best_cost ) )
+				{
+					best_error = error;
+					best_cost = cost;
+					System.arraycopy( values, 0, best_values, 0, NUMBER_VARIABLES );
+				}
+			}
+			else if( ++stagnation > RESTART_THRESHOLD )
+			{
+				stagnation = 0;
+				randomAssignment();
+				error = error();
+				cost = error == 0. ? cost() : Double.NEGATIVE_INFINITY;
+			}
+		}
+	}
+
+	@Override
+	public void close()
+	{
+	}
+}
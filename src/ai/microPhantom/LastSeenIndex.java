@@ -0,0 +1,178 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+package ai.microPhantom;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Index of the cells of the heat map, bucketed by the last time they were seen.
+ *
+ * Cells move from one bucket to another as our units see them, and empty buckets are
+ * dropped, so the stalest cells are always in the first bucket. Walls are not indexed.
+ */
+public class LastSeenIndex
+{
+	int width;
+	int height;
+	int surface;
+	TreeMap<Integer, BitSet> buckets;
+	TreeMap<Integer, Integer> bucket_sizes;
+
+	// Index the non-wall cells of the given row-major heat map.
+	public LastSeenIndex( int width, int height, int[] heat_map, BitSet walls )
+	{
+		this.width = width;
+		this.height = height;
+		surface = width * height;
+		buckets = new TreeMap<Integer, BitSet>();
+		bucket_sizes = new TreeMap<Integer, Integer>();
+
+		for( int cell = walls.nextClearBit( 0 ) ; cell < surface ; cell = walls.nextClearBit( cell + 1 ) )
+			add( cell, heat_map[ cell ] );
+	}
+
+	private void add( int cell, int time )
+	{
+		BitSet bucket = buckets.get( time );
+		if( bucket == null )
+		{
+			bucket = new BitSet( surface );
+			buckets.put( time, bucket );
+			bucket_sizes.put( time, 0 );
+		}
+		bucket.set( cell );
+		bucket_sizes.put( time, bucket_sizes.get( time ) + 1 );
+	}
+
+	private void remove( int cell, int time )
+	{
+		int size = bucket_sizes.get( time ) - 1;
+		if( size == 0 )
+		{
+			buckets.remove( time );
+			bucket_sizes.remove( time );
+		}
+		else
+		{
+			buckets.get( time ).clear( cell );
+			bucket_sizes.put( time, size );
+		}
+	}
+
+	// The cell, last seen at old_time, has just been seen at time.
+	public void see( int cell, int old_time, int time )
+	{
+		if( old_time != time )
+		{
+			remove( cell, old_time );
+			add( cell, time );
+		}
+	}
+
+	// Last time the stalest cells were seen, -1 if they never were. Integer.MAX_VALUE if there are no cells.
+	public int stalestTime()
+	{
+		return buckets.isEmpty() ? Integer.MAX_VALUE : buckets.firstKey();
+	}
+
+	// Stalest cell the closest to (x,y), other than (x,y) itself unless it is the only stalest cell.
+	// Return -1 if there are no cells.
+	public int nearestStalest( int x, int y )
+	{
+		return nearestStalest( x, y, null );
+	}
+
+	// Same as above, among the cells not in excluded: if all the stalest cells are excluded,
+	// look for the next stalest ones. Return -1 if all cells are excluded.
+	public int nearestStalest( int x, int y, BitSet excluded )
+	{
+		for( Map.Entry<Integer, BitSet> entry : buckets.entrySet() )
+		{
+			int nearest = nearestIn( entry.getValue(), bucket_sizes.get( entry.getKey() ), x, y, excluded );
+			if( nearest != -1 )
+				return nearest;
+		}
+
+		return -1;
+	}
+
+	// A small bucket is scanned entirely, otherwise we look for its cells in squares of growing
+	// radius around (x,y): either way, it takes about sqrt( surface ) steps rather than surface steps.
+	private int nearestIn( BitSet bucket, int size, int x, int y, BitSet excluded )
+	{
+		int origin = width * y + x;
+		int nearest = -1;
+		int nearest_distance = Integer.MAX_VALUE; // squared Euclidean distance
+
+		if( (long)size * size <= surface )
+		{
+			for( int cell = bucket.nextSetBit( 0 ) ; cell >= 0 ; cell = bucket.nextSetBit( cell + 1 ) )
+			{
+				int dx = cell % width - x;
+				int dy = cell / width - y;
+				int distance = dx * dx + dy * dy;
+				if( distance > 0 && distance < nearest_distance && ( excluded == null || !excluded.get( cell ) ) )
+				{
+					nearest_distance = distance;
+					nearest = cell;
+				}
+			}
+		}
+		else
+		{
+			int max_radius = Math.max( Math.max( x, width - 1 - x ), Math.max( y, height - 1 - y ) );
+			// cells of the square of radius r are at least r away from (x,y)
+			for( int radius = 1 ; radius <= max_radius && radius * radius < nearest_distance ; ++radius )
+				for( int dy = -radius ; dy <= radius ; ++dy )
+				{
+					int cell_y = y + dy;
+					if( cell_y < 0 || cell_y >= height )
+						continue;
+
+					// the top and bottom sides of the square, or only its left and right cells
+					int step = dy == -radius || dy == radius ? 1 : 2 * radius;
+					for( int dx = -radius ; dx <= radius ; dx += step )
+					{
+						int cell_x = x + dx;
+						if( cell_x < 0 || cell_x >= width )
+							continue;
+
+						int cell = width * cell_y + cell_x;
+						int distance = dx * dx + dy * dy;
+						if( distance < nearest_distance && bucket.get( cell ) && ( excluded == null || !excluded.get( cell ) ) )
+						{
+							nearest_distance = distance;
+							nearest = cell;
+						}
+					}
+				}
+		}
+
+		if( nearest == -1 && origin >= 0 && origin < surface && bucket.get( origin ) && ( excluded == null || !excluded.get( origin ) ) )
+			nearest = origin;
+
+		return nearest;
+	}
+}
@@ -41,23 +41,23 @@ import rts.UnitAction;
 import java.io.IOException;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
-import java.lang.NumberFormatException;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Iterator;
+import java.util.Collections;
+import java.util.BitSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.net.InetAddress;
-import java.net.InetSocketAddress;
-import java.net.UnknownHostException;
-import java.nio.ByteBuffer;
-import java.nio.channels.ServerSocketChannel;
-import java.nio.channels.SocketChannel;
-import java.nio.channels.AlreadyBoundException;
 
 import com.microphantom.protos.SolutionBuffer;
 import com.microphantom.protos.GameStateBuffer;
@@ -70,7 +70,18 @@ public class MicroPhantom extends AbstractionLayerAI
 {
 	protected UnitTypeTable utt;
 
-	public static int NB_SAMPLES = 50;
+	public static final int DEFAULT_NB_SAMPLES = 50;
+	public static final int DEFAULT_MIN_SAMPLES = 10;
+	public static final int DEFAULT_CACHE_SIZE = 64;
+	public static final int DEFAULT_CACHE_TIME_QUANTUM = 1; // in game cycles
+	public static final int DEFAULT_CACHE_RESOURCE_QUANTUM = 1;
+	public static final int DEFAULT_SOLVER_TIME = 90; // in ms
+	public static final int DEFAULT_EXPLORATION_PERIOD = 10; // in game cycles
+
+	// Time kept at the end of a frame for behaviors following the production decision, in ms.
+	static final int FRAME_MARGIN = 10;
+	// Below this time budget, in ms, a search is not worth it: we keep the current plan until the next frame.
+	static final int MIN_SOLVER_TIME = 5;
 
 	// public static PrintWriter writer_log;
 
@@ -81,14 +92,22 @@ public class MicroPhantom extends AbstractionLayerAI
 	
 	String solver_path;
 	int solver_type;
-	int[][] heat_map;
+	// Last time each cell was seen, -1 if never, row-major: the cell (x,y) is at map_width * y + x.
+	int[] heat_map;
+	// Wall cells, whose heat is meaningless.
+	BitSet walls;
+	// Non-wall cells by last time they were seen.
+	LastSeenIndex last_seen;
+	// Unseen cells around each cell, by sight radius.
+	Map<Integer, FogCounter> fog_counters;
+	// Exploration targets of idle army units and workers searching resources.
+	ExplorationPlanner exploration;
+	int exploration_period; // the most cycles a unit keeps its exploration target
 
-	int observed_worker;
 	int observed_heavy;
 	int observed_light;
 	int observed_ranged;
 
-	int observed_worker_in_total;
 	int observed_heavy_in_total;
 	int observed_light_in_total;
 	int observed_ranged_in_total;
@@ -137,7 +156,8 @@ public class MicroPhantom extends AbstractionLayerAI
 	List<Unit> enemy_light_units;
 	List<Unit> enemy_ranged_units;
 
-	int nb_samples;
+	int nb_samples; // the most samples drawn
+	int min_samples; // the fewest samples drawn, 0 to always draw nb_samples
 	int number_heavy_to_produce;
 	int number_light_to_produce;
 	int number_ranged_to_produce;
@@ -162,6 +182,7 @@ public class MicroPhantom extends AbstractionLayerAI
 
 	int my_cost_loss;
 	int enemy_cost_loss;
+	EnemyEconomyEstimator enemy_economy;
 	
 	UnitType base_type;
 	UnitType barracks_type;
@@ -175,13 +196,51 @@ public class MicroPhantom extends AbstractionLayerAI
 	UnitType fastest_to_train_type;
 	UnitType slowest_to_train_type;
 
-	ServerSocketChannel serverSocketChannel;
-	InetAddress inetAddress;
-	int port;
+	// Each instance has its own production solver, called from the solver thread.
+	ProductionSolver production_solver;
+	boolean unix_domain_socket;
+	ExecutorService solver_executor;
+	GameStateBuffer pending_request;
+	Future<SolutionBuffer> pending_solution;
+	ProductionCache solution_cache;
+	SolverStatistics solver_statistics;
+	// Time the last request took on the solver thread, in ns.
+	volatile long last_round_trip;
+	// Full assignment of the model variables behind the current production plan:
+	// the next search starts from it.
+	List<Integer> last_assignment = Collections.emptyList();
+	// With speculative production, the solver sends a plan for each solver type:
+	// we switch to another one as soon as the solver type changes.
+	boolean speculative_production;
+	int solver_threads; // 0 to take a share of the host
+	int host_solver_cores; // for the solvers of all games on the host, 0 for half its cores
+	int concurrent_games; // played at the same time on the host, sharing host_solver_cores
+	String solver_cpus; // like "0-3,6", empty to not pin solver threads
+	List<Integer> solver_cpu_list = Collections.emptyList();
+	SolutionBuffer last_solution;
+	int applied_solver_type = -1;
+
+	// In asynchronous mode, getAction() does not wait for the solver beyond the frame deadline:
+	// barracks keep on following the last production plan until the new one arrives.
+	boolean asynchronous_production;
+	int frame_budget; // in ms
+	long frame_deadline; // System.nanoTime() value
+	int solver_time; // in ms, the most time given to the solver at each decision
+	// Time spent around the search itself (model building, sampling, transport), in ns.
+	// Measured on the solver thread, averaged over the last requests.
+	volatile long solver_overhead;
 	
 	/*
 	 * Constructors
 	 */
+	// Solve production problems with JavaProductionSolver.
+	public MicroPhantom( UnitTypeTable a_utt )
+	{
+		this( a_utt, new AStarPathFinding(), null );
+	}
+
+	// Solve production problems with the GHOST solver at solver_path, either the solver_cpp
+	// executable or the JNI library, or with JavaProductionSolver if solver_path is null.
 	public MicroPhantom( UnitTypeTable a_utt,
 	                     String solver_path )
 	{
@@ -191,14 +250,14 @@ public class MicroPhantom extends AbstractionLayerAI
 	protected MicroPhantom( UnitTypeTable a_utt,
 	                        PathFinding a_pf,
 	                        String solver_path,
-	                        int[][] heat_map )
+	                        int[] heat_map,
+	                        BitSet walls )
 	{
 		this( a_utt, a_pf, solver_path );
 		if( heat_map != null )
 		{
-			this.heat_map = new int[ heat_map.length ][];
-			for( int y = 0 ; y < heat_map.length ; ++y )
-				this.heat_map[y] = heat_map[y].clone();
+			this.heat_map = heat_map.clone();
+			this.walls = (BitSet)walls.clone();
 		}
 	}
 
@@ -209,18 +268,21 @@ public class MicroPhantom extends AbstractionLayerAI
 		super( a_pf );
 		reset( a_utt );
 		this.solver_path = solver_path;
-
-		try
-		{
-			inetAddress = InetAddress.getByName( "localhost" );
-		}
-		catch( UnknownHostException e )
-		{
-			System.out.println( "Unknown Host Exception (but it wouldn't be: it's localhost)" );
-			System.out.println( e.getMessage() );
-		}
-		
-		port = 1085;
+		asynchronous_production = false;
+		frame_budget = 100;
+		solver_time = DEFAULT_SOLVER_TIME;
+		speculative_production = false;
+		solver_threads = 0;
+		host_solver_cores = 0;
+		concurrent_games = 1;
+		solver_cpus = "";
+		nb_samples = DEFAULT_NB_SAMPLES;
+		min_samples = DEFAULT_MIN_SAMPLES;
+		exploration_period = DEFAULT_EXPLORATION_PERIOD;
+		unix_domain_socket = true;
+		production_solver = makeProductionSolver();
+		solution_cache = new ProductionCache( DEFAULT_CACHE_SIZE, DEFAULT_CACHE_TIME_QUANTUM, DEFAULT_CACHE_RESOURCE_QUANTUM );
+		solver_statistics = new SolverStatistics();
 	}
 
 	/*
@@ -231,7 +293,8 @@ public class MicroPhantom extends AbstractionLayerAI
 		map_width = pgs.getWidth();
 		map_height = pgs.getHeight();
 		map_surface = map_width * map_height;
-		heat_map = new int[ map_height ][ map_width ];
+		heat_map = new int[ map_surface ];
+		walls = new BitSet( map_surface );
 
 		// Commented, because pf.pathExists behavior really is incomprehensible
 		// Unit u;
@@ -249,23 +312,67 @@ public class MicroPhantom extends AbstractionLayerAI
 				{
 					int target = map_width * y + x;
 					if( pgs.getTerrain( x, y ) == pgs.TERRAIN_WALL ) //|| pf.pathExists( u, target, gs, null ) )
-						heat_map[y][x] = Integer.MAX_VALUE;
-					else if( pogs.observable( x, y ) )
-						heat_map[y][x] = gs.getTime();
+						walls.set( target );
+					if( pogs.observable( x, y ) )
+						heat_map[ target ] = gs.getTime();
 					else
-						heat_map[y][x] = -1;
+						heat_map[ target ] = -1;
 				}
 		}
+
+		last_seen = new LastSeenIndex( map_width, map_height, heat_map, walls );
+		fog_counters = new HashMap<Integer, FogCounter>();
+		exploration = new ExplorationPlanner( map_width, map_height, heat_map, last_seen, exploration_period );
+	}
+
+	// Fog counts for this sight radius, computed from the heat map the first time we need them.
+	private FogCounter fogCounter( int sight )
+	{
+		FogCounter fog = fog_counters.get( sight );
+		if( fog == null )
+		{
+			fog = new FogCounter( map_width, map_height, sight, heat_map, walls );
+			fog_counters.put( sight, fog );
+		}
+
+		return fog;
 	}
 
+	// Only cells within the sight of our units can be observable: rather than scanning the whole map,
+	// stamp the cells each of our units sees, like PartiallyObservableGameState.observable does,
+	// ie within a Euclidean distance of its sight radius.
 	private void updateHeatMap()
 	{
 		if( pogs != null )
 		{
-			for( int y = 0 ; y < map_height ; ++y )
-				for( int x = 0 ; x < map_width ; ++x )
-					if( pogs.observable( x, y ) && heat_map[y][x] < Integer.MAX_VALUE )
-						heat_map[y][x] = gs.getTime();
+			int time = gs.getTime();
+			for( Unit u : my_units )
+			{
+				int sight = u.getType().sightRadius;
+				int squared_sight = sight * sight;
+				int min_y = Math.max( 0, u.getY() - sight );
+				int max_y = Math.min( map_height - 1, u.getY() + sight );
+				for( int y = min_y ; y <= max_y ; ++y )
+				{
+					int dy = y - u.getY();
+					int dx = (int)Math.sqrt( squared_sight - dy * dy );
+					int min_x = Math.max( 0, u.getX() - dx );
+					int max_x = Math.min( map_width - 1, u.getX() + dx );
+					for( int cell = map_width * y + min_x ; cell <= map_width * y + max_x ; ++cell )
+						if( heat_map[ cell ] != time )
+						{
+							// walls are stamped too, consumers skip them
+							if( !walls.get( cell ) )
+							{
+								if( heat_map[ cell ] == -1 )
+									for( FogCounter fog : fog_counters.values() )
+										fog.reveal( cell - map_width * y, y );
+								last_seen.see( cell, heat_map[ cell ], time );
+							}
+							heat_map[ cell ] = time;
+						}
+				}
+			}
 		}
 	}
 
@@ -368,6 +475,7 @@ public class MicroPhantom extends AbstractionLayerAI
 					if( u.getPlayer() >= 0 && u.getPlayer() != player.getID() )
 					{
 						enemy_units.add( u );
+						enemy_economy.observe( u );
 						if( u.getType().ID == base_type.ID )
 							enemy_bases.add( u );
 						else if( u.getType().ID == barracks_type.ID )
@@ -441,6 +549,18 @@ public class MicroPhantom extends AbstractionLayerAI
 				count_current_enemy.get( track.unit.getType().ID ).decrementAndGet();
 			}
 		}
+
+		int enemy_army_value = countCurrentEnemy( heavy_type ) * heavy_type.cost
+			+ countCurrentEnemy( light_type ) * light_type.cost
+			+ countCurrentEnemy( ranged_type ) * ranged_type.cost;
+		enemy_economy.update( gs.getTime(), countCurrentEnemy( worker_type ), enemy_army_value, enemy_cost_loss );
+	}
+
+	// Number of enemy units of this type we saw and did not see die.
+	private int countCurrentEnemy( UnitType type )
+	{
+		AtomicInteger count = count_current_enemy.get( type.ID );
+		return count != null ? count.get() : 0;
 	}
 
 	private boolean isPotentialThreat( Unit u )
@@ -537,58 +657,40 @@ public class MicroPhantom extends AbstractionLayerAI
 		iY.set( y );
 	}
 
-	private boolean reveal_enough_fog( Unit u, int x, int y )
+	// Move the units asking for an exploration target this frame, all planned together:
+	// - army units go to the stalest point, as a tiebreaker, the closest to them,
+	// - workers go to the closest point to the initial base revealing fog, as a tiebreaker, the closest to them.
+	private void exploreAll()
 	{
-		int sight = u.getType().sightRadius;
-		int count = 0;
-		
-		for( int y_sight = y - sight ; y_sight <= y + sight ; ++y_sight )
-			for( int x_sight = x - sight ; x_sight <= x + sight ; ++x_sight )
-				if( y_sight >= 0 && y_sight < map_height && x_sight >= 0 && x_sight < map_width && manhattanDistance( x, y, x_sight, y_sight ) <= sight && heat_map[y_sight][x_sight] == -1 )
-					++count;
+		if( exploration.getExplorers().isEmpty() && exploration.getSearchers().isEmpty() )
+			return;
 
-		if( gs.getTime() < 2000 )
-			return count >= 12;
-		else
-			return count > 0;
-	}
+		// Early in the game, the point must reveal enough fog to be worth the trip
+		exploration.plan( gs.getTime(),
+		                  initial_base_position_x,
+		                  initial_base_position_y,
+		                  fogCounter( worker_type.sightRadius ),
+		                  gs.getTime() < 2000 ? 12 : 1 );
 
-	// Search the closest coordinates (x,y) to the initial base revealing at least one case of fog
-	// Tiebreaker: closest point to self
-	private void searchResources( Unit u )
-	{
-		int move_x = u.getX() + (int)( 20 * Math.random() - 10 );
-		int move_y = u.getY() + (int)( 20 * Math.random() - 10 );
+		for( Unit u : exploration.getExplorers() )
+		{
+			int target = exploration.getTarget( u );
+			if( target == -1 )
+				move( u, 0, 0 );
+			else
+				move( u, target % map_width, target / map_width );
+		}
 
-		if( initial_base_position_x != -1 )
+		for( Unit u : exploration.getSearchers() )
 		{
-			int distance_base = Integer.MAX_VALUE;
-			int distance_self = Integer.MAX_VALUE;
-			for( int x = 0 ; x < map_width ; ++x )
-				for( int y = 0 ; y < map_height ; ++y )
-					if( reveal_enough_fog( u, x, y ) )
-					{
-						int distance_base_tiebreak = manhattanDistance( initial_base_position_x, initial_base_position_y, x, y );
-						if( distance_base_tiebreak < distance_base )
-						{
-							distance_base = distance_base_tiebreak;
-							move_x = x;
-							move_y = y;
-						}
-						else if( distance_base_tiebreak == distance_base )
-						{
-							int distance_self_tiebreak = manhattanDistance( u.getX(), u.getY(), x, y );
-							if( distance_self_tiebreak < distance_self )
-							{
-								distance_self = distance_self_tiebreak;
-								move_x = x;
-								move_y = y;
-							}
-						}
-					}
+			int target = exploration.getTarget( u );
+			if( target == -1 )
+				move( u, u.getX() + (int)( 20 * Math.random() - 10 ), u.getY() + (int)( 20 * Math.random() - 10 ) );
+			else
+				move( u, target % map_width, target / map_width );
 		}
 
-		move( u, move_x, move_y );
+		exploration.clearRequests();
 	}
 		
 	private Unit getClosestEnemy( Unit u )
@@ -608,7 +710,89 @@ public class MicroPhantom extends AbstractionLayerAI
 
 		return closest_enemy;
 	}
-	
+
+	// Replace the current production plan by the pending solution, if it is available.
+	// In synchronous mode, we always wait for the solution, in asynchronous mode only if wait is true.
+	// Either way, we never wait beyond the frame deadline: a stuck solver must not freeze the game,
+	// so we keep the current plan and try again in the next frames.
+	private void collectSolution( boolean wait )
+	{
+		if( pending_solution == null )
+			return;
+
+		try
+		{
+			SolutionBuffer solution;
+			long remaining_time = frame_deadline - System.nanoTime();
+			if( ( wait || !asynchronous_production ) && remaining_time > 0 )
+				solution = pending_solution.get( remaining_time, TimeUnit.NANOSECONDS );
+			else if( pending_solution.isDone() )
+				solution = pending_solution.get();
+			else
+				return;
+
+			pending_solution = null;
+			solver_statistics.record( solution, TimeUnit.NANOSECONDS.toMicros( last_round_trip ) );
+			solution_cache.put( pending_request, solution );
+			applySolution( solution );
+		}
+		catch( TimeoutException e )
+		{
+			// too late for this frame: keep the current plan
+		}
+		catch( ExecutionException e )
+		{
+			// keep the current plan, we will try again at the next decision
+			pending_solution = null;
+			System.out.println( "IO exception in process" );
+			System.out.println( e.getCause().getMessage() );
+		}
+		catch( InterruptedException e )
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Search threads for a production decision: the given number, or an equal share between the
+	// concurrent games of the solver cores of the host, by default half of them, GHOST's default for a single game.
+	private int solverThreads()
+	{
+		if( solver_threads > 0 )
+			return solver_threads;
+
+		int cores = host_solver_cores > 0 ? host_solver_cores : Runtime.getRuntime().availableProcessors() / 2;
+		return Math.max( 1, cores / Math.max( 1, concurrent_games ) );
+	}
+
+	// Called from the solver thread with the time a request took beyond its time budget.
+	private void measureSolverOverhead( long overhead )
+	{
+		solver_overhead = Math.max( 0, ( 3 * solver_overhead + overhead ) / 4 );
+	}
+
+	// Follow the plan of the current solver type, if the solution has one for each type.
+	private void applySolution( SolutionBuffer solution )
+	{
+		last_solution = solution;
+		applied_solver_type = solver_type;
+
+		if( solution.getPlansCount() == 9 && solver_type >= 0 && solver_type < 3 )
+		{
+			number_heavy_to_produce = solution.getPlans( 3 * solver_type );
+			number_light_to_produce = solution.getPlans( 3 * solver_type + 1 );
+			number_ranged_to_produce = solution.getPlans( 3 * solver_type + 2 );
+			if( solution.getPlanAssignmentsCount() == 36 )
+				last_assignment = solution.getPlanAssignmentsList().subList( 12 * solver_type, 12 * solver_type + 12 );
+			return;
+		}
+
+		number_heavy_to_produce = solution.getNumberHeavy();
+		number_light_to_produce = solution.getNumberLight();
+		number_ranged_to_produce = solution.getNumberRanged();
+		if( solution.getAssignmentCount() > 0 )
+			last_assignment = solution.getAssignmentList();
+	}
+
 	/*
 	 * Public methods
 	 */
@@ -616,24 +800,56 @@ public class MicroPhantom extends AbstractionLayerAI
 	public void gameOver( int winner ) throws Exception
 	{
 		System.out.println("Closing microPhantom");
+		System.out.println( "Production cache: " + solution_cache.getHits() + " hits, " + solution_cache.getMisses() + " misses" );
 
-		try
-		{
-			if( serverSocketChannel.isOpen() )
-				serverSocketChannel.close();
-		}
-		catch( IOException e1 )
+		if( solver_executor != null )
 		{
-			System.out.println( "IO exception in process" );
-			System.out.println( e1.getMessage() );
+			solver_executor.shutdownNow();
+			solver_executor.awaitTermination( 100, TimeUnit.MILLISECONDS );
+			solver_executor = null;
 		}
+		pending_solution = null;
+		production_solver.close();
 
 		super.gameOver( winner );
 	}
 
+	// Production solver statistics of the current game.
+	@Override
+	public String statisticsString()
+	{
+		return solver_statistics + System.lineSeparator()
+			+ "Production cache: " + solution_cache.getHits() + " hits, " + solution_cache.getMisses() + " misses";
+	}
+
 	public AI clone()
 	{
-		return new MicroPhantom( utt, pf, solver_path, heat_map );
+		MicroPhantom clone = new MicroPhantom( utt, pf, solver_path, heat_map, walls );
+		clone.map_width = map_width;
+		clone.map_height = map_height;
+		clone.map_surface = map_surface;
+		if( heat_map != null )
+		{
+			clone.last_seen = new LastSeenIndex( map_width, map_height, clone.heat_map, clone.walls );
+			clone.fog_counters = new HashMap<Integer, FogCounter>();
+			clone.exploration = new ExplorationPlanner( map_width, map_height, clone.heat_map, clone.last_seen, exploration_period );
+		}
+		clone.asynchronous_production = asynchronous_production;
+		clone.frame_budget = frame_budget;
+		clone.solver_time = solver_time;
+		clone.speculative_production = speculative_production;
+		clone.solver_threads = solver_threads;
+		clone.host_solver_cores = host_solver_cores;
+		clone.concurrent_games = concurrent_games;
+		clone.setSolverCpus( solver_cpus );
+		clone.nb_samples = nb_samples;
+		clone.min_samples = min_samples;
+		clone.exploration_period = exploration_period;
+		clone.solution_cache.setCapacity( solution_cache.getCapacity() );
+		clone.solution_cache.setTimeQuantum( solution_cache.getTimeQuantum() );
+		clone.solution_cache.setResourceQuantum( solution_cache.getResourceQuantum() );
+		clone.setUnixDomainSocket( unix_domain_socket );
+		return clone;
 	}
 
 	@Override
@@ -646,13 +862,15 @@ public class MicroPhantom extends AbstractionLayerAI
 
 		solver_type = -1;
 		heat_map = null;
+		walls = null;
+		last_seen = null;
+		fog_counters = null;
+		exploration = null;
 
-		observed_worker = 0;
 		observed_heavy = 0;
 		observed_light = 0;
 		observed_ranged = 0;
 
-		observed_worker_in_total = 0;
 		observed_heavy_in_total = 0;
 		observed_light_in_total = 0;
 		observed_ranged_in_total = 0;
@@ -694,8 +912,6 @@ public class MicroPhantom extends AbstractionLayerAI
 		enemy_light_units = new ArrayList<Unit>();
 		enemy_ranged_units = new ArrayList<Unit>();
 
-		nb_samples = NB_SAMPLES;
-
 		track_my_army = new HashMap<Long, TrackUnit>();
 		track_enemy = new HashMap<Long, TrackUnit>();		
 		count_current_enemy = new HashMap<Integer, AtomicInteger>();
@@ -709,6 +925,7 @@ public class MicroPhantom extends AbstractionLayerAI
 		heavy_type = utt.getUnitType( "Heavy" );
 		light_type = utt.getUnitType( "Light" );
 		ranged_type = utt.getUnitType( "Ranged" );
+		enemy_economy = new EnemyEconomyEstimator( worker_type, base_type, barracks_type );
 
 		if( heavy_type.cost >= light_type.cost )
 		{
@@ -760,6 +977,15 @@ public class MicroPhantom extends AbstractionLayerAI
 				fastest_to_train_type = heavy_type;
 		}
 			
+		// solutions of the previous game are meaningless now
+		if( solution_cache != null )
+			solution_cache.clear();
+		if( solver_statistics != null )
+			solver_statistics.clear();
+		last_assignment = Collections.emptyList();
+		last_solution = null;
+		applied_solver_type = -1;
+
 		super.reset();
 	}
 	
@@ -780,6 +1006,7 @@ public class MicroPhantom extends AbstractionLayerAI
 */
 	public PlayerAction getAction( int p, GameState game_state )
 	{
+		frame_deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( frame_budget - FRAME_MARGIN );
 		gs = game_state;
 		pgs = gs.getPhysicalGameState();
 		if( gs instanceof PartiallyObservableGameState )
@@ -796,6 +1023,7 @@ public class MicroPhantom extends AbstractionLayerAI
 			if( !my_barracks.isEmpty() )
 				has_initial_barracks = true;
 			initial_resources = player.getResources();
+			enemy_economy.start( gs.getTime(), initial_resources, initial_number_workers, has_initial_base, has_initial_barracks );
 		}
 		else
 			updateHeatMap();
@@ -811,8 +1039,8 @@ public class MicroPhantom extends AbstractionLayerAI
 		// 		for( int x = 0 ; x < map_width ; ++x )
 		// 		{
 		// 			String heat;
-		// 			if( heat_map[y][x] < Integer.MAX_VALUE )
-		// 				heat = String.format( "%-3s ", heat_map[y][x] );
+		// 			if( !walls.get( map_width * y + x ) )
+		// 				heat = String.format( "%-3s ", heat_map[ map_width * y + x ] );
 		// 			else
 		// 			{
 		// 				int wall = -10;
@@ -854,12 +1082,14 @@ public class MicroPhantom extends AbstractionLayerAI
 			}
 			if( min_distance < Integer.MAX_VALUE )
 				min_distance_resource_base = min_distance;
+			enemy_economy.setResourceDistance( min_distance_resource_base, max_distance_resource_base );
 		}
 		
 		for( Unit u : my_bases )
 			if( gs.getUnitAction( u ) == null )
 				baseBehavior( u, reserved_resources );
 
+		collectSolution( false );
 		if( number_idle_barracks > 0 )
 			decideProduction();
 
@@ -882,6 +1112,7 @@ public class MicroPhantom extends AbstractionLayerAI
 			}
 
 		workersBehavior( reserved_resources );
+		exploreAll();
 
 		// This method simply takes all the unit actions executed so far, and packages them into a PlayerAction
 		return translateActions( p, gs );
@@ -893,13 +1124,222 @@ public class MicroPhantom extends AbstractionLayerAI
 		List<ParameterSpecification> parameters = new ArrayList<>();
 
 		parameters.add( new ParameterSpecification( "PathFinding", PathFinding.class, new AStarPathFinding() ) );
+		parameters.add( new ParameterSpecification( "AsynchronousProduction", boolean.class, false ) );
+		parameters.add( new ParameterSpecification( "FrameBudget", int.class, 100 ) );
+		parameters.add( new ParameterSpecification( "SolverTime", int.class, DEFAULT_SOLVER_TIME ) );
+		parameters.add( new ParameterSpecification( "SpeculativeProduction", boolean.class, false ) );
+		parameters.add( new ParameterSpecification( "SolverThreads", int.class, 0 ) );
+		parameters.add( new ParameterSpecification( "HostSolverCores", int.class, 0 ) );
+		parameters.add( new ParameterSpecification( "ConcurrentGames", int.class, 1 ) );
+		parameters.add( new ParameterSpecification( "SolverCpus", String.class, "" ) );
+		parameters.add( new ParameterSpecification( "UnixDomainSocket", boolean.class, true ) );
+		parameters.add( new ParameterSpecification( "Samples", int.class, DEFAULT_NB_SAMPLES ) );
+		parameters.add( new ParameterSpecification( "MinSamples", int.class, DEFAULT_MIN_SAMPLES ) );
+		parameters.add( new ParameterSpecification( "CacheSize", int.class, DEFAULT_CACHE_SIZE ) );
+		parameters.add( new ParameterSpecification( "CacheTimeQuantum", int.class, DEFAULT_CACHE_TIME_QUANTUM ) );
+		parameters.add( new ParameterSpecification( "CacheResourceQuantum", int.class, DEFAULT_CACHE_RESOURCE_QUANTUM ) );
+		parameters.add( new ParameterSpecification( "ExplorationPeriod", int.class, DEFAULT_EXPLORATION_PERIOD ) );
 
 		return parameters;
 	}
 
+	public boolean getAsynchronousProduction()
+	{
+		return asynchronous_production;
+	}
+
+	public void setAsynchronousProduction( boolean asynchronous )
+	{
+		asynchronous_production = asynchronous;
+	}
+
+	public int getFrameBudget()
+	{
+		return frame_budget;
+	}
+
+	public void setFrameBudget( int budget )
+	{
+		frame_budget = budget;
+	}
+
+	public int getSolverTime()
+	{
+		return solver_time;
+	}
+
+	public void setSolverTime( int time )
+	{
+		solver_time = time;
+	}
+
+	public boolean getSpeculativeProduction()
+	{
+		return speculative_production;
+	}
+
+	public void setSpeculativeProduction( boolean speculative )
+	{
+		speculative_production = speculative;
+	}
+
+	public int getSolverThreads()
+	{
+		return solver_threads;
+	}
+
+	public void setSolverThreads( int threads )
+	{
+		solver_threads = threads;
+	}
+
+	public int getHostSolverCores()
+	{
+		return host_solver_cores;
+	}
+
+	public void setHostSolverCores( int cores )
+	{
+		host_solver_cores = cores;
+	}
+
+	public int getConcurrentGames()
+	{
+		return concurrent_games;
+	}
+
+	public void setConcurrentGames( int games )
+	{
+		concurrent_games = games;
+	}
+
+	public String getSolverCpus()
+	{
+		return solver_cpus;
+	}
+
+	// CPUs as a comma-separated list of numbers and ranges, like "0-3,6".
+	public void setSolverCpus( String cpus )
+	{
+		List<Integer> cpu_list = new ArrayList<Integer>();
+		for( String range : cpus.split( "," ) )
+		{
+			if( range.isBlank() )
+				continue;
+
+			String[] bounds = range.trim().split( "-" );
+			int first = Integer.parseInt( bounds[0].trim() );
+			int last = Integer.parseInt( bounds[ bounds.length - 1 ].trim() );
+			for( int cpu = first ; cpu <= last ; ++cpu )
+				cpu_list.add( cpu );
+		}
+
+		solver_cpus = cpus;
+		solver_cpu_list = cpu_list;
+	}
+
+	public boolean getUnixDomainSocket()
+	{
+		return unix_domain_socket;
+	}
+
+	// Changing the transport gives a new endpoint to the instance.
+	public void setUnixDomainSocket( boolean unix )
+	{
+		if( unix == unix_domain_socket )
+			return;
+
+		unix_domain_socket = unix;
+		production_solver.close();
+		production_solver = makeProductionSolver();
+	}
+
+	public int getSamples()
+	{
+		return nb_samples;
+	}
+
+	public void setSamples( int samples )
+	{
+		nb_samples = samples;
+	}
+
+	public int getMinSamples()
+	{
+		return min_samples;
+	}
+
+	public void setMinSamples( int samples )
+	{
+		min_samples = samples;
+	}
+
+	public int getCacheSize()
+	{
+		return solution_cache.getCapacity();
+	}
+
+	public void setCacheSize( int size )
+	{
+		solution_cache.setCapacity( size );
+	}
+
+	public int getCacheTimeQuantum()
+	{
+		return solution_cache.getTimeQuantum();
+	}
+
+	public void setCacheTimeQuantum( int quantum )
+	{
+		solution_cache.setTimeQuantum( quantum );
+	}
+
+	public int getCacheResourceQuantum()
+	{
+		return solution_cache.getResourceQuantum();
+	}
+
+	public void setCacheResourceQuantum( int quantum )
+	{
+		solution_cache.setResourceQuantum( quantum );
+	}
+
+	public int getExplorationPeriod()
+	{
+		return exploration_period;
+	}
+
+	public void setExplorationPeriod( int period )
+	{
+		exploration_period = period;
+		if( exploration != null )
+			exploration.setPeriod( period );
+	}
+
+	// Number of production decisions taken from the cache, or solved, since the beginning of the game.
+	public int getCacheHits()
+	{
+		return solution_cache.getHits();
+	}
+
+	public int getCacheMisses()
+	{
+		return solution_cache.getMisses();
+	}
+
 	/*
 	 * Protected methods
 	 */
+	protected ProductionSolver makeProductionSolver()
+	{
+		if( solver_path == null )
+			return new JavaProductionSolver();
+		else if( solver_path.endsWith( ".so" ) || solver_path.endsWith( ".dylib" ) )
+			return new NativeProductionSolver( solver_path );
+		else
+			return new GhostProductionSolver( solver_path, unix_domain_socket );
+	}
+
 	protected boolean moveIfPathExists( Unit u, int x, int y )
 	{
 		int target = map_width * y + x;
@@ -1079,44 +1519,12 @@ public class MicroPhantom extends AbstractionLayerAI
 			if( gs instanceof PartiallyObservableGameState )
 			{
 				// there are no enemies, so we need to explore (find the least known place):
-				int min_x = 0;
-				int min_y = 0;
-				int heat_point = Integer.MAX_VALUE;
-				double tiebreak_distance = Double.MAX_VALUE;
-				
 				// Visit first the point closest to the mirror position of our base, if any
-				if( initial_base_position_x != -1 && heat_map[map_height - 1 - initial_base_position_y][map_width - 1 - initial_base_position_x] == -1 )
-				{
-					min_x = map_width - 1 - initial_base_position_x;
-					min_y = map_height - 1 - initial_base_position_y;
-				}
+				int mirror_base = map_width * ( map_height - 1 - initial_base_position_y ) + map_width - 1 - initial_base_position_x;
+				if( initial_base_position_x != -1 && heat_map[ mirror_base ] == -1 && !walls.get( mirror_base ) )
+					move( u, map_width - 1 - initial_base_position_x, map_height - 1 - initial_base_position_y );
 				else
-				{				
-					for( int y = 0 ; y < map_height ; ++y )
-						for( int x = 0 ; x < map_width ; ++x )
-						{
-							if( heat_map[y][x] < heat_point )
-							{
-								heat_point = heat_map[y][x];
-								min_x = x;
-								min_y = y;
-							}
-							else
-								if( heat_map[y][x] == heat_point )
-								{
-									// as a tiebreaker, take the point closest to the unit
-									double distance = euclidianDistance( u.getX(), u.getY(), x, y );
-									if( distance < tiebreak_distance && distance > 0 )
-									{
-										tiebreak_distance = distance;
-										min_x = x;
-										min_y = y;
-									}
-								}
-						}
-				}
-				
-				move( u, min_x, min_y );
+					exploration.requestExploration( u ); // the stalest point, planned with other units in exploreAll
 			}
 	}
 
@@ -1178,33 +1586,9 @@ public class MicroPhantom extends AbstractionLayerAI
 
 	protected void decideProduction()
 	{
-		try
-		{
-			if( serverSocketChannel == null || !serverSocketChannel.isOpen() )
-			{
-				serverSocketChannel = ServerSocketChannel.open();
-			}
-		}
-		catch( IOException e1 )
-		{
-			System.out.println( "IO socket building exception" );
-		}
-
-		try
-		{
-			//if( serverSocketChannel.getLocalAddress() == null )
-			serverSocketChannel.bind( new InetSocketAddress( inetAddress, port ) );
-		}
-		catch( AlreadyBoundException e ){ }
-		catch( IOException e )
-		{
-			System.out.println( "Socket binding exception" );
-		}
-
-		if( count_current_enemy.get( worker_type.ID ) != null )
-			observed_worker = count_current_enemy.get( worker_type.ID ).get();
-		else
-			observed_worker = 0;
+		// A request is already on its way: keep on following the current plan until its answer arrives.
+		if( pending_solution != null )
+			return;
 
 		if( count_current_enemy.get( heavy_type.ID ) != null )
 			observed_heavy = count_current_enemy.get( heavy_type.ID ).get();
@@ -1221,11 +1605,6 @@ public class MicroPhantom extends AbstractionLayerAI
 		else
 			observed_ranged =	0;
 
-		if( count_total_enemy.get( worker_type.ID ) != null )
-			observed_worker_in_total = count_total_enemy.get( worker_type.ID ).get();
-		else
-			observed_worker_in_total = 0;
-
 		if( count_total_enemy.get( heavy_type.ID ) != null )
 			observed_heavy_in_total = count_total_enemy.get( heavy_type.ID ).get();
 		else
@@ -1241,95 +1620,87 @@ public class MicroPhantom extends AbstractionLayerAI
 		else
 			observed_ranged_in_total =	0;
 
-		try
-		{
-			int no_initial_base_int = has_initial_base ? 0 : 1;
-			int no_initial_barracks_int = has_initial_barracks ? 0 : 1;
+		if( my_cost_loss + 2 * cheapest_type.cost <= enemy_cost_loss )
+			solver_type = 1;
+		else if( my_cost_loss >= enemy_cost_loss + 2 * cheapest_type.cost )
+			solver_type = 2;
+		else
+			solver_type = 0;
 
-			if( my_cost_loss + 2 * cheapest_type.cost <= enemy_cost_loss )
-				solver_type = 1;
-			else if( my_cost_loss >= enemy_cost_loss + 2 * cheapest_type.cost )
-				solver_type = 2;
-			else
-				solver_type = 0;
-
-			no_training = false;
-			Runtime r = Runtime.getRuntime();
-			Process process = r.exec( solver_path );
-			SocketChannel client = serverSocketChannel.accept();
-
-			GameStateBuffer gameState = GameStateBuffer.newBuilder()
-				.setTime( gs.getTime() )
-				.setNbBarracks( number_idle_barracks )
-				.setMinDistanceResourceBase( min_distance_resource_base )
-				.setMaxDistanceResourceBase( max_distance_resource_base )
-				.setNoInitialBase( no_initial_base_int )
-				.setNoInitialBarracks( no_initial_barracks_int )
-				.setResources( player.getResources() )
-				.setInitialResources( initial_resources )
-				.setEnemyResourcesLoss( enemy_cost_loss )
-				.setWorkerMoveTime( worker_type.moveTime )
-				.setWorkerHarvestTime( worker_type.harvestTime )
-				.setWorkerReturnTime( worker_type.returnTime )
-				.setHarvestAmount( worker_type.harvestAmount )
-				.setBaseCost( base_type.cost ) 
-				.setBarracksCost( barracks_type.cost )
-				.setHeavyCost( heavy_type.cost )
-				.setLightCost( light_type.cost )
-				.setRangedCost( ranged_type.cost )
-				.setMyHeavyUnits( my_heavy_units.size() )
-				.setMyLightUnits( my_light_units.size() )
-				.setMyRangedUnits( my_ranged_units.size() )
-				.setInitialEnemyWorker( initial_number_workers )
-				.setObservedEnemyWorker( observed_worker )
-				.setObservedEnemyHeavy( observed_heavy )
-				.setObservedEnemyLight( observed_light )
-				.setObservedEnemyRanged( observed_ranged )
-				.setObservedEnemyWorkerInTotal( observed_worker_in_total )
-				.setObservedEnemyHeavyInTotal( observed_heavy_in_total )
-				.setObservedEnemyLightInTotal( observed_light_in_total )
-				.setObservedEnemyRangedInTotal( observed_ranged_in_total )
-				.setSolverType( solver_type )
-				.setNbSamples( nb_samples )
-				.build();
-
-			// SEND
-			ByteBuffer byteBuffer = ByteBuffer.allocate( 1024 );
-			byteBuffer.put( gameState.toByteArray() );
-			byteBuffer.flip();
-			client.write( byteBuffer );
-
-			// RECEIVE
-			ByteBuffer buf = ByteBuffer.allocate( 1024 );
-			int numBytesRead = client.read( buf );
-
-			if( numBytesRead == -1 )
-			{
-				client.close();
-			}
-			
-			buf.flip();
-			
-			SolutionBuffer solution = SolutionBuffer.parseFrom( buf );
-			number_heavy_to_produce = solution.getNumberHeavy();
-			number_light_to_produce = solution.getNumberLight();
-			number_ranged_to_produce = solution.getNumberRanged();
+		no_training = false;
 
-			if( serverSocketChannel.isOpen() )
-				serverSocketChannel.close();
-		}
-		catch( IOException e1 )
+		// The balance of the fight has tipped since the last plan: switch to the plan computed for this
+		// solver type, rather than waiting for a new one.
+		if( speculative_production && last_solution != null && last_solution.getPlansCount() == 9 && solver_type != applied_solver_type )
 		{
-			System.out.println( "IO exception in process" );
+			applySolution( last_solution );
+			return;
 		}
-		catch( NumberFormatException e3 )
+
+		// In synchronous mode, the solver gets what is left of the frame once its overhead is
+		// taken off, so that a production decision never makes us miss the frame deadline.
+		// In asynchronous mode, getAction() does not wait for it anyway.
+		long time_budget = TimeUnit.MILLISECONDS.toNanos( solver_time );
+		if( !asynchronous_production )
+			time_budget = Math.min( time_budget, frame_deadline - System.nanoTime() - solver_overhead );
+
+		GameStateBuffer gameState = GameStateBuffer.newBuilder()
+			.setTime( gs.getTime() )
+			.setNbBarracks( number_idle_barracks )
+			.setResources( player.getResources() )
+			.setHeavyCost( heavy_type.cost )
+			.setLightCost( light_type.cost )
+			.setRangedCost( ranged_type.cost )
+			.setMyHeavyUnits( my_heavy_units.size() )
+			.setMyLightUnits( my_light_units.size() )
+			.setMyRangedUnits( my_ranged_units.size() )
+			.setObservedEnemyHeavy( observed_heavy )
+			.setObservedEnemyLight( observed_light )
+			.setObservedEnemyRanged( observed_ranged )
+			.setObservedEnemyHeavyInTotal( observed_heavy_in_total )
+			.setObservedEnemyLightInTotal( observed_light_in_total )
+			.setObservedEnemyRangedInTotal( observed_ranged_in_total )
+			.setEstimatedRemainingResources( enemy_economy.getEstimatedRemainingResources() )
+			.setSolverType( solver_type )
+			.setNbSamples( nb_samples )
+			.setMinSamples( min_samples )
+			.addAllPreviousAssignment( last_assignment )
+			.setTimeBudgetUs( (int)Math.max( 0, TimeUnit.NANOSECONDS.toMicros( time_budget ) ) )
+			.setAllSolverTypes( speculative_production ? 1 : 0 )
+			.setNumberThreads( solverThreads() )
+			.addAllCpus( solver_cpu_list )
+			.build();
+
+		// Same request as a previous one: no need to bother the solver.
+		SolutionBuffer cached_solution = solution_cache.get( gameState );
+		if( cached_solution != null )
 		{
-			no_training = true;
-			number_heavy_to_produce = 0;
-			number_light_to_produce = 0;
-			number_ranged_to_produce = 0;
-			System.out.println( "No train" );
+			applySolution( cached_solution );
+			return;
 		}
+
+		if( time_budget < TimeUnit.MILLISECONDS.toNanos( MIN_SOLVER_TIME ) )
+			return;
+
+		if( solver_executor == null )
+			solver_executor = Executors.newSingleThreadExecutor( runnable ->
+				{
+					Thread thread = new Thread( runnable, "microPhantom solver" );
+					thread.setDaemon( true );
+					return thread;
+				} );
+
+		pending_request = gameState;
+		final long requested_time = time_budget;
+		pending_solution = solver_executor.submit( () ->
+			{
+				long start = System.nanoTime();
+				SolutionBuffer solution = production_solver.solve( gameState );
+				last_round_trip = System.nanoTime() - start;
+				measureSolverOverhead( last_round_trip - requested_time );
+				return solution;
+			} );
+		collectSolution( true );
 	}
 	
 	protected void barracksBehavior( Unit u, AtomicInteger reserved_resources )
@@ -1509,7 +1880,7 @@ public class MicroPhantom extends AbstractionLayerAI
 
 			// Search for resource patches
 			if( closest_resource == null )
-				searchResources( u );
+				exploration.requestResourceSearch( u );
 			else
 			{
 				// Spot the closest base
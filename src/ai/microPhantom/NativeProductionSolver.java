@@ -0,0 +1,89 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+package ai.microPhantom;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+
+import com.google.protobuf.CodedOutputStream;
+
+import com.microphantom.protos.SolutionBuffer;
+import com.microphantom.protos.GameStateBuffer;
+
+/**
+ * Production solver running GHOST inside the JVM, through the JNI library
+ * built by 'make jni' in problem_model (see jni_solver.cpp).
+ * No process nor socket is involved: the solver runs on the calling thread.
+ */
+public class NativeProductionSolver implements ProductionSolver
+{
+	ByteBuffer request_buffer;
+	ByteBuffer reply_buffer;
+
+	public NativeProductionSolver( String library_path )
+	{
+		// Loading the same library several times is harmless: the JVM only loads it once.
+		System.load( Paths.get( library_path ).toAbsolutePath().toString() );
+		request_buffer = ByteBuffer.allocateDirect( 1024 );
+		reply_buffer = ByteBuffer.allocateDirect( 1024 );
+	}
+
+	// Solve the game state serialized in the request_size first bytes of request, write the
+	// serialized solution at the beginning of reply and return its size.
+	// If reply is too small, return minus the size of the solution, kept for fetchReplyNative.
+	private static native int solveNative( ByteBuffer request, int request_size, ByteBuffer reply ) throws IOException;
+
+	// Write the solution kept by the last call to solveNative at the beginning of reply and return its size.
+	private static native int fetchReplyNative( ByteBuffer reply ) throws IOException;
+
+	@Override
+	public SolutionBuffer solve( GameStateBuffer game_state ) throws IOException
+	{
+		int size = game_state.getSerializedSize();
+		if( request_buffer.capacity() < size )
+			request_buffer = ByteBuffer.allocateDirect( size );
+
+		request_buffer.clear();
+		CodedOutputStream output = CodedOutputStream.newInstance( request_buffer );
+		game_state.writeTo( output );
+		output.flush();
+
+		int reply_size = solveNative( request_buffer, size, reply_buffer );
+		if( reply_size < 0 )
+		{
+			reply_buffer = ByteBuffer.allocateDirect( -reply_size );
+			reply_size = fetchReplyNative( reply_buffer );
+		}
+
+		reply_buffer.clear();
+		reply_buffer.limit( reply_size );
+		return SolutionBuffer.parseFrom( reply_buffer );
+	}
+
+	@Override
+	public void close()
+	{
+	}
+}
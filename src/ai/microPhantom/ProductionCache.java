@@ -0,0 +1,163 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+package ai.microPhantom;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.microphantom.protos.SolutionBuffer;
+import com.microphantom.protos.GameStateBuffer;
+
+/**
+ * Bounded LRU cache of production solutions within a game.
+ *
+ * Solutions are keyed on the game state sent to the solver. The time and the estimation of
+ * the enemy resources are rounded down to a multiple of time_quantum and resource_quantum:
+ * quanta of 1, the default, only reuse solutions of identical requests, larger ones trade
+ * the freshness of solutions for more hits.
+ */
+public class ProductionCache
+{
+	int capacity; // 0 disables the cache
+	int time_quantum;
+	int resource_quantum;
+	int hits;
+	int misses;
+	LinkedHashMap<GameStateBuffer, SolutionBuffer> solutions;
+
+	public ProductionCache( int capacity, int time_quantum, int resource_quantum )
+	{
+		this.capacity = capacity;
+		this.time_quantum = time_quantum;
+		this.resource_quantum = resource_quantum;
+		solutions = new LinkedHashMap<GameStateBuffer, SolutionBuffer>( 16, 0.75f, true )
+			{
+				@Override
+				protected boolean removeEldestEntry( Map.Entry<GameStateBuffer, SolutionBuffer> eldest )
+				{
+					return size() > ProductionCache.this.capacity;
+				}
+			};
+	}
+
+	// Canonical projection of a request: protobuf messages compare by value.
+	// The previous assignment, the time budget, the number of search threads and their CPUs
+	// are only about how to search, not about the problem.
+	// A solution with plans for all solver types answers the request of any solver type.
+	private GameStateBuffer key( GameStateBuffer game_state )
+	{
+		GameStateBuffer.Builder key = game_state.toBuilder()
+			.setTime( quantize( game_state.getTime(), time_quantum ) )
+			.setEstimatedRemainingResources( quantize( game_state.getEstimatedRemainingResources(), resource_quantum ) )
+			.clearPreviousAssignment()
+			.clearTimeBudgetUs()
+			.clearNumberThreads()
+			.clearCpus();
+		if( game_state.getAllSolverTypes() != 0 )
+			key.clearSolverType();
+
+		return key.build();
+	}
+
+	private static int quantize( int value, int quantum )
+	{
+		return value / Math.max( 1, quantum ) * Math.max( 1, quantum );
+	}
+
+	// Return the solution cached for this request, or null.
+	public SolutionBuffer get( GameStateBuffer game_state )
+	{
+		if( capacity <= 0 )
+			return null;
+
+		SolutionBuffer solution = solutions.get( key( game_state ) );
+		if( solution != null )
+			++hits;
+		else
+			++misses;
+
+		return solution;
+	}
+
+	public void put( GameStateBuffer game_state, SolutionBuffer solution )
+	{
+		if( capacity > 0 )
+			solutions.put( key( game_state ), solution );
+	}
+
+	// Forget solutions and counters, at the beginning of a new game.
+	public void clear()
+	{
+		solutions.clear();
+		hits = 0;
+		misses = 0;
+	}
+
+	public int getHits()
+	{
+		return hits;
+	}
+
+	public int getMisses()
+	{
+		return misses;
+	}
+
+	public int getCapacity()
+	{
+		return capacity;
+	}
+
+	public void setCapacity( int capacity )
+	{
+		this.capacity = capacity;
+		if( capacity <= 0 )
+			solutions.clear();
+		else
+			while( solutions.size() > capacity )
+				solutions.remove( solutions.keySet().iterator().next() );
+	}
+
+	public int getTimeQuantum()
+	{
+		return time_quantum;
+	}
+
+	public void setTimeQuantum( int time_quantum )
+	{
+		this.time_quantum = time_quantum;
+		solutions.clear();
+	}
+
+	public int getResourceQuantum()
+	{
+		return resource_quantum;
+	}
+
+	public void setResourceQuantum( int resource_quantum )
+	{
+		this.resource_quantum = resource_quantum;
+		solutions.clear();
+	}
+}
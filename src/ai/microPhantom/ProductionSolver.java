@@ -0,0 +1,44 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+package ai.microPhantom;
+
+import java.io.IOException;
+
+import com.microphantom.protos.SolutionBuffer;
+import com.microphantom.protos.GameStateBuffer;
+
+/**
+ * Solves the production problem: given what we know about the game, how many heavy,
+ * light and ranged units should our barracks train.
+ *
+ * solve() is called from the solver thread of MicroPhantom, one request at a time.
+ */
+public interface ProductionSolver
+{
+	SolutionBuffer solve( GameStateBuffer game_state ) throws IOException;
+
+	// Release the resources held by the solver, if any. The solver can still be used
+	// afterwards: resources are acquired again at the next call of solve().
+	void close();
+}
@@ -0,0 +1,134 @@
+/*
+ * microPhantom is an AI bot playing microRTS.
+ * It uses GHOST, a Constraint Programming toolkit, to design and solve combinatorial problems for
+ * all decision-making behaviors. Please visit https://github.com/richoux/microPhantom for further information.
+ *
+ * Copyright (C) 2020 Florian Richoux
+ *
+ * This file is part of microPhantom.
+ * microPhantom is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+
+ * microPhantom is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+
+ * You should have received a copy of the GNU General Public License
+ * along with microPhantom. If not, see http://www.gnu.org/licenses/.
+ */
+
+
+
+package ai.microPhantom;
+
+import java.util.Arrays;
+
+import com.microphantom.protos.SolutionBuffer;
+
+/**
+ * Latency and quality of the production solutions received during a game,
+ * summed up in statisticsString().
+ */
+public class SolverStatistics
+{
+	// Upper bounds of latency buckets, in ms. The last bucket has no upper bound.
+	static final int[] LATENCY_BOUNDS = { 1, 2, 5, 10, 20, 50, 100 };
+	// Upper bounds of objective value buckets. Solutions not satisfying constraints are counted apart.
+	static final double[] COST_BOUNDS = { 0., 0.5, 1., 1.5, 2., 2.5 };
+
+	int requests;
+	int unsatisfied;
+	long total_round_trip; // in us
+	long total_solve_time; // in us
+	long total_iterations;
+	double total_cost; // of satisfying solutions
+	int[] latencies;
+	int[] costs;
+
+	public SolverStatistics()
+	{
+		latencies = new int[ LATENCY_BOUNDS.length + 1 ];
+		costs = new int[ COST_BOUNDS.length + 1 ];
+	}
+
+	// Count a solution coming from the solver, round_trip being the time between the request and the solution in us.
+	public void record( SolutionBuffer solution, long round_trip )
+	{
+		++requests;
+		total_round_trip += round_trip;
+		total_solve_time += solution.getSolveTimeUs();
+		total_iterations += solution.getSearchIterations();
+
+		int bucket = 0;
+		while( bucket < LATENCY_BOUNDS.length && round_trip >= 1000L * LATENCY_BOUNDS[ bucket ] )
+			++bucket;
+		++latencies[ bucket ];
+
+		if( solution.getSatisfied() == 0 )
+		{
+			++unsatisfied;
+			return;
+		}
+
+		total_cost += solution.getCost();
+		bucket = 0;
+		while( bucket < COST_BOUNDS.length && solution.getCost() >= COST_BOUNDS[ bucket ] )
+			++bucket;
+		++costs[ bucket ];
+	}
+
+	// Forget everything, at the beginning of a new game.
+	public void clear()
+	{
+		requests = 0;
+		unsatisfied = 0;
+		total_round_trip = 0;
+		total_solve_time = 0;
+		total_iterations = 0;
+		total_cost = 0.;
+		Arrays.fill( latencies, 0 );
+		Arrays.fill( costs, 0 );
+	}
+
+	public int getRequests()
+	{
+		return requests;
+	}
+
+	public int getUnsatisfied()
+	{
+		return unsatisfied;
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder text = new StringBuilder( "Production solver: " + requests + " requests, " + unsatisfied + " without satisfying solution" );
+		if( requests == 0 )
+			return text.toString();
+
+		text.append( String.format( "%nMean round trip: %.2f ms (solver: %.2f ms), mean search iterations: %d",
+		                            total_round_trip / 1000.0 / requests,
+		                            total_solve_time / 1000.0 / requests,
+		                            total_iterations / requests ) );
+
+		text.append( System.lineSeparator() ).append( "Round trips (ms):" );
+		for( int bucket = 0 ; bucket < latencies.length ; ++bucket )
+			text.append( bucket < LATENCY_BOUNDS.length ? " <" + LATENCY_BOUNDS[ bucket ] : " >=" + LATENCY_BOUNDS[ bucket - 1 ] )
+				.append( ": " ).append( latencies[ bucket ] );
+
+		if( requests > unsatisfied )
+		{
+			text.append( String.format( "%nMean objective value: %.3f", total_cost / ( requests - unsatisfied ) ) );
+			text.append( System.lineSeparator() ).append( "Objective values:" );
+			for( int bucket = 0 ; bucket < costs.length ; ++bucket )
+				text.append( bucket < COST_BOUNDS.length ? " <" + COST_BOUNDS[ bucket ] : " >=" + COST_BOUNDS[ bucket - 1 ] )
+					.append( ": " ).append( costs[ bucket ] );
+		}
+
+		return text.toString();
+	}
+}